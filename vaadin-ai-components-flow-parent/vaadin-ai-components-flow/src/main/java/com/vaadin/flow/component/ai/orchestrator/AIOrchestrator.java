@@ -55,6 +55,9 @@ import com.vaadin.flow.component.upload.UploadHelper;
 import com.vaadin.flow.component.upload.UploadManager;
 import com.vaadin.flow.server.streams.UploadHandler;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 /**
  * Orchestrator for AI-powered chat interfaces.
  * <p>
@@ -174,6 +177,8 @@ public class AIOrchestrator implements Serializable {
     private AttachmentSubmitListener attachmentSubmitListener;
     private AttachmentClickListener attachmentClickListener;
     private ResponseCompleteListener responseCompleteListener;
+    private Duration streamingUpdateWindow;
+    private int streamingUpdateMaxTokens;
     private final Map<AIMessage, String> itemToMessageId = new HashMap<>();
     private final List<ChatMessage> conversationHistory = new CopyOnWriteArrayList<>();
 
@@ -343,13 +348,19 @@ public class AIOrchestrator implements Serializable {
     private void streamResponseToMessage(LLMProvider.LLMRequest request,
             AIMessage assistantMessage, UI ui) {
         var responseBuilder = new StringBuilder();
+        var updateMessage = assistantMessage != null && messageList != null;
+        var coalesce = updateMessage && streamingUpdateWindow != null;
         var responseStream = provider.stream(request)
-                .timeout(Duration.ofSeconds(TIMEOUT_SECONDS));
+                .timeout(Duration.ofSeconds(TIMEOUT_SECONDS))
+                .doOnNext(responseBuilder::append);
+        if (coalesce) {
+            responseStream = coalesceTokens(responseStream, assistantMessage,
+                    ui);
+        }
         responseStream.doFinally(signal -> {
             isProcessing.set(false);
         }).subscribe(token -> {
-            responseBuilder.append(token);
-            if (assistantMessage != null && messageList != null) {
+            if (updateMessage && !coalesce) {
                 ui.access(() -> assistantMessage.appendText(token));
             }
         }, error -> {
@@ -377,6 +388,36 @@ public class AIOrchestrator implements Serializable {
         });
     }
 
+    /**
+     * Merges the tokens emitted within the configured time window into one
+     * message update. The next update is not started before the previous one
+     * has been run by the UI, so tokens keep accumulating while the UI is
+     * busy, and the upstream is paused once a chunk is full.
+     */
+    private Flux<String> coalesceTokens(Flux<String> tokens,
+            AIMessage assistantMessage, UI ui) {
+        return tokens
+                .bufferTimeout(streamingUpdateMaxTokens, streamingUpdateWindow,
+                        true)
+                .map(chunk -> String.join("", chunk))
+                .concatMap(text -> appendText(assistantMessage, text, ui), 1);
+    }
+
+    /**
+     * Appends the text to the message in the UI, completing once the UI has
+     * run the update.
+     */
+    private static Mono<String> appendText(AIMessage assistantMessage,
+            String text, UI ui) {
+        return Mono.create(sink -> ui.access(() -> {
+            try {
+                assistantMessage.appendText(text);
+            } finally {
+                sink.success(text);
+            }
+        }));
+    }
+
     private void doPrompt(String userMessage) {
         if (userMessage == null || userMessage.isBlank()) {
             return;
@@ -697,6 +738,8 @@ public class AIOrchestrator implements Serializable {
         private AttachmentSubmitListener attachmentSubmitListener;
         private AttachmentClickListener attachmentClickListener;
         private ResponseCompleteListener responseCompleteListener;
+        private Duration streamingUpdateWindow;
+        private int streamingUpdateMaxTokens;
         private List<ChatMessage> history;
         private Map<String, List<AIAttachment>> historyAttachments;
 
@@ -983,6 +1026,42 @@ public class AIOrchestrator implements Serializable {
             return this;
         }
 
+        /**
+         * Enables coalescing of streamed response tokens. By default, each
+         * token received from the LLM provider is appended to the assistant
+         * message in a separate UI access. With coalescing, the tokens
+         * received within the given time window, up to the given number of
+         * tokens, are appended at once. A new update is only started after the
+         * previous one has been run by the UI, so that a slow UI slows down
+         * consuming the response instead of queuing up updates.
+         * <p>
+         * Coalescing reduces the session lock contention and the number of
+         * pushes when streaming long responses, at the cost of delivering the
+         * text in larger chunks.
+         *
+         * @param window
+         *            the maximum time to collect tokens before updating the
+         *            message, not {@code null} and positive
+         * @param maxTokens
+         *            the maximum number of tokens per update, at least 1
+         * @return this builder
+         */
+        public Builder withStreamingCoalescing(Duration window,
+                int maxTokens) {
+            Objects.requireNonNull(window, "Window must not be null");
+            if (window.isNegative() || window.isZero()) {
+                throw new IllegalArgumentException(
+                        "Window must be a positive duration.");
+            }
+            if (maxTokens < 1) {
+                throw new IllegalArgumentException(
+                        "Max tokens must be at least 1.");
+            }
+            this.streamingUpdateWindow = window;
+            this.streamingUpdateMaxTokens = maxTokens;
+            return this;
+        }
+
         /**
          * Sets the conversation history and associated attachments to restore
          * when the orchestrator is built. This restores the LLM provider's
@@ -1033,6 +1112,8 @@ public class AIOrchestrator implements Serializable {
             orchestrator.attachmentSubmitListener = attachmentSubmitListener;
             orchestrator.attachmentClickListener = attachmentClickListener;
             orchestrator.responseCompleteListener = responseCompleteListener;
+            orchestrator.streamingUpdateWindow = streamingUpdateWindow;
+            orchestrator.streamingUpdateMaxTokens = streamingUpdateMaxTokens;
             try {
                 if (input != null) {
                     input.addSubmitListener(orchestrator::doPrompt);
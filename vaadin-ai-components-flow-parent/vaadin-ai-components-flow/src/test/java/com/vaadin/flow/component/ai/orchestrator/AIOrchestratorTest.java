@@ -22,6 +22,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Base64;
@@ -707,6 +708,45 @@ class AIOrchestratorTest {
                 .appendText(Mockito.anyString());
     }
 
+    @Test
+    void prompt_withStreamingCoalescing_appendsTokensInOneUpdate()
+            throws Exception {
+        var mockMessage = createMockMessage();
+        var latch = new CountDownLatch(1);
+        Mockito.doAnswer(inv -> {
+            latch.countDown();
+            return null;
+        }).when(mockMessage).appendText(Mockito.anyString());
+        Mockito.when(mockMessageList.addMessage(Mockito.anyString(),
+                Mockito.anyString(), Mockito.anyList()))
+                .thenReturn(mockMessage);
+        Mockito.when(
+                mockProvider.stream(Mockito.any(LLMProvider.LLMRequest.class)))
+                .thenReturn(Flux.just("Token1", "Token2", "Token3", "Token4"));
+
+        var orchestrator = AIOrchestrator.builder(mockProvider, null)
+                .withMessageList(mockMessageList)
+                .withFileReceiver(mockFileReceiver).withInput(mockInput)
+                .withStreamingCoalescing(Duration.ofSeconds(10), 100).build();
+        orchestrator.prompt("Hello");
+
+        Assertions.assertTrue(latch.await(2, TimeUnit.SECONDS),
+                "Tokens should be appended within timeout");
+        Mockito.verify(mockMessage).appendText("Token1Token2Token3Token4");
+        Mockito.verify(mockMessage, Mockito.times(1))
+                .appendText(Mockito.anyString());
+    }
+
+    @Test
+    void builder_withStreamingCoalescing_invalidArguments_throw() {
+        var builder = AIOrchestrator.builder(mockProvider, null);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> builder.withStreamingCoalescing(Duration.ZERO, 10));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> builder.withStreamingCoalescing(Duration.ofMillis(50),
+                        0));
+    }
+
     @Test
     void prompt_requestContainsCorrectTools() {
         var mockMessage = createMockMessage();
@@ -2009,7 +2049,7 @@ class AIOrchestratorTest {
         Set<String> nonResourceSetters = Set.of("withTools", "withUserName",
                 "withAssistantName", "withAttachmentSubmitListener",
                 "withAttachmentClickListener", "withResponseCompleteListener",
-                "withHistory");
+                "withHistory", "withStreamingCoalescing");
 
         // Provider is set via the factory method, not a with-method.
         assertClaimed(null, LLMProvider.class);
@@ -55,12 +55,13 @@ import com.vaadin.flow.component.charts.events.SeriesMouseOverEvent;
 import com.vaadin.flow.component.charts.events.SeriesShowEvent;
 import com.vaadin.flow.component.charts.events.XAxesExtremesSetEvent;
 import com.vaadin.flow.component.charts.events.YAxesExtremesSetEvent;
-import com.vaadin.flow.component.charts.events.internal.ConfigurationChangeListener;
 import com.vaadin.flow.component.charts.model.AbstractConfigurationObject;
+import com.vaadin.flow.component.charts.model.AbstractSeries;
 import com.vaadin.flow.component.charts.model.ChartType;
 import com.vaadin.flow.component.charts.model.Configuration;
 import com.vaadin.flow.component.charts.model.DataSeries;
 import com.vaadin.flow.component.charts.model.DataSeriesItem;
+import com.vaadin.flow.component.charts.model.DownsampledSeries;
 import com.vaadin.flow.component.charts.model.DrilldownCallback;
 import com.vaadin.flow.component.charts.model.DrilldownCallback.DrilldownDetails;
 import com.vaadin.flow.component.charts.model.PlotOptionsTimeline;
@@ -68,7 +69,6 @@ import com.vaadin.flow.component.charts.model.Series;
 import com.vaadin.flow.component.charts.util.ChartSerialization;
 import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
-import com.vaadin.flow.internal.JacksonUtils;
 import com.vaadin.flow.internal.UsageStatistics;
 import com.vaadin.flow.shared.Registration;
 
@@ -97,7 +97,7 @@ public class Chart extends Component implements HasStyle, HasSize, HasTheme {
 
     private Registration configurationUpdateRegistration;
 
-    private final ConfigurationChangeListener changeListener = new ProxyChangeForwarder(
+    private final ProxyChangeForwarder changeListener = new ProxyChangeForwarder(
             this);
 
     private final static List<ChartType> TIMELINE_NOT_SUPPORTED = Arrays.asList(
@@ -109,6 +109,8 @@ public class Chart extends Component implements HasStyle, HasSize, HasTheme {
 
     private DrilldownCallback drilldownCallback;
 
+    private Registration downsamplingRegistration;
+
     /**
      * Creates a new chart with default configuration
      */
@@ -146,6 +148,7 @@ public class Chart extends Component implements HasStyle, HasSize, HasTheme {
                     if (configuration != null) {
                         // Start listening to data series events once the chart
                         // has been drawn.
+                        changeListener.setUI(context.getUI());
                         configuration.addChangeListener(changeListener);
                     }
                     configurationUpdateRegistration = null;
@@ -193,9 +196,13 @@ public class Chart extends Component implements HasStyle, HasSize, HasTheme {
     public void drawChart(boolean resetConfiguration) {
         validateTimelineAndConfiguration();
 
-        final ObjectNode configurationNode = JacksonUtils
-                .readTree(ChartSerialization.toJSON(configuration));
+        final ObjectNode configurationNode = (ObjectNode) ChartSerialization
+                .toJsonNode(configuration);
+
+        updateDownsamplingListener();
 
+        // Buffered point changes are included in the configuration
+        changeListener.discardPointChanges();
         getElement().callJsFunction("updateConfiguration", configurationNode,
                 resetConfiguration);
     }
@@ -291,6 +298,45 @@ public class Chart extends Component implements HasStyle, HasSize, HasTheme {
         }
     }
 
+    /**
+     * Starts listening to X axis extremes changes if any of the series is
+     * downsampled, or stops listening if none of them is anymore.
+     */
+    void updateDownsamplingListener() {
+        boolean hasDownsampling = configuration.getSeries().stream()
+                .anyMatch(series -> series instanceof DownsampledSeries ds
+                        && ds.getDownsampler() != null);
+        if (hasDownsampling && downsamplingRegistration == null) {
+            downsamplingRegistration = addXAxesExtremesSetListener(
+                    this::updateDownsampledRange);
+        } else if (!hasDownsampling && downsamplingRegistration != null) {
+            downsamplingRegistration.remove();
+            downsamplingRegistration = null;
+        }
+    }
+
+    private void updateDownsampledRange(XAxesExtremesSetEvent event) {
+        Double min = Double.isNaN(event.getMinimum()) ? null
+                : event.getMinimum();
+        Double max = Double.isNaN(event.getMaximum()) ? null
+                : event.getMaximum();
+        for (Series series : configuration.getSeries()) {
+            if (series instanceof DownsampledSeries downsampled
+                    && downsampled.getDownsampler() != null
+                    && getXAxisIndex(series) == event.getAxisIndex()) {
+                downsampled.setXRange(min, max);
+            }
+        }
+    }
+
+    private static int getXAxisIndex(Series series) {
+        if (series instanceof AbstractSeries abstractSeries
+                && abstractSeries.getxAxis() != null) {
+            return abstractSeries.getxAxis();
+        }
+        return 0;
+    }
+
     /**
      * Adds a chart add series listener, which will be notified after a new
      * series is added to the chart
@@ -739,7 +785,7 @@ public class Chart extends Component implements HasStyle, HasSize, HasTheme {
         }
 
         private ObjectNode toJsonValue(AbstractConfigurationObject series) {
-            return JacksonUtils.readTree((ChartSerialization.toJSON(series)));
+            return (ObjectNode) ChartSerialization.toJsonNode(series);
         }
 
         private Series resolveSeriesFor(int seriesIndex) {
@@ -17,7 +17,6 @@ import com.vaadin.flow.component.charts.model.AbstractConfigurationObject;
 import com.vaadin.flow.component.charts.model.Lang;
 import com.vaadin.flow.component.charts.model.style.Theme;
 import com.vaadin.flow.component.charts.util.ChartSerialization;
-import com.vaadin.flow.internal.JacksonUtils;
 
 import tools.jackson.databind.node.ObjectNode;
 
@@ -44,8 +43,8 @@ public class ChartOptions extends AbstractConfigurationObject {
             return;
         }
 
-        final ObjectNode configurationNode = JacksonUtils
-                .readTree(ChartSerialization.toJSON(this));
+        final ObjectNode configurationNode = (ObjectNode) ChartSerialization
+                .toJsonNode(this);
         ui.getElement().executeJs(
                 "customElements.get('vaadin-chart').__callHighchartsFunction('setOptions',$0,$1)",
                 true, configurationNode);
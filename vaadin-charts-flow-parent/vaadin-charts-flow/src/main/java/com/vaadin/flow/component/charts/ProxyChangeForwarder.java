@@ -8,6 +8,13 @@
  */
 package com.vaadin.flow.component.charts;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.charts.events.internal.AbstractSeriesEvent;
 import com.vaadin.flow.component.charts.events.internal.AxisRescaledEvent;
 import com.vaadin.flow.component.charts.events.internal.ConfigurationChangeListener;
@@ -20,50 +27,90 @@ import com.vaadin.flow.component.charts.events.internal.SeriesChangedEvent;
 import com.vaadin.flow.component.charts.events.internal.SeriesStateEvent;
 import com.vaadin.flow.component.charts.model.AbstractConfigurationObject;
 import com.vaadin.flow.component.charts.model.AxisDimension;
+import com.vaadin.flow.component.charts.model.Series;
 import com.vaadin.flow.component.charts.util.ChartSerialization;
 import com.vaadin.flow.internal.JacksonUtils;
 
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+
+/**
+ * Forwards configuration changes to the client side chart.
+ * <p>
+ * Point additions, updates and removals are buffered and sent once per
+ * round-trip as a single batched call that redraws the chart only once. Other
+ * changes flush the buffer first, so the client receives all changes in the
+ * order they were made.
+ */
 class ProxyChangeForwarder implements ConfigurationChangeListener {
 
+    private static final String APPLY_POINT_CHANGES = """
+            for (const [fn, series, point, arg] of $0) {
+              if (fn === 'addPoint') {
+                this.__callSeriesFunction(fn, series, point, false, arg);
+              } else if (fn === 'update') {
+                this.__callPointFunction(fn, series, point, arg, false);
+              } else {
+                this.__callPointFunction(fn, series, point, false);
+              }
+            }
+            this.__callChartFunction('redraw');""";
+
+    private record PointChange(String function, int seriesIndex, Object point,
+            Object argument) {
+    }
+
     private final Chart chart;
 
+    private UI ui;
+    private transient List<PointChange> pendingChanges;
+    private transient Map<Long, Integer> pendingUpdateIndexes;
+    private transient boolean flushScheduled;
+
+    private transient Map<Series, Integer> seriesIndexes;
+
     ProxyChangeForwarder(Chart chart) {
         this.chart = chart;
     }
 
+    /**
+     * Sets the UI used for scheduling the flush of buffered point changes.
+     * Without a UI, point changes are sent to the client immediately.
+     *
+     * @param ui
+     *            the UI the chart is attached to, or {@code null}
+     */
+    void setUI(UI ui) {
+        this.ui = ui;
+    }
+
     @Override
     public void dataAdded(DataAddedEvent event) {
         if (event.getItem() != null) {
-            chart.getElement().callJsFunction("__callSeriesFunction",
-                    "addPoint", getSeriesIndex(event),
-                    JacksonUtils.getMapper().readTree(
-                            ChartSerialization.toJSON(event.getItem())),
-                    true, event.isShift());
+            addPointChange(new PointChange("addPoint", getSeriesIndex(event),
+                    ChartSerialization.toJsonNode(event.getItem()),
+                    event.isShift()));
         }
     }
 
     @Override
     public void dataRemoved(DataRemovedEvent event) {
-        chart.getElement().callJsFunction("__callPointFunction", "remove",
-                getSeriesIndex(event), event.getIndex());
+        addPointChange(new PointChange("remove", getSeriesIndex(event),
+                event.getIndex(), null));
     }
 
     @Override
     public void dataUpdated(DataUpdatedEvent event) {
-        if (event.getValue() != null) {
-            chart.getElement().callJsFunction("__callPointFunction", "update",
-                    getSeriesIndex(event), event.getPointIndex(),
-                    event.getValue().doubleValue());
-        } else {
-            chart.getElement().callJsFunction("__callPointFunction", "update",
-                    getSeriesIndex(event), event.getPointIndex(),
-                    JacksonUtils.getMapper().readTree(
-                            ChartSerialization.toJSON(event.getItem())));
-        }
+        Object value = event.getValue() != null
+                ? (Object) event.getValue().doubleValue()
+                : ChartSerialization.toJsonNode(event.getItem());
+        addPointChange(new PointChange("update", getSeriesIndex(event),
+                event.getPointIndex(), value));
     }
 
     @Override
     public void seriesStateChanged(SeriesStateEvent event) {
+        flushPointChanges();
         if (event.isEnabled()) {
             chart.getElement().callJsFunction("__callSeriesFunction", "show",
                     getSeriesIndex(event));
@@ -75,6 +122,7 @@ class ProxyChangeForwarder implements ConfigurationChangeListener {
 
     @Override
     public void axisRescaled(AxisRescaledEvent event) {
+        flushPointChanges();
         chart.getElement().callJsFunction("__callAxisFunction", "setExtremes",
                 event.getAxis(), event.getAxisIndex(),
                 event.getMinimum() == null ? null
@@ -86,6 +134,7 @@ class ProxyChangeForwarder implements ConfigurationChangeListener {
 
     @Override
     public void itemSliced(ItemSlicedEvent event) {
+        flushPointChanges();
         chart.getElement().callJsFunction("__callPointFunction", "slice",
                 getSeriesIndex(event), event.getIndex(), event.isSliced(),
                 event.isRedraw(), event.isAnimation());
@@ -93,21 +142,26 @@ class ProxyChangeForwarder implements ConfigurationChangeListener {
 
     @Override
     public void seriesAdded(SeriesAddedEvent event) {
+        flushPointChanges();
         chart.getElement().callJsFunction("__callChartFunction", "addSeries",
-                JacksonUtils.readTree(ChartSerialization.toJSON(
-                        (AbstractConfigurationObject) event.getSeries())));
+                ChartSerialization.toJsonNode(
+                        (AbstractConfigurationObject) event.getSeries()));
+        chart.updateDownsamplingListener();
     }
 
     @Override
     public void seriesChanged(SeriesChangedEvent event) {
+        flushPointChanges();
         chart.getElement().callJsFunction("__callSeriesFunction", "update",
                 getSeriesIndex(event),
-                JacksonUtils.readTree(ChartSerialization.toJSON(
-                        (AbstractConfigurationObject) event.getSeries())));
+                ChartSerialization.toJsonNode(
+                        (AbstractConfigurationObject) event.getSeries()));
+        chart.updateDownsamplingListener();
     }
 
     @Override
     public void resetZoom(boolean redraw, boolean animate) {
+        flushPointChanges();
         for (int i = 0; i < chart.getConfiguration().getNumberOfxAxes(); i++) {
             chart.getElement().callJsFunction("__callAxisFunction",
                     "setExtremes", AxisDimension.X_AXIS.getIndex(), i, null,
@@ -120,8 +174,125 @@ class ProxyChangeForwarder implements ConfigurationChangeListener {
         }
     }
 
+    /**
+     * Sends the buffered point changes to the client.
+     */
+    void flushPointChanges() {
+        if (pendingChanges == null || pendingChanges.isEmpty()) {
+            return;
+        }
+        List<PointChange> changes = pendingChanges;
+        pendingChanges = null;
+        pendingUpdateIndexes = null;
+        if (changes.size() == 1) {
+            callPointChange(changes.get(0));
+            return;
+        }
+        ArrayNode batch = JacksonUtils.createArrayNode();
+        for (PointChange change : changes) {
+            ArrayNode entry = batch.addArray();
+            entry.add(change.function());
+            entry.add(change.seriesIndex());
+            addValue(entry, change.point());
+            addValue(entry, change.argument());
+        }
+        chart.getElement().executeJs(APPLY_POINT_CHANGES, batch);
+    }
+
+    /**
+     * Discards the buffered point changes, e.g. when the whole configuration
+     * is sent to the client.
+     */
+    void discardPointChanges() {
+        pendingChanges = null;
+        pendingUpdateIndexes = null;
+    }
+
+    private void addPointChange(PointChange change) {
+        if (ui == null) {
+            callPointChange(change);
+            return;
+        }
+        if (pendingChanges == null) {
+            pendingChanges = new ArrayList<>();
+            pendingUpdateIndexes = new HashMap<>();
+        }
+        if ("update".equals(change.function())) {
+            // Only the last update of a point within a round-trip matters
+            long key = ((long) change.seriesIndex() << 32)
+                    | ((Integer) change.point() & 0xFFFFFFFFL);
+            Integer previous = pendingUpdateIndexes.get(key);
+            if (previous != null && (change.argument() instanceof JsonNode
+                    || pendingChanges.get(previous)
+                            .argument() instanceof Double)) {
+                pendingChanges.set(previous, change);
+                return;
+            }
+            pendingUpdateIndexes.put(key, pendingChanges.size());
+        } else {
+            // Point indexes shift after additions and removals
+            pendingUpdateIndexes.clear();
+        }
+        pendingChanges.add(change);
+        if (!flushScheduled) {
+            flushScheduled = true;
+            ui.beforeClientResponse(chart, context -> {
+                flushScheduled = false;
+                flushPointChanges();
+            });
+        }
+    }
+
+    private void callPointChange(PointChange change) {
+        switch (change.function()) {
+        case "addPoint" -> chart.getElement().callJsFunction(
+                "__callSeriesFunction", "addPoint", change.seriesIndex(),
+                (JsonNode) change.point(), true, (Boolean) change.argument());
+        case "update" -> {
+            if (change.argument() instanceof Double value) {
+                chart.getElement().callJsFunction("__callPointFunction",
+                        "update", change.seriesIndex(), change.point(), value);
+            } else {
+                chart.getElement().callJsFunction("__callPointFunction",
+                        "update", change.seriesIndex(), change.point(),
+                        (JsonNode) change.argument());
+            }
+        }
+        default -> chart.getElement().callJsFunction("__callPointFunction",
+                "remove", change.seriesIndex(), change.point());
+        }
+    }
+
+    private static void addValue(ArrayNode array, Object value) {
+        if (value instanceof JsonNode node) {
+            array.add(node);
+        } else if (value instanceof Integer number) {
+            array.add(number.intValue());
+        } else if (value instanceof Double number) {
+            array.add(number.doubleValue());
+        } else if (value instanceof Boolean bool) {
+            array.add(bool.booleanValue());
+        } else {
+            array.addNull();
+        }
+    }
+
     private int getSeriesIndex(AbstractSeriesEvent event) {
-        return chart.getConfiguration().getSeries().indexOf(event.getSeries());
+        List<Series> series = chart.getConfiguration().getSeries();
+        Series target = event.getSeries();
+        if (seriesIndexes != null) {
+            Integer index = seriesIndexes.get(target);
+            if (index != null && index < series.size()
+                    && series.get(index) == target) {
+                return index;
+            }
+        }
+        // Series were added, removed or reordered, rebuild the index
+        seriesIndexes = new IdentityHashMap<>(series.size());
+        for (int i = 0; i < series.size(); i++) {
+            seriesIndexes.putIfAbsent(series.get(i), i);
+        }
+        return seriesIndexes.getOrDefault(target, -1);
     }
 
 }
@@ -0,0 +1,455 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * A series storing its values in primitive {@code double} arrays instead of
+ * {@link DataSeriesItem} objects or boxed numbers. Suitable for large numeric
+ * series, such as long time series, as the memory use and serialization cost
+ * are proportional to the raw data size.
+ * <p>
+ * The series has either only Y values, in which case X values are calculated
+ * like for {@link ListSeries}, or X and Y values. Time values can be given as
+ * epoch milliseconds, which are exactly representable as {@code double}. A
+ * {@link Double#NaN} Y value is serialized as {@code null}, i.e. as a gap in
+ * the series.
+ * <p>
+ * With {@link #setMaxSize(int)}, the series acts as a sliding window where
+ * adding a value to a full series drops the oldest value without copying the
+ * data.
+ * <p>
+ * Series with X values can be downsampled with
+ * {@link #setDownsampling(Downsampler, int)}.
+ */
+public class ArrayDataSeries extends AbstractSeries
+        implements DownsampledSeries {
+
+    private static final double[] EMPTY = new double[0];
+
+    @JsonIgnore
+    private double[] xValues;
+
+    @JsonIgnore
+    private double[] yValues = EMPTY;
+
+    /** Index of the first value in the arrays, used as a ring buffer. */
+    @JsonIgnore
+    private int start;
+
+    @JsonIgnore
+    private int size;
+
+    @JsonIgnore
+    private int maxSize;
+
+    @JsonIgnore
+    private Downsampler downsampler;
+
+    @JsonIgnore
+    private int targetPointCount;
+
+    @JsonIgnore
+    private Double xRangeMin;
+
+    @JsonIgnore
+    private Double xRangeMax;
+
+    // Reused for passing the points in the X range to the downsampler
+    @JsonIgnore
+    private transient double[] scratchX;
+
+    @JsonIgnore
+    private transient double[] scratchY;
+
+    public ArrayDataSeries() {
+    }
+
+    /**
+     * Constructs a named series without values.
+     *
+     * @param name
+     *            the name of the series
+     */
+    public ArrayDataSeries(String name) {
+        super(name);
+    }
+
+    /**
+     * Constructs a series with the given Y values.
+     *
+     * @param yValues
+     *            the Y values, not {@code null}
+     */
+    public ArrayDataSeries(double[] yValues) {
+        setData(yValues);
+    }
+
+    /**
+     * Constructs a series with the given X and Y values.
+     *
+     * @param xValues
+     *            the X values, not {@code null}
+     * @param yValues
+     *            the Y values, not {@code null}
+     */
+    public ArrayDataSeries(double[] xValues, double[] yValues) {
+        setData(xValues, yValues);
+    }
+
+    /**
+     * Sets the Y values of the series. X values are calculated like for
+     * {@link ListSeries}. The array is used as is and is not copied.
+     *
+     * @param yValues
+     *            the Y values, not {@code null}
+     */
+    public void setData(double[] yValues) {
+        Objects.requireNonNull(yValues, "Y values may not be null");
+        this.xValues = null;
+        this.yValues = yValues;
+        resetRange(yValues.length);
+    }
+
+    /**
+     * Sets the X and Y values of the series. The arrays are used as is and
+     * are not copied.
+     *
+     * @param xValues
+     *            the X values, not {@code null}
+     * @param yValues
+     *            the Y values, of the same length as the X values, not
+     *            {@code null}
+     */
+    public void setData(double[] xValues, double[] yValues) {
+        Objects.requireNonNull(xValues, "X values may not be null");
+        Objects.requireNonNull(yValues, "Y values may not be null");
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException(
+                    "X and Y values must have the same length");
+        }
+        this.xValues = xValues;
+        this.yValues = yValues;
+        resetRange(yValues.length);
+    }
+
+    /**
+     * Sets the X values as epoch milliseconds, e.g. for a datetime axis, and
+     * the Y values of the series. The Y values array is used as is and is not
+     * copied.
+     *
+     * @param timestamps
+     *            the X values in milliseconds, not {@code null}
+     * @param yValues
+     *            the Y values, of the same length as the X values, not
+     *            {@code null}
+     */
+    public void setData(long[] timestamps, double[] yValues) {
+        Objects.requireNonNull(timestamps, "X values may not be null");
+        double[] x = new double[timestamps.length];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = timestamps[i];
+        }
+        setData(x, yValues);
+    }
+
+    /**
+     * @return {@code true} if the series has X values, {@code false} if only
+     *         Y values
+     */
+    public boolean hasXValues() {
+        return xValues != null;
+    }
+
+    /**
+     * @return the number of values in the series
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the X value of the point at the given index.
+     *
+     * @param index
+     *            the index of the point
+     * @return the X value
+     * @throws IllegalStateException
+     *             if the series has only Y values
+     */
+    public double getX(int index) {
+        if (xValues == null) {
+            throw new IllegalStateException("The series has no X values");
+        }
+        return xValues[toArrayIndex(index)];
+    }
+
+    /**
+     * Returns the Y value of the point at the given index.
+     *
+     * @param index
+     *            the index of the point
+     * @return the Y value
+     */
+    public double getY(int index) {
+        return yValues[toArrayIndex(index)];
+    }
+
+    /**
+     * @return a copy of the X values in point order, or {@code null} if the
+     *         series has only Y values
+     */
+    public double[] getXValues() {
+        return xValues == null ? null : copyRange(xValues);
+    }
+
+    /**
+     * @return a copy of the Y values in point order
+     */
+    public double[] getYValues() {
+        return copyRange(yValues);
+    }
+
+    /**
+     * @see #setMaxSize(int)
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum number of values kept in the series. When a value is
+     * added to a full series, the oldest value is removed. Values exceeding
+     * the limit are removed immediately. {@code 0} means no limit, which is
+     * the default.
+     *
+     * @param maxSize
+     *            the maximum number of values, or {@code 0} for no limit
+     */
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Max size may not be negative");
+        }
+        this.maxSize = maxSize;
+        if (maxSize > 0) {
+            int kept = Math.min(size, maxSize);
+            double[] newX = xValues == null ? null : new double[maxSize];
+            double[] newY = new double[maxSize];
+            for (int i = 0; i < kept; i++) {
+                int from = toArrayIndex(size - kept + i);
+                if (newX != null) {
+                    newX[i] = xValues[from];
+                }
+                newY[i] = yValues[from];
+            }
+            xValues = newX;
+            yValues = newY;
+            start = 0;
+            size = kept;
+        }
+    }
+
+    /**
+     * Adds a Y value to a series that has only Y values and immediately
+     * updates the chart if it already has been drawn.
+     *
+     * @param y
+     *            the Y value to add
+     */
+    public void addData(double y) {
+        addData(Double.NaN, y, true, false);
+    }
+
+    /**
+     * Adds a point to a series that has X values and immediately updates the
+     * chart if it already has been drawn.
+     *
+     * @param x
+     *            the X value to add
+     * @param y
+     *            the Y value to add
+     */
+    public void addData(double x, double y) {
+        addData(x, y, true, false);
+    }
+
+    /**
+     * Adds a point to the series and optionally immediately updates the chart
+     * if it has been drawn. If the series has a maximum size and is full, the
+     * first point is removed as if {@code shift} was {@code true}.
+     *
+     * @param x
+     *            the X value to add, ignored if the series has only Y values
+     * @param y
+     *            the Y value to add
+     * @param updateChartImmediately
+     *            if true the chart will be dynamically updated, using animation
+     *            if enabled.
+     * @param shift
+     *            If true, the first point of the series is removed.
+     */
+    public void addData(double x, double y, boolean updateChartImmediately,
+            boolean shift) {
+        if (xValues == null && size == 0 && !Double.isNaN(x)) {
+            xValues = new double[yValues.length];
+        }
+        if (shift && size > 0) {
+            start = (start + 1) % yValues.length;
+            size--;
+        }
+        if (maxSize > 0 && size == maxSize) {
+            start = (start + 1) % yValues.length;
+            size--;
+            shift = true;
+        }
+        if (size == yValues.length) {
+            grow();
+        }
+        int index = wrap(start + size);
+        if (xValues != null) {
+            xValues[index] = x;
+        }
+        yValues[index] = y;
+        size++;
+        if (updateChartImmediately && getConfiguration() != null) {
+            getConfiguration().fireDataAdded(this, toItem(size - 1), shift);
+        }
+    }
+
+    /**
+     * Updates the Y value of the point at the given index and immediately
+     * updates it on the chart using animation if enabled.
+     *
+     * @param pointIndex
+     *            the index of the point to update
+     * @param y
+     *            the new Y value
+     */
+    public void updatePoint(int pointIndex, double y) {
+        yValues[toArrayIndex(pointIndex)] = y;
+        if (getConfiguration() != null) {
+            getConfiguration().fireDataUpdated(this, toItem(pointIndex),
+                    pointIndex);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Downsampling is only applied when the series has X values.
+     */
+    @Override
+    public void setDownsampling(Downsampler downsampler,
+            int targetPointCount) {
+        if (downsampler == this.downsampler
+                && targetPointCount == this.targetPointCount) {
+            return;
+        }
+        this.downsampler = downsampler;
+        this.targetPointCount = targetPointCount;
+        // Resends the series, and lets a drawn chart start or stop listening
+        // to zooming
+        updateSeries();
+    }
+
+    @Override
+    public Downsampler getDownsampler() {
+        return downsampler;
+    }
+
+    @Override
+    public int getTargetPointCount() {
+        return targetPointCount;
+    }
+
+    @Override
+    public void setXRange(Double min, Double max) {
+        if (Objects.equals(min, xRangeMin) && Objects.equals(max, xRangeMax)) {
+            return;
+        }
+        xRangeMin = min;
+        xRangeMax = max;
+        if (downsampler != null) {
+            updateSeries();
+        }
+    }
+
+    /**
+     * Returns the indexes of the points that are sent to the client after
+     * downsampling.
+     *
+     * @return the indexes of the points in ascending order, or {@code null} if
+     *         all points are sent
+     */
+    public int[] getDownsampledIndexes() {
+        if (downsampler == null || xValues == null) {
+            return null;
+        }
+        if (scratchX == null || scratchX.length < size) {
+            scratchX = new double[yValues.length];
+            scratchY = new double[yValues.length];
+        }
+        return DownsamplingAlgorithms.select(downsampler, xValues, yValues,
+                start, size, xRangeMin, xRangeMax, targetPointCount, scratchX,
+                scratchY);
+    }
+
+    private DataSeriesItem toItem(int index) {
+        int arrayIndex = toArrayIndex(index);
+        double y = yValues[arrayIndex];
+        Double value = Double.isNaN(y) ? null : y;
+        if (xValues != null) {
+            return new DataSeriesItem(xValues[arrayIndex], value);
+        }
+        DataSeriesItem item = new DataSeriesItem();
+        item.setY(value);
+        return item;
+    }
+
+    private int toArrayIndex(int index) {
+        return wrap(start + Objects.checkIndex(index, size));
+    }
+
+    private int wrap(int arrayIndex) {
+        return arrayIndex < yValues.length ? arrayIndex
+                : arrayIndex - yValues.length;
+    }
+
+    private double[] copyRange(double[] values) {
+        double[] copy = new double[size];
+        int firstPart = Math.min(size, values.length - start);
+        System.arraycopy(values, start, copy, 0, firstPart);
+        System.arraycopy(values, 0, copy, firstPart, size - firstPart);
+        return copy;
+    }
+
+    private void grow() {
+        int capacity = Math.max(16, yValues.length + (yValues.length >> 1));
+        if (maxSize > 0) {
+            capacity = Math.min(capacity, maxSize);
+        }
+        if (xValues != null) {
+            xValues = Arrays.copyOf(copyRange(xValues), capacity);
+        }
+        yValues = Arrays.copyOf(copyRange(yValues), capacity);
+        start = 0;
+    }
+
+    private void resetRange(int length) {
+        start = 0;
+        size = length;
+        if (maxSize > 0) {
+            setMaxSize(maxSize);
+        }
+    }
+}
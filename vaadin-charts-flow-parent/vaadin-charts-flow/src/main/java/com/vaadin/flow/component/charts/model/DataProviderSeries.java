@@ -11,12 +11,16 @@ package com.vaadin.flow.component.charts.model;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
+import java.time.Instant;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.vaadin.flow.data.provider.DataProvider;
@@ -33,9 +37,11 @@ import com.vaadin.flow.shared.Registration;
  * <p>
  * Note that even if you use a lazy loading {@link DataProvider}, this series
  * will work in an eager fashion and load all the data from the provider at
- * once.
+ * once. To limit the number of points sent to the client, use
+ * {@link #setDownsampling(Downsampler, int)}.
  */
-public class DataProviderSeries<T> extends AbstractSeries {
+public class DataProviderSeries<T> extends AbstractSeries
+        implements DownsampledSeries {
 
     @JsonIgnore
     private final DataProvider<T, ?> dataProvider;
@@ -57,6 +63,18 @@ public class DataProviderSeries<T> extends AbstractSeries {
     @JsonIgnore
     private Registration dataProviderRegistration;
 
+    @JsonIgnore
+    private Downsampler downsampler;
+
+    @JsonIgnore
+    private int targetPointCount;
+
+    @JsonIgnore
+    private Double xRangeMin;
+
+    @JsonIgnore
+    private Double xRangeMax;
+
     @JsonIgnore
     private DataProviderListener<T> listener = (DataProviderListener<T>) event -> {
         updateSeries();
@@ -225,16 +243,95 @@ public class DataProviderSeries<T> extends AbstractSeries {
      */
 
     public List<Map<String, Optional<Object>>> getValues() {
-        return dataProvider.fetch(new Query<>())
-                .map((item) -> chartAttributeToCallback.entrySet().stream()
-                        .collect(toMap(Entry::getKey,
-                                entry -> (entry.getValue() != null)
-                                        ? Optional.ofNullable(
-                                                entry.getValue().apply(item))
-                                        : Optional.empty())))
+        SerializableFunction<T, Object> xCallback = chartAttributeToCallback
+                .get(X_ATTRIBUTE);
+        SerializableFunction<T, Object> yCallback = chartAttributeToCallback
+                .get(Y_ATTRIBUTE);
+        if (downsampler == null || xCallback == null || yCallback == null) {
+            return dataProvider.fetch(new Query<>()).map(this::toValues)
+                    .collect(toList());
+        }
+        // Only x and y are evaluated for all items, the other attributes
+        // only for the items that are kept
+        List<T> items = dataProvider.fetch(new Query<>()).collect(toList());
+        double[] x = new double[items.size()];
+        double[] y = new double[items.size()];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = toDouble(xCallback.apply(items.get(i)));
+            y[i] = toDouble(yCallback.apply(items.get(i)));
+            if (Double.isNaN(x[i])) {
+                // Not numeric, can't be downsampled
+                return items.stream().map(this::toValues).collect(toList());
+            }
+        }
+        int[] selected = DownsamplingAlgorithms.select(downsampler, x, y,
+                x.length, xRangeMin, xRangeMax, targetPointCount);
+        return IntStream.of(selected).mapToObj(i -> toValues(items.get(i)))
                 .collect(toList());
     }
 
+    private Map<String, Optional<Object>> toValues(T item) {
+        return chartAttributeToCallback.entrySet().stream()
+                .collect(toMap(Entry::getKey,
+                        entry -> (entry.getValue() != null)
+                                ? Optional.ofNullable(
+                                        entry.getValue().apply(item))
+                                : Optional.empty()));
+    }
+
+    private static double toDouble(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        } else if (value instanceof Instant instant) {
+            return instant.toEpochMilli();
+        } else if (value instanceof Date date) {
+            return date.getTime();
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Downsampling is only applied when both {@code x} and {@code y} values
+     * are defined and the {@code x} values are numbers, dates or instants.
+     */
+    @Override
+    public void setDownsampling(Downsampler downsampler,
+            int targetPointCount) {
+        if (downsampler == this.downsampler
+                && targetPointCount == this.targetPointCount) {
+            return;
+        }
+        this.downsampler = downsampler;
+        this.targetPointCount = targetPointCount;
+        // Resends the series, and lets a drawn chart start or stop listening
+        // to zooming
+        updateSeries();
+    }
+
+    @Override
+    public Downsampler getDownsampler() {
+        return downsampler;
+    }
+
+    @Override
+    public int getTargetPointCount() {
+        return targetPointCount;
+    }
+
+    @Override
+    public void setXRange(Double min, Double max) {
+        if (Objects.equals(min, xRangeMin) && Objects.equals(max, xRangeMax)) {
+            return;
+        }
+        xRangeMin = min;
+        xRangeMax = max;
+        if (downsampler != null) {
+            updateSeries();
+        }
+    }
+
     /**
      * Returns a set of chart attributes(keys).
      *
@@ -0,0 +1,57 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model;
+
+/**
+ * A series that can be downsampled to a target number of points for the
+ * currently visible X range.
+ * <p>
+ * When a series with a downsampler is drawn in a chart, the chart updates its
+ * X range whenever the X axis extremes are changed on the client, e.g. by
+ * zooming, so that a finer resolution is sent for the zoomed range.
+ *
+ * @see Downsampler
+ */
+public interface DownsampledSeries extends Series {
+
+    /**
+     * Sets the downsampler used for reducing the number of points sent to the
+     * client. Downsampling requires X values in ascending order.
+     *
+     * @param downsampler
+     *            the downsampler to use, or {@code null} to send all points
+     * @param targetPointCount
+     *            the number of points to reduce to
+     */
+    void setDownsampling(Downsampler downsampler, int targetPointCount);
+
+    /**
+     * @see #setDownsampling(Downsampler, int)
+     * @return the downsampler in use, or {@code null} if none
+     */
+    Downsampler getDownsampler();
+
+    /**
+     * @see #setDownsampling(Downsampler, int)
+     * @return the number of points the series is reduced to
+     */
+    int getTargetPointCount();
+
+    /**
+     * Sets the visible X range that is downsampled and updates the series on
+     * the chart if the range changed. Points outside of the range are not sent
+     * to the client, except for the closest points on each side.
+     *
+     * @param min
+     *            the start of the range, or {@code null} for no limit
+     * @param max
+     *            the end of the range, or {@code null} for no limit
+     */
+    void setXRange(Double min, Double max);
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model;
+
+import java.io.Serializable;
+
+/**
+ * Reduces the number of points of a series before it is sent to the client.
+ * <p>
+ * A downsampler selects the points to keep instead of computing new ones, so
+ * that all other properties of the kept points are retained.
+ *
+ * @see DataProviderSeries#setDownsampling(Downsampler, int)
+ * @see ArrayDataSeries#setDownsampling(Downsampler, int)
+ */
+@FunctionalInterface
+public interface Downsampler extends Serializable {
+
+    /**
+     * Selects the points to keep. The arrays may be used by the series
+     * itself, and must not be modified.
+     *
+     * @param x
+     *            the X values of the points, in ascending order
+     * @param y
+     *            the Y values of the points, {@link Double#NaN} for missing
+     *            values
+     * @param length
+     *            the number of points, the arrays may be longer
+     * @param targetPointCount
+     *            the number of points to reduce to
+     * @return the indexes of the points to keep, in ascending order
+     */
+    int[] select(double[] x, double[] y, int length, int targetPointCount);
+
+    /**
+     * Returns a downsampler using the Largest-Triangle-Three-Buckets
+     * algorithm, which retains the visual shape of a line well.
+     *
+     * @return the LTTB downsampler
+     */
+    static Downsampler largestTriangleThreeBuckets() {
+        return DownsamplingAlgorithms::largestTriangleThreeBuckets;
+    }
+
+    /**
+     * Returns a downsampler that keeps the minimum and maximum point of each
+     * bucket, which retains all the peaks of the data.
+     *
+     * @return the min-max downsampler
+     */
+    static Downsampler minMax() {
+        return DownsamplingAlgorithms::minMax;
+    }
+}
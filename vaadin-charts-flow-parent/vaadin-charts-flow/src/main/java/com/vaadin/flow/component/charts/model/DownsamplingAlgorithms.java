@@ -0,0 +1,260 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model;
+
+import java.util.Arrays;
+
+/**
+ * Implementations of the built-in {@link Downsampler}s.
+ */
+final class DownsamplingAlgorithms {
+
+    private DownsamplingAlgorithms() {
+    }
+
+    /**
+     * Selects the points to send for the given X range, including the closest
+     * points outside the range so that lines continue to the plot edges.
+     *
+     * @param downsampler
+     *            the downsampler to use
+     * @param x
+     *            the X values in ascending order
+     * @param y
+     *            the Y values
+     * @param length
+     *            the number of points
+     * @param min
+     *            the start of the range, or {@code null} for no limit
+     * @param max
+     *            the end of the range, or {@code null} for no limit
+     * @param targetPointCount
+     *            the number of points to reduce to
+     * @return the indexes of the selected points, in ascending order
+     */
+    static int[] select(Downsampler downsampler, double[] x, double[] y,
+            int length, Double min, Double max, int targetPointCount) {
+        return select(downsampler, x, y, 0, length, min, max,
+                targetPointCount, null, null);
+    }
+
+    /**
+     * Selects the points to send for the given X range from values that are
+     * stored in a ring buffer. Only the points in the range are copied, and
+     * only when they do not already start at the beginning of the arrays.
+     *
+     * @param downsampler
+     *            the downsampler to use
+     * @param x
+     *            the X values in ascending order, starting at {@code start}
+     *            and continuing from the beginning of the array
+     * @param y
+     *            the Y values, stored like the X values
+     * @param start
+     *            the index of the first point in the arrays
+     * @param length
+     *            the number of points
+     * @param min
+     *            the start of the range, or {@code null} for no limit
+     * @param max
+     *            the end of the range, or {@code null} for no limit
+     * @param targetPointCount
+     *            the number of points to reduce to
+     * @param scratchX
+     *            an array of at least {@code length} values to copy the X
+     *            values of the range into, or {@code null} to allocate one
+     *            when needed
+     * @param scratchY
+     *            an array of at least {@code length} values to copy the Y
+     *            values of the range into, or {@code null} to allocate one
+     *            when needed
+     * @return the indexes of the selected points relative to {@code start},
+     *         in ascending order
+     */
+    static int[] select(Downsampler downsampler, double[] x, double[] y,
+            int start, int length, Double min, Double max,
+            int targetPointCount, double[] scratchX, double[] scratchY) {
+        int from = 0;
+        int to = length;
+        if (min != null) {
+            from = Math.max(0, lowerBound(x, start, length, min) - 1);
+        }
+        if (max != null) {
+            to = Math.min(length, upperBound(x, start, length, max) + 1);
+        }
+        if (from >= to) {
+            return new int[0];
+        }
+        int count = to - from;
+        int offset = wrap(x, start + from);
+        int[] selected;
+        if (offset == 0) {
+            selected = downsampler.select(x, y, count, targetPointCount);
+        } else {
+            double[] rangeX = scratchX != null ? scratchX : new double[count];
+            double[] rangeY = scratchY != null ? scratchY : new double[count];
+            copyRange(x, offset, count, rangeX);
+            copyRange(y, offset, count, rangeY);
+            selected = downsampler.select(rangeX, rangeY, count,
+                    targetPointCount);
+        }
+        if (from > 0) {
+            for (int i = 0; i < selected.length; i++) {
+                selected[i] += from;
+            }
+        }
+        return selected;
+    }
+
+    static int[] largestTriangleThreeBuckets(double[] x, double[] y,
+            int length, int targetPointCount) {
+        if (targetPointCount >= length || targetPointCount < 3) {
+            return all(length);
+        }
+        int[] selected = new int[targetPointCount];
+        int count = 0;
+        // Bucket size, leaving room for the first and last point
+        double every = (double) (length - 2) / (targetPointCount - 2);
+        int a = 0;
+        selected[count++] = a;
+        for (int i = 0; i < targetPointCount - 2; i++) {
+            // Average of the next bucket is the third point of the triangle
+            int avgStart = (int) Math.floor((i + 1) * every) + 1;
+            int avgEnd = Math.min((int) Math.floor((i + 2) * every) + 1,
+                    length);
+            double avgX = 0;
+            double avgY = 0;
+            int avgCount = 0;
+            for (int j = avgStart; j < avgEnd; j++) {
+                if (!Double.isNaN(y[j])) {
+                    avgX += x[j];
+                    avgY += y[j];
+                    avgCount++;
+                }
+            }
+            if (avgCount > 0) {
+                avgX /= avgCount;
+                avgY /= avgCount;
+            } else {
+                avgX = x[avgEnd - 1];
+                avgY = Double.isNaN(y[a]) ? 0 : y[a];
+            }
+
+            int rangeStart = (int) Math.floor(i * every) + 1;
+            int rangeEnd = (int) Math.floor((i + 1) * every) + 1;
+            double ax = x[a];
+            double ay = Double.isNaN(y[a]) ? avgY : y[a];
+            double maxArea = -1;
+            int next = rangeStart;
+            for (int j = rangeStart; j < rangeEnd; j++) {
+                double area = Math.abs((ax - avgX) * (y[j] - ay)
+                        - (ax - x[j]) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = j;
+                }
+            }
+            selected[count++] = next;
+            a = next;
+        }
+        selected[count++] = length - 1;
+        return selected;
+    }
+
+    static int[] minMax(double[] x, double[] y, int length,
+            int targetPointCount) {
+        if (targetPointCount >= length || targetPointCount < 4) {
+            return all(length);
+        }
+        // First and last point are always kept, two points per bucket
+        int buckets = (targetPointCount - 2) / 2;
+        double every = (double) (length - 2) / buckets;
+        int[] selected = new int[buckets * 2 + 2];
+        int count = 0;
+        selected[count++] = 0;
+        for (int i = 0; i < buckets; i++) {
+            int start = (int) Math.floor(i * every) + 1;
+            int end = Math.min((int) Math.floor((i + 1) * every) + 1,
+                    length - 1);
+            int min = -1;
+            int max = -1;
+            for (int j = start; j < end; j++) {
+                if (Double.isNaN(y[j])) {
+                    continue;
+                }
+                if (min < 0 || y[j] < y[min]) {
+                    min = j;
+                }
+                if (max < 0 || y[j] > y[max]) {
+                    max = j;
+                }
+            }
+            if (min < 0) {
+                // Only gaps in the bucket, keep one to retain the gap
+                selected[count++] = start;
+            } else if (min == max) {
+                selected[count++] = min;
+            } else {
+                selected[count++] = Math.min(min, max);
+                selected[count++] = Math.max(min, max);
+            }
+        }
+        selected[count++] = length - 1;
+        return Arrays.copyOf(selected, count);
+    }
+
+    /** Index of the first value that is not less than the given value. */
+    private static int lowerBound(double[] x, int start, int length,
+            double value) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x[wrap(x, start + mid)] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Index of the first value that is greater than the given value. */
+    private static int upperBound(double[] x, int start, int length,
+            double value) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x[wrap(x, start + mid)] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int wrap(double[] values, int index) {
+        return index < values.length ? index : index - values.length;
+    }
+
+    private static void copyRange(double[] values, int offset, int count,
+            double[] target) {
+        int firstPart = Math.min(count, values.length - offset);
+        System.arraycopy(values, offset, target, 0, firstPart);
+        System.arraycopy(values, 0, target, firstPart, count - firstPart);
+    }
+
+    private static int[] all(int length) {
+        int[] indexes = new int[length];
+        Arrays.setAll(indexes, i -> i);
+        return indexes;
+    }
+}
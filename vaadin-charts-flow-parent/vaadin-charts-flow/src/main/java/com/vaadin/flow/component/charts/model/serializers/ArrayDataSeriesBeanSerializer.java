@@ -0,0 +1,75 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model.serializers;
+
+import com.vaadin.flow.component.charts.model.ArrayDataSeries;
+import com.vaadin.flow.component.charts.model.PlotOptionsSeries;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+
+/**
+ * Custom bean serializer for {@link ArrayDataSeries} that writes the values
+ * straight from the arrays, without creating an object per point.
+ */
+public class ArrayDataSeriesBeanSerializer
+        extends BeanSerializationDelegate<ArrayDataSeries> {
+
+    @Override
+    public Class<ArrayDataSeries> getBeanClass() {
+        return ArrayDataSeries.class;
+    }
+
+    @Override
+    public void serialize(ArrayDataSeries bean,
+            BeanSerializerDelegator<ArrayDataSeries> serializer,
+            JsonGenerator jgen, SerializationContext context) {
+        jgen.writeStartObject();
+
+        // write other fields as per normal serialization rules
+        serializer.serializeProperties(bean, jgen, context);
+
+        if (bean.getPlotOptions() != null
+                && !(bean.getPlotOptions() instanceof PlotOptionsSeries)) {
+            jgen.writePOJOProperty("type",
+                    bean.getPlotOptions().getChartType());
+        }
+
+        jgen.writeName("data");
+        jgen.writeStartArray();
+        int[] indexes = bean.getDownsampledIndexes();
+        int count = indexes == null ? bean.size() : indexes.length;
+        boolean hasX = bean.hasXValues();
+        for (int n = 0; n < count; n++) {
+            int i = indexes == null ? n : indexes[n];
+            if (hasX) {
+                jgen.writeStartArray();
+                writeValue(jgen, bean.getX(i));
+                writeValue(jgen, bean.getY(i));
+                jgen.writeEndArray();
+            } else {
+                writeValue(jgen, bean.getY(i));
+            }
+        }
+        jgen.writeEndArray();
+
+        jgen.writeEndObject();
+    }
+
+    private static void writeValue(JsonGenerator jgen, double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            jgen.writeNull();
+        } else if (value == (long) value) {
+            // e.g. timestamps, written without a fraction or an exponent
+            jgen.writeNumber((long) value);
+        } else {
+            jgen.writeNumber(value);
+        }
+    }
+}
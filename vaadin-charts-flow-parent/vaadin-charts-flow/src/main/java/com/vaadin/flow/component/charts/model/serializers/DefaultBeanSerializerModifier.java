@@ -9,6 +9,7 @@
 package com.vaadin.flow.component.charts.model.serializers;
 
 import com.vaadin.flow.component.charts.model.AbstractSeries;
+import com.vaadin.flow.component.charts.model.ArrayDataSeries;
 import com.vaadin.flow.component.charts.model.AxisTitle;
 import com.vaadin.flow.component.charts.model.DataProviderSeries;
 import com.vaadin.flow.component.charts.model.DataSeriesItem;
@@ -52,6 +53,11 @@ public class DefaultBeanSerializerModifier extends ValueSerializerModifier {
             return new BeanSerializerDelegator<>(
                     (BeanSerializerBase) serializer,
                     new LegendTitleBeanSerializer());
+        } else if (ArrayDataSeries.class
+                .isAssignableFrom(beanDesc.getBeanClass())) {
+            return new BeanSerializerDelegator<>(
+                    (BeanSerializerBase) serializer,
+                    new ArrayDataSeriesBeanSerializer());
         } else if (AbstractSeries.class
                 .isAssignableFrom(beanDesc.getBeanClass())) {
             return new BeanSerializerDelegator<>(
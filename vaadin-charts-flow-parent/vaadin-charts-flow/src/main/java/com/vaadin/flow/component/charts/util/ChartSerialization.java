@@ -25,7 +25,10 @@ import com.vaadin.flow.component.charts.model.serializers.SolidColorSerializer;
 import com.vaadin.flow.component.charts.model.serializers.StopSerializer;
 import com.vaadin.flow.component.charts.model.serializers.TimeUnitMultiplesSerializer;
 
+import com.vaadin.flow.internal.JacksonUtils;
+
 import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.ObjectWriter;
 import tools.jackson.databind.json.JsonMapper;
@@ -40,9 +43,16 @@ public class ChartSerialization implements Serializable {
 
     private static ObjectWriter jsonWriter;
 
+    /**
+     * Mapper used for serializing directly into a tree, {@code null} if a
+     * custom writer has been set.
+     */
+    private static ObjectMapper treeMapper;
+
     static {
-        // writer is thread safe so we can use a shared instance
-        jsonWriter = createObjectMapper().writer();
+        // mapper and writer are thread safe so we can use shared instances
+        treeMapper = createObjectMapper();
+        jsonWriter = treeMapper.writer();
     }
 
     private ChartSerialization() {
@@ -85,12 +95,17 @@ public class ChartSerialization implements Serializable {
      * to serialize configuration objects to client side. If users have made
      * their extensions to underlying library and wish to build a typed Java API
      * for it, adding custom serializers might be needed.
+     * <p>
+     * When a custom writer is set, {@link #toJsonNode(AbstractConfigurationObject)}
+     * serializes through the writer and parses the result, so that the custom
+     * serializers are applied.
      *
      * @param newObjectWriter
      * @see #createObjectMapper()
      */
     public static void setObjectMapperInstance(ObjectWriter newObjectWriter) {
         jsonWriter = newObjectWriter;
+        treeMapper = null;
     }
 
     public static String toJSON(AbstractConfigurationObject object) {
@@ -102,4 +117,25 @@ public class ChartSerialization implements Serializable {
                     + object.getClass().getSimpleName(), e);
         }
     }
+
+    /**
+     * Serializes the given configuration object directly into a JSON tree,
+     * without producing an intermediate JSON string.
+     *
+     * @param object
+     *            the object to serialize
+     * @return the JSON tree representing the object
+     */
+    public static JsonNode toJsonNode(AbstractConfigurationObject object) {
+        ObjectMapper mapper = treeMapper;
+        if (mapper == null) {
+            return JacksonUtils.getMapper().readTree(toJSON(object));
+        }
+        try {
+            return mapper.valueToTree(object);
+        } catch (JacksonException e) {
+            throw new RuntimeException("Error while serializing "
+                    + object.getClass().getSimpleName(), e);
+        }
+    }
 }
@@ -0,0 +1,78 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts;
+
+import static com.vaadin.flow.component.charts.util.ChartSerialization.toJSON;
+import static com.vaadin.flow.component.charts.util.ChartSerialization.toJsonNode;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.charts.model.ArrayDataSeries;
+
+class ArrayDataSeriesTest {
+
+    @Test
+    void serialize_yValues_writtenAsNumbers() {
+        ArrayDataSeries series = new ArrayDataSeries(
+                new double[] { 1, 2.5, Double.NaN });
+
+        Assertions.assertEquals("{\"data\":[1,2.5,null]}", toJSON(series));
+        Assertions.assertEquals(toJSON(series), toJsonNode(series).toString());
+    }
+
+    @Test
+    void serialize_timestampsAndYValues_writtenAsPairs() {
+        ArrayDataSeries series = new ArrayDataSeries();
+        series.setData(new long[] { 1700000000000L, 1700000060000L },
+                new double[] { 0.5, 7 });
+
+        Assertions.assertEquals(
+                "{\"data\":[[1700000000000,0.5],[1700000060000,7]]}",
+                toJSON(series));
+    }
+
+    @Test
+    void addData_maxSize_keepsLatestValuesInOrder() {
+        ArrayDataSeries series = new ArrayDataSeries();
+        series.setMaxSize(3);
+        for (int i = 0; i < 5; i++) {
+            series.addData(i, i * 10, false, false);
+        }
+
+        Assertions.assertEquals(3, series.size());
+        Assertions.assertArrayEquals(new double[] { 2, 3, 4 },
+                series.getXValues());
+        Assertions.assertArrayEquals(new double[] { 20, 30, 40 },
+                series.getYValues());
+        Assertions.assertEquals("{\"data\":[[2,20],[3,30],[4,40]]}",
+                toJSON(series));
+    }
+
+    @Test
+    void setMaxSize_existingValues_oldestDropped() {
+        ArrayDataSeries series = new ArrayDataSeries(
+                new double[] { 1, 2, 3, 4 });
+        series.setMaxSize(2);
+
+        Assertions.assertArrayEquals(new double[] { 3, 4 },
+                series.getYValues());
+    }
+
+    @Test
+    void addData_growsBeyondInitialArray() {
+        ArrayDataSeries series = new ArrayDataSeries(new double[] { 1 });
+        for (int i = 0; i < 100; i++) {
+            series.addData(i);
+        }
+
+        Assertions.assertEquals(101, series.size());
+        Assertions.assertEquals(99, series.getY(100));
+    }
+}
@@ -9,6 +9,7 @@
 package com.vaadin.flow.component.charts;
 
 import static com.vaadin.flow.component.charts.util.ChartSerialization.toJSON;
+import static com.vaadin.flow.component.charts.util.ChartSerialization.toJsonNode;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import org.junit.jupiter.api.Test;
@@ -161,4 +162,17 @@ class ConfigurationJSONSerializationTest {
                 "{\"annotations\":[{\"labels\":[{\"point\":{\"x\":100,\"y\":100},\"text\":\"Sample\",\"useHTML\":true}]}],\"chart\":{\"styledMode\":false},\"exporting\":{\"enabled\":false},\"plotOptions\":{},\"series\":[]}",
                 toJSON(conf));
     }
+
+    @Test
+    void configurationJSONSerialization_toJsonNode_matchesJsonString() {
+        Configuration conf = new Configuration();
+        conf.addSeries(new ListSeries("series", 1, 2.5, 3));
+        PlotOptionsPie options = new PlotOptionsPie();
+        options.getStates().getInactive()
+                .setBorderColor(new SolidColor("#000000"));
+        conf.setPlotOptions(options);
+        conf.addyAxis(new YAxis());
+
+        assertEquals(toJSON(conf), toJsonNode(conf).toString());
+    }
 }
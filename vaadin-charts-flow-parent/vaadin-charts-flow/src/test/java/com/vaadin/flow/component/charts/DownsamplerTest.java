@@ -0,0 +1,122 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts;
+
+import static com.vaadin.flow.component.charts.util.ChartSerialization.toJSON;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.charts.model.ArrayDataSeries;
+import com.vaadin.flow.component.charts.model.DataProviderSeries;
+import com.vaadin.flow.component.charts.model.Downsampler;
+import com.vaadin.flow.data.provider.DataProvider;
+
+class DownsamplerTest {
+
+    @Test
+    void largestTriangleThreeBuckets_keepsEndsAndPeak() {
+        double[] x = IntStream.range(0, 1000).asDoubleStream().toArray();
+        double[] y = new double[1000];
+        y[500] = 100;
+
+        int[] selected = Downsampler.largestTriangleThreeBuckets().select(x, y,
+                x.length, 50);
+
+        Assertions.assertEquals(50, selected.length);
+        Assertions.assertEquals(0, selected[0]);
+        Assertions.assertEquals(999, selected[49]);
+        Assertions.assertTrue(IntStream.of(selected).anyMatch(i -> i == 500));
+        assertAscending(selected);
+    }
+
+    @Test
+    void minMax_keepsMinimumAndMaximumOfBuckets() {
+        double[] x = IntStream.range(0, 1000).asDoubleStream().toArray();
+        double[] y = new double[1000];
+        y[123] = -5;
+        y[124] = 5;
+
+        int[] selected = Downsampler.minMax().select(x, y, x.length, 20);
+
+        Assertions.assertTrue(selected.length <= 20);
+        Assertions.assertTrue(IntStream.of(selected).anyMatch(i -> i == 123));
+        Assertions.assertTrue(IntStream.of(selected).anyMatch(i -> i == 124));
+        assertAscending(selected);
+    }
+
+    @Test
+    void select_fewerPointsThanTarget_allKept() {
+        double[] values = { 1, 2, 3 };
+
+        Assertions.assertArrayEquals(new int[] { 0, 1, 2 },
+                Downsampler.largestTriangleThreeBuckets().select(values,
+                        values, 3, 10));
+    }
+
+    @Test
+    void dataProviderSeries_downsampledToTargetWithinRange() {
+        List<Integer> items = IntStream.range(0, 10_000).boxed().toList();
+        DataProviderSeries<Integer> series = new DataProviderSeries<>(
+                DataProvider.ofCollection(items), i -> i % 7);
+        series.setX(i -> i);
+
+        series.setDownsampling(Downsampler.largestTriangleThreeBuckets(), 100);
+        List<Map<String, Optional<Object>>> values = series.getValues();
+        Assertions.assertEquals(100, values.size());
+
+        series.setXRange(1000d, 1050d);
+        values = series.getValues();
+        // Range and the closest points outside of it
+        Assertions.assertEquals(53, values.size());
+        Assertions.assertEquals(Optional.of(999),
+                values.get(0).get(DataProviderSeries.X_ATTRIBUTE));
+        Assertions.assertEquals(Optional.of(1051),
+                values.get(52).get(DataProviderSeries.X_ATTRIBUTE));
+    }
+
+    @Test
+    void arrayDataSeries_downsampledWhenSerialized() {
+        ArrayDataSeries series = new ArrayDataSeries(
+                new double[] { 0, 1, 2, 3, 4, 5 },
+                new double[] { 0, 9, 0, 0, 0, 0 });
+        series.setDownsampling(Downsampler.largestTriangleThreeBuckets(), 3);
+
+        Assertions.assertEquals("{\"data\":[[0,0],[1,9],[5,0]]}",
+                toJSON(series));
+    }
+
+    @Test
+    void arrayDataSeries_maxSizeReached_downsampledInPointOrder() {
+        ArrayDataSeries series = new ArrayDataSeries();
+        series.setMaxSize(6);
+        for (int i = 0; i < 10; i++) {
+            series.addData(i, i == 7 ? 9 : 0, false, false);
+        }
+        series.setDownsampling(Downsampler.largestTriangleThreeBuckets(), 3);
+
+        Assertions.assertEquals("{\"data\":[[4,0],[7,9],[9,0]]}",
+                toJSON(series));
+
+        series.setXRange(6.5, 7.5);
+        Assertions.assertEquals("{\"data\":[[6,0],[7,9],[8,0]]}",
+                toJSON(series));
+    }
+
+    private static void assertAscending(int[] indexes) {
+        for (int i = 1; i < indexes.length; i++) {
+            Assertions.assertTrue(indexes[i - 1] < indexes[i]);
+        }
+    }
+}
@@ -8,11 +8,22 @@
  */
 package com.vaadin.flow.component.charts;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
+
+import com.vaadin.flow.component.charts.events.XAxesExtremesSetEvent;
 import com.vaadin.flow.component.charts.events.internal.AxisRescaledEvent;
 import com.vaadin.flow.component.charts.events.internal.DataAddedEvent;
 import com.vaadin.flow.component.charts.events.internal.DataRemovedEvent;
@@ -21,15 +32,21 @@ import com.vaadin.flow.component.charts.events.internal.ItemSlicedEvent;
 import com.vaadin.flow.component.charts.events.internal.SeriesAddedEvent;
 import com.vaadin.flow.component.charts.events.internal.SeriesChangedEvent;
 import com.vaadin.flow.component.charts.events.internal.SeriesStateEvent;
+import com.vaadin.flow.component.charts.model.ArrayDataSeries;
 import com.vaadin.flow.component.charts.model.ChartType;
 import com.vaadin.flow.component.charts.model.Configuration;
 import com.vaadin.flow.component.charts.model.DataSeries;
 import com.vaadin.flow.component.charts.model.DataSeriesItem;
+import com.vaadin.flow.component.charts.model.Downsampler;
 import com.vaadin.flow.component.charts.model.ListSeries;
 import com.vaadin.flow.component.charts.model.XAxis;
 import com.vaadin.flow.component.charts.model.YAxis;
 import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.SerializableConsumer;
 import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.internal.StateTree.ExecutionContext;
+
+import tools.jackson.databind.node.ArrayNode;
 
 /**
  * Unit tests for {@link ProxyChangeForwarder} verifying that calls to
@@ -222,4 +239,75 @@ class ProxyChangeForwarderTest {
         verify(chart.getElement()).callJsFunction("__callAxisFunction",
                 "setExtremes", 1, 0, null, null, true, false);
     }
+
+    @Test
+    void pointChanges_withUI_sentAsSingleBatchBeforeClientResponse() {
+        TestChart chart = new TestChart();
+        Configuration conf = chart.getConfiguration();
+        ListSeries first = new ListSeries(1, 2, 3);
+        ListSeries second = new ListSeries(4, 5, 6);
+        conf.addSeries(first);
+        conf.addSeries(second);
+
+        UI ui = mock(UI.class);
+        ProxyChangeForwarder forwarder = new ProxyChangeForwarder(chart);
+        forwarder.setUI(ui);
+
+        forwarder.dataUpdated(new DataUpdatedEvent(second, 1.5, 0));
+        forwarder.dataUpdated(new DataUpdatedEvent(second, 2.5, 0));
+        forwarder.dataRemoved(new DataRemovedEvent(first, 2));
+        forwarder.dataUpdated(new DataUpdatedEvent(second, 3.5, 1));
+
+        verifyNoInteractions(chart.getElement());
+        runBeforeClientResponse(ui);
+
+        ArrayNode expected = (ArrayNode) JacksonUtils.readTree(
+                "[[\"update\",1,0,2.5],[\"remove\",0,2,null],[\"update\",1,1,3.5]]");
+        verify(chart.getElement()).executeJs(anyString(), eq(expected));
+    }
+
+    @Test
+    void pointChanges_withUI_flushedBeforeOtherChanges() {
+        TestChart chart = new TestChart();
+        Configuration conf = chart.getConfiguration();
+        ListSeries series = new ListSeries(1, 2, 3);
+        conf.addSeries(series);
+
+        ProxyChangeForwarder forwarder = new ProxyChangeForwarder(chart);
+        forwarder.setUI(mock(UI.class));
+
+        forwarder.dataRemoved(new DataRemovedEvent(series, 0));
+        forwarder.seriesStateChanged(new SeriesStateEvent(series, false));
+
+        verify(chart.getElement()).callJsFunction("__callPointFunction",
+                "remove", 0, 0);
+        verify(chart.getElement()).callJsFunction("__callSeriesFunction",
+                "hide", 0);
+    }
+
+    @Test
+    void setDownsampling_drawnChart_listensToXAxesExtremes() {
+        Chart chart = new Chart(ChartType.LINE);
+        Configuration conf = chart.getConfiguration();
+        ArrayDataSeries series = new ArrayDataSeries(new double[] { 0, 1, 2 },
+                new double[] { 0, 1, 0 });
+        conf.addSeries(series);
+        conf.addChangeListener(new ProxyChangeForwarder(chart));
+
+        series.setDownsampling(Downsampler.minMax(), 2);
+        assertTrue(ComponentUtil.hasEventListener(chart,
+                XAxesExtremesSetEvent.class));
+
+        series.setDownsampling(null, 0);
+        assertFalse(ComponentUtil.hasEventListener(chart,
+                XAxesExtremesSetEvent.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void runBeforeClientResponse(UI ui) {
+        ArgumentCaptor<SerializableConsumer<ExecutionContext>> captor = ArgumentCaptor
+                .forClass(SerializableConsumer.class);
+        verify(ui).beforeClientResponse(any(), captor.capture());
+        captor.getValue().accept(new ExecutionContext(ui, false));
+    }
 }
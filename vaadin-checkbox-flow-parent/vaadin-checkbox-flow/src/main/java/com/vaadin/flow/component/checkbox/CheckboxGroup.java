@@ -16,14 +16,17 @@
 package com.vaadin.flow.component.checkbox;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -47,6 +50,7 @@ import com.vaadin.flow.component.shared.InputField;
 import com.vaadin.flow.component.shared.SelectionPreservationHandler;
 import com.vaadin.flow.component.shared.SelectionPreservationMode;
 import com.vaadin.flow.component.shared.ValidationUtil;
+import com.vaadin.flow.component.shared.internal.ChildElementsReconciler;
 import com.vaadin.flow.component.shared.internal.ValidationController;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.binder.HasItemComponents;
@@ -387,11 +391,10 @@ public class CheckboxGroup<T>
                     item -> Objects.equals(getItemId(item.item), otherItemId))
                     .findFirst().ifPresent(this::updateCheckbox);
         } else {
-            keyMapper.removeAll();
             selectionPreservationHandler.handleDataChange(dataChangeEvent);
             rebuild();
             // Re-sync the presentation value so the element property uses the
-            // new keys matching the rebuilt checkboxes.
+            // keys matching the rebuilt checkboxes.
             setPresentationValue(getValue());
         }
     }
@@ -399,7 +402,7 @@ public class CheckboxGroup<T>
     private static class CheckBoxItem<T> extends Checkbox
             implements HasItemComponents.ItemComponent<T> {
 
-        private final T item;
+        private T item;
 
         private CheckBoxItem(String id, T item) {
             this.item = item;
@@ -813,26 +816,44 @@ public class CheckboxGroup<T>
     @SuppressWarnings("unchecked")
     private void rebuild() {
         synchronized (dataProvider) {
-            // Cache helper component before removal
-            Component helperComponent = getHelperComponent();
-
-            // Remove all known children (doesn't remove client-side-only
-            // children such as the label)
-            getChildren().forEach(this::remove);
+            List<T> items = getDataProvider()
+                    .fetch(DataViewUtils.getQuery(this)).map(item -> (T) item)
+                    .toList();
+
+            // Reuse the checkboxes and keys of the items that are still
+            // present, so that only the changed items are sent to the client
+            Map<Object, CheckBoxItem<T>> existingCheckboxes = new HashMap<>();
+            getCheckboxItems().forEach(checkbox -> existingCheckboxes
+                    .putIfAbsent(getItemId(checkbox.item), checkbox));
+            List<CheckBoxItem<T>> checkboxes = new ArrayList<>(items.size());
+            for (T item : items) {
+                CheckBoxItem<T> checkbox = existingCheckboxes
+                        .remove(getItemId(item));
+                if (checkbox == null) {
+                    checkbox = createCheckBox(item);
+                } else {
+                    keyMapper.refresh(item);
+                    checkbox.item = item;
+                    checkbox.getElement().setProperty(VALUE,
+                            keyMapper.key(item));
+                    updateCheckbox(checkbox);
+                }
+                checkboxes.add(checkbox);
+            }
+            existingCheckboxes.values()
+                    .forEach(checkbox -> keyMapper.remove(checkbox.item));
 
-            // reinsert helper component
+            // Remove all other known children except the helper component
+            // (doesn't remove client-side-only children such as the label)
             // see https://github.com/vaadin/vaadin-checkbox/issues/191
-            setHelperComponent(helperComponent);
-
-            final AtomicInteger itemCounter = new AtomicInteger(0);
-
-            getDataProvider().fetch(DataViewUtils.getQuery(this))
-                    .map(item -> createCheckBox((T) item))
-                    .forEach(component -> {
-                        add((Component) component);
-                        itemCounter.incrementAndGet();
-                    });
-            lastFetchedDataSize = itemCounter.get();
+            Component helperComponent = getHelperComponent();
+            Set<Component> retained = Collections
+                    .newSetFromMap(new IdentityHashMap<>());
+            retained.addAll(checkboxes);
+            getChildren().filter(child -> child != helperComponent
+                    && !retained.contains(child)).forEach(this::remove);
+            ChildElementsReconciler.appendInOrder(getElement(), checkboxes);
+            lastFetchedDataSize = checkboxes.size();
 
             // Ignore new size requests unless the last one has been executed
             // so as to avoid multiple beforeClientResponses.
@@ -858,7 +879,7 @@ public class CheckboxGroup<T>
                 .map(child -> (CheckBoxItem<T>) child);
     }
 
-    private Checkbox createCheckBox(T item) {
+    private CheckBoxItem<T> createCheckBox(T item) {
         CheckBoxItem<T> checkbox = new CheckBoxItem<>(keyMapper.key(item),
                 item);
         updateCheckbox(checkbox);
@@ -186,6 +186,31 @@ class CheckboxGroupTest {
                 "Captured value should be empty");
     }
 
+    @Test
+    void refreshAll_existingCheckboxesAndSelectionKept() {
+        List<String> items = new ArrayList<>(List.of("Foo", "Bar", "Baz"));
+        CheckboxGroup<String> checkboxGroup = new CheckboxGroup<>();
+        CheckboxGroupListDataView<String> dataView = checkboxGroup
+                .setItems(items);
+        checkboxGroup.setSelectionPreservationMode(
+                SelectionPreservationMode.PRESERVE_EXISTING);
+        checkboxGroup.setValue(Set.of("Baz"));
+        List<Component> checkboxes = checkboxGroup.getChildren().toList();
+
+        items.remove("Bar");
+        items.add(0, "Qux");
+        dataView.refreshAll();
+
+        List<Component> refreshed = checkboxGroup.getChildren().toList();
+        Assertions.assertEquals(3, refreshed.size());
+        Assertions.assertEquals("Qux",
+                ((Checkbox) refreshed.get(0)).getLabel());
+        Assertions.assertSame(checkboxes.get(0), refreshed.get(1));
+        Assertions.assertSame(checkboxes.get(2), refreshed.get(2));
+        Assertions.assertEquals(Set.of("Baz"), checkboxGroup.getValue());
+        Assertions.assertTrue(((Checkbox) refreshed.get(2)).getValue());
+    }
+
     @Test
     void deselectAll_selectionIsReset() {
         CheckboxGroup<String> checkboxGroup = new CheckboxGroup<>();
@@ -16,17 +16,31 @@
 package com.vaadin.flow.component.contextmenu;
 
 import java.io.Serializable;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.shared.internal.ChildElementsReconciler;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.internal.JacksonUtils;
+
+import tools.jackson.databind.node.ArrayNode;
 
 /**
  * A class which is utilized internally by components such as context menu and
  * menu bar. It transform the components added to the menus and their sub menus
  * to the hierarchical items array of the web component.
+ * <p>
+ * Each menu level is kept in its own container element between updates. When
+ * the menu changes, only the containers whose items have changed are updated,
+ * and the client only regenerates the items of those containers.
  *
  * @param <I>
  *            the menu item type
@@ -34,11 +48,20 @@ import com.vaadin.flow.function.SerializableConsumer;
 public class MenuItemsArrayGenerator<I extends MenuItemBase<?, I, ?>>
         implements Serializable {
 
+    private static final String CONTAINER_NODE_ID = "_containerNodeId";
+
     private Component menu;
 
     private boolean updateScheduled = false;
     private final Element container;
 
+    /**
+     * The container of each menu level, by the menu or the parent item of the
+     * level.
+     */
+    private final Map<Object, Element> subContainers = new IdentityHashMap<>();
+    private int generatedNodeId = -1;
+
     public MenuItemsArrayGenerator(Component menu) {
         this.menu = menu;
         container = new Element("div");
@@ -46,6 +69,8 @@ public class MenuItemsArrayGenerator<I extends MenuItemBase<?, I, ?>>
 
         menu.getUI().ifPresent(this::addContextMenuDependencies);
         menu.addAttachListener(e -> addContextMenuDependencies(e.getUI()));
+        // The client-side items are lost when the menu is detached
+        menu.addDetachListener(e -> generatedNodeId = -1);
     }
 
     /**
@@ -58,42 +83,110 @@ public class MenuItemsArrayGenerator<I extends MenuItemBase<?, I, ?>>
         }
         updateScheduled = true;
         runBeforeClientResponse(ui -> {
-            container.removeAllChildren();
-            getItems().forEach(this::resetContainers);
-
-            int containerNodeId = createNewContainer(menu.getChildren());
-            getElement().callJsFunction("$connector.generateItems",
-                    containerNodeId);
+            List<MenuLevel> levels = new ArrayList<>();
+            collectLevels(menu, null, null, menu.getChildren().toList(),
+                    levels);
+            Set<Integer> changedNodeIds = updateContainers(levels);
+
+            int containerNodeId = subContainers.get(menu).getNode().getId();
+            if (containerNodeId != generatedNodeId) {
+                generatedNodeId = containerNodeId;
+                getElement().callJsFunction("$connector.generateItems",
+                        containerNodeId);
+            } else if (!changedNodeIds.isEmpty()) {
+                ArrayNode changed = JacksonUtils.createArrayNode();
+                changedNodeIds.forEach(id -> changed.add(id.intValue()));
+                getElement().callJsFunction("$connector.generateItems",
+                        containerNodeId, changed);
+            }
 
             updateScheduled = false;
         });
     }
 
-    private void resetContainers(MenuItemBase<?, I, ?> menuItem) {
-        if (!menuItem.isParentItem()) {
-            menuItem.getElement().removeProperty("_containerNodeId");
-            return;
-        }
-        SubMenuBase<?, I, ?> subMenu = menuItem.getSubMenu();
-
-        int containerNodeId = createNewContainer(subMenu.getChildren());
-        menuItem.getElement().setProperty("_containerNodeId", containerNodeId);
-
-        subMenu.getItems().stream().forEach(this::resetContainers);
+    private void collectLevels(Object owner, MenuItemBase<?, ?, ?> parentItem,
+            Object parentOwner, List<Component> children,
+            List<MenuLevel> levels) {
+        levels.add(new MenuLevel(owner, parentItem, parentOwner, children));
+        children.stream().filter(MenuItemBase.class::isInstance)
+                .map(child -> (MenuItemBase<?, ?, ?>) child)
+                .filter(MenuItemBase::isParentItem)
+                .forEach(item -> collectLevels(item, item, owner,
+                        item.getSubMenu().getChildren().toList(), levels));
     }
 
-    private int createNewContainer(Stream<Component> components) {
-        Element subContainer = new Element("div");
-        container.appendChild(subContainer);
+    /**
+     * Updates the containers to match the given menu levels and returns the
+     * node ids of the containers whose items have changed. The containers are
+     * compared before any of them is updated, because updating a container
+     * can move an item out of another container.
+     */
+    private Set<Integer> updateContainers(List<MenuLevel> levels) {
+        List<MenuLevel> changedLevels = levels.stream()
+                .filter(level -> !hasChildren(subContainers.get(level.owner()),
+                        level.children()))
+                .toList();
+
+        Set<Object> owners = Collections
+                .newSetFromMap(new IdentityHashMap<>(levels.size()));
+        levels.forEach(level -> owners.add(level.owner()));
+        subContainers.entrySet().removeIf(entry -> {
+            if (owners.contains(entry.getKey())) {
+                return false;
+            }
+            container.removeChild(entry.getValue());
+            return true;
+        });
+
+        Set<Integer> changedNodeIds = new LinkedHashSet<>();
+        for (MenuLevel level : changedLevels) {
+            Element subContainer = subContainers.computeIfAbsent(
+                    level.owner(), owner -> {
+                        Element newContainer = new Element("div");
+                        container.appendChild(newContainer);
+                        return newContainer;
+                    });
+            ChildElementsReconciler.reconcile(subContainer, level.children());
+            changedNodeIds.add(subContainer.getNode().getId());
+        }
 
-        components
-                .forEach(child -> subContainer.appendChild(child.getElement()));
-        return subContainer.getNode().getId();
+        for (MenuLevel level : levels) {
+            int levelNodeId = subContainers.get(level.owner()).getNode()
+                    .getId();
+            level.children().stream().filter(MenuItemBase.class::isInstance)
+                    .map(child -> (MenuItemBase<?, ?, ?>) child)
+                    .filter(item -> !item.isParentItem() && item.getElement()
+                            .hasProperty(CONTAINER_NODE_ID))
+                    .forEach(item -> {
+                        item.getElement().removeProperty(CONTAINER_NODE_ID);
+                        changedNodeIds.add(levelNodeId);
+                    });
+            if (level.parentItem() != null) {
+                Element itemElement = level.parentItem().getElement();
+                int itemNodeId = itemElement.getProperty(CONTAINER_NODE_ID,
+                        -1);
+                if (itemNodeId != levelNodeId) {
+                    itemElement.setProperty(CONTAINER_NODE_ID, levelNodeId);
+                    changedNodeIds.add(subContainers.get(level.parentOwner())
+                            .getNode().getId());
+                }
+            }
+        }
+        return changedNodeIds;
     }
 
-    private Stream<MenuItemBase> getItems() {
-        return menu.getChildren().filter(MenuItemBase.class::isInstance)
-                .map(MenuItemBase.class::cast);
+    private static boolean hasChildren(Element subContainer,
+            List<Component> children) {
+        if (subContainer == null
+                || subContainer.getChildCount() != children.size()) {
+            return false;
+        }
+        for (int i = 0; i < children.size(); i++) {
+            if (subContainer.getChild(i) != children.get(i).getElement()) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private void runBeforeClientResponse(SerializableConsumer<UI> command) {
@@ -108,4 +201,8 @@ public class MenuItemsArrayGenerator<I extends MenuItemBase<?, I, ?>>
     private void addContextMenuDependencies(UI ui) {
         ui.getInternals().addComponentDependencies(ContextMenu.class);
     }
+
+    private record MenuLevel(Object owner, MenuItemBase<?, ?, ?> parentItem,
+            Object parentOwner, List<Component> children) {
+    }
 }
@@ -18,14 +18,26 @@ function initLazy(contextMenu, appId) {
     return;
   }
 
+  let itemsCache = new Map();
+
   contextMenu.$connector = {
     /**
      * Generates and assigns the items to the context menu.
      *
+     * When the ids of the changed containers are given, the previously
+     * generated items of the other containers are reused.
+     *
      * @param {number} nodeId
+     * @param {number[] | undefined} changedNodeIds
      */
-    generateItems(nodeId) {
-      const items = generateItemsTree(appId, nodeId);
+    generateItems(nodeId, changedNodeIds) {
+      const nextItemsCache = new Map();
+      const items = generateItemsTree(appId, nodeId, {
+        previous: changedNodeIds ? itemsCache : new Map(),
+        next: nextItemsCache,
+        changedNodeIds
+      });
+      itemsCache = nextItemsCache;
 
       contextMenu.items = items;
     }
@@ -39,16 +51,36 @@ function initLazy(contextMenu, appId) {
  *
  * The app id is required to access the store of Flow DOM nodes.
  *
+ * When a cache is given, the items generated for the containers that are
+ * not in `cache.changedNodeIds` are taken from `cache.previous`, and all the
+ * generated items are stored in `cache.next`.
+ *
  * @param {string} appId
  * @param {number} nodeId
+ * @param {{previous: Map, next: Map, changedNodeIds: number[] | undefined} | undefined} cache
  */
-function generateItemsTree(appId, nodeId) {
+function generateItemsTree(appId, nodeId, cache) {
+  const cachedItems = cache && cache.previous.get(nodeId);
+  if (cachedItems && !cache.changedNodeIds.includes(nodeId)) {
+    // The items of the container are unchanged, only the sub menus
+    // need to be checked for changes
+    const items = cachedItems.map((item) => {
+      item.className = item.component.className;
+      if (item.children) {
+        item.children = generateItemsTree(appId, item.component._containerNodeId, cache);
+      }
+      return item;
+    });
+    cache.next.set(nodeId, cachedItems);
+    return items;
+  }
+
   const container = getContainer(appId, nodeId);
   if (!container) {
     return;
   }
 
-  return Array.from(container.children).map((child) => {
+  const items = Array.from(container.children).map((child) => {
     const item = {
       component: child,
       checked: child._checked,
@@ -58,11 +90,15 @@ function generateItemsTree(appId, nodeId) {
     };
     // Do not hardcode tag name to allow `vaadin-menu-bar-item`
     if (child._hasVaadinItemMixin && child._containerNodeId) {
-      item.children = generateItemsTree(appId, child._containerNodeId);
+      item.children = generateItemsTree(appId, child._containerNodeId, cache);
     }
     child._item = item;
     return item;
   });
+  if (cache) {
+    cache.next.set(nodeId, items);
+  }
+  return items;
 }
 
 /**
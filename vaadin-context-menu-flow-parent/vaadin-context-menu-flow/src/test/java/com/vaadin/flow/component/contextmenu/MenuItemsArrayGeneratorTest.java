@@ -0,0 +1,129 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.contextmenu;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.vaadin.flow.dom.Element;
+import com.vaadin.tests.MockUIExtension;
+
+import tools.jackson.databind.node.ArrayNode;
+
+class MenuItemsArrayGeneratorTest {
+    @RegisterExtension
+    MockUIExtension ui = new MockUIExtension();
+
+    private ContextMenu menu;
+    private MenuItem foo;
+    private MenuItem bar;
+
+    @BeforeEach
+    void setup() {
+        menu = new ContextMenu();
+        foo = menu.addItem("foo");
+        bar = menu.addItem("bar");
+        bar.getSubMenu().addItem("baz");
+        ui.add(menu);
+    }
+
+    @Test
+    void attach_allItemsGenerated() {
+        List<Object> parameters = getGenerateItemsParameters();
+
+        Assertions.assertInstanceOf(Integer.class, parameters.getLast());
+        Assertions.assertEquals(foo.getElement().getParent(),
+                bar.getElement().getParent());
+        Assertions.assertTrue(
+                bar.getElement().hasProperty("_containerNodeId"));
+        Assertions.assertFalse(
+                foo.getElement().hasProperty("_containerNodeId"));
+    }
+
+    @Test
+    void addSubMenuItem_onlySubMenuContainerChanged() {
+        getGenerateItemsParameters();
+        Element rootContainer = foo.getElement().getParent();
+
+        bar.getSubMenu().addItem("qux");
+        List<Object> parameters = getGenerateItemsParameters();
+
+        ArrayNode changedNodeIds = (ArrayNode) parameters.getLast();
+        Assertions.assertEquals(1, changedNodeIds.size());
+        Assertions.assertEquals(
+                bar.getElement().getProperty("_containerNodeId", -1),
+                changedNodeIds.get(0).asInt());
+        Assertions.assertSame(rootContainer, foo.getElement().getParent());
+    }
+
+    @Test
+    void addSubMenu_parentContainerChanged() {
+        getGenerateItemsParameters();
+        int rootContainerId = foo.getElement().getParent().getNode().getId();
+
+        foo.getSubMenu().addItem("qux");
+        List<Object> parameters = getGenerateItemsParameters();
+
+        ArrayNode changedNodeIds = (ArrayNode) parameters.getLast();
+        Assertions.assertEquals(2, changedNodeIds.size());
+        Assertions.assertTrue(rootContainerId == changedNodeIds.get(0).asInt()
+                || rootContainerId == changedNodeIds.get(1).asInt());
+        Assertions.assertTrue(
+                foo.getElement().hasProperty("_containerNodeId"));
+    }
+
+    @Test
+    void removeSubMenuItems_containerNodeIdRemoved() {
+        getGenerateItemsParameters();
+
+        bar.getSubMenu().removeAll();
+        getGenerateItemsParameters();
+
+        Assertions.assertFalse(
+                bar.getElement().hasProperty("_containerNodeId"));
+    }
+
+    @Test
+    void detachAndAttach_allItemsGenerated() {
+        getGenerateItemsParameters();
+
+        ui.remove(menu);
+        ui.add(menu);
+        List<Object> parameters = getGenerateItemsParameters();
+
+        Assertions.assertInstanceOf(Integer.class, parameters.getLast());
+        Assertions.assertEquals(
+                bar.getSubMenu().getItems().getFirst().getElement()
+                        .getParent().getNode().getId(),
+                bar.getElement().getProperty("_containerNodeId", -1));
+    }
+
+    private List<Object> getGenerateItemsParameters() {
+        ui.fakeClientCommunication();
+        List<List<Object>> invocations = ui.dumpPendingJavaScriptInvocations()
+                .stream()
+                .filter(invocation -> invocation.getInvocation().getExpression()
+                        .contains("$connector.generateItems"))
+                .map(invocation -> invocation.getInvocation().getParameters())
+                .toList();
+        Assertions.assertEquals(1, invocations.size());
+        return invocations.getFirst();
+    }
+}
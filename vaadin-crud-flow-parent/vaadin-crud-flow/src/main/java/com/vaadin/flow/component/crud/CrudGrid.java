@@ -8,15 +8,22 @@
  */
 package com.vaadin.flow.component.crud;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.HeaderRow;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.provider.ConfigurableFilterDataProvider;
 import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.value.HasValueChangeMode;
 import com.vaadin.flow.data.value.ValueChangeMode;
+import com.vaadin.flow.internal.StateTree;
 import com.vaadin.flow.shared.util.SharedUtil;
 
 /**
@@ -33,6 +40,12 @@ public class CrudGrid<E> extends Grid<E> {
     private final CrudFilter filter = new CrudFilter();
     private DataProvider<E, ?> dataProvider;
 
+    private final List<TextField> filterFields = new ArrayList<>();
+    private ValueChangeMode filterValueChangeMode = ValueChangeMode.LAZY;
+    private int filterValueChangeTimeout = HasValueChangeMode.DEFAULT_CHANGE_TIMEOUT;
+    private Map<String, String> constraintsBeforeChange;
+    private StateTree.ExecutionRegistration filterRefreshRegistration;
+
     /**
      * Instantiates a new CrudGrid for the supplied bean type.
      *
@@ -77,6 +90,12 @@ public class CrudGrid<E> extends Grid<E> {
                     + SharedUtil.propertyIdToHumanFriendly(column.getKey()));
 
             field.addValueChangeListener(event -> {
+                boolean refreshScheduled = constraintsBeforeChange != null;
+                if (!refreshScheduled) {
+                    constraintsBeforeChange = new HashMap<>(
+                            filter.getConstraints());
+                }
+
                 filter.getConstraints().remove(column.getKey());
 
                 if (!field.isEmpty()) {
@@ -84,15 +103,112 @@ public class CrudGrid<E> extends Grid<E> {
                             event.getValue());
                 }
 
-                super.getDataProvider().refreshAll();
+                if (!refreshScheduled) {
+                    scheduleFilterRefresh();
+                }
             });
 
-            field.setValueChangeMode(ValueChangeMode.EAGER);
+            field.setValueChangeMode(filterValueChangeMode);
+            field.setValueChangeTimeout(filterValueChangeTimeout);
+            filterFields.add(field);
 
             filterRow.getCell(column).setComponent(field);
             field.setSizeFull();
             field.setPlaceholder("Filter");
         });
+
+        addDetachListener(event -> {
+            // A scheduled refresh doesn't run for a detached grid
+            if (filterRefreshRegistration != null) {
+                filterRefreshRegistration.remove();
+            }
+            refreshFilter();
+        });
+    }
+
+    /**
+     * Refreshes the data once all filter changes made during the current
+     * round-trip have been applied, or immediately if the grid is not
+     * attached.
+     */
+    private void scheduleFilterRefresh() {
+        UI ui = getUI().orElse(null);
+        if (ui == null) {
+            refreshFilter();
+        } else {
+            filterRefreshRegistration = ui.beforeClientResponse(this,
+                    context -> refreshFilter());
+        }
+    }
+
+    private void refreshFilter() {
+        filterRefreshRegistration = null;
+        Map<String, String> previousConstraints = constraintsBeforeChange;
+        if (previousConstraints == null) {
+            // Already refreshed
+            return;
+        }
+        constraintsBeforeChange = null;
+        // Skip the query if the changes cancelled each other out
+        if (!Objects.equals(previousConstraints, filter.getConstraints())) {
+            super.getDataProvider().refreshAll();
+        }
+    }
+
+    /**
+     * Sets the value change mode of the default header filter fields. The
+     * default is {@link ValueChangeMode#LAZY}, which refreshes the data only
+     * after the user has paused typing for the
+     * {@link #setFilterValueChangeTimeout(int) timeout}. Has no effect if the
+     * default filters are not enabled.
+     *
+     * @param valueChangeMode
+     *            the value change mode, not {@code null}
+     */
+    public void setFilterValueChangeMode(ValueChangeMode valueChangeMode) {
+        Objects.requireNonNull(valueChangeMode,
+                "Value change mode cannot be null");
+        filterValueChangeMode = valueChangeMode;
+        filterFields
+                .forEach(field -> field.setValueChangeMode(valueChangeMode));
+    }
+
+    /**
+     * Gets the value change mode of the default header filter fields.
+     *
+     * @return the value change mode
+     */
+    public ValueChangeMode getFilterValueChangeMode() {
+        return filterValueChangeMode;
+    }
+
+    /**
+     * Sets the value change timeout of the default header filter fields in
+     * milliseconds, used by the {@link ValueChangeMode#LAZY} and
+     * {@link ValueChangeMode#TIMEOUT} modes. Defaults to
+     * {@value HasValueChangeMode#DEFAULT_CHANGE_TIMEOUT}.
+     *
+     * @param valueChangeTimeout
+     *            the timeout in milliseconds, not negative
+     */
+    public void setFilterValueChangeTimeout(int valueChangeTimeout) {
+        if (valueChangeTimeout < 0) {
+            throw new IllegalArgumentException(
+                    "Value change timeout cannot be negative");
+        }
+        filterValueChangeTimeout = valueChangeTimeout;
+        filterFields.forEach(
+                field -> field.setValueChangeTimeout(valueChangeTimeout));
+    }
+
+    /**
+     * Gets the value change timeout of the default header filter fields in
+     * milliseconds.
+     *
+     * @return the timeout in milliseconds
+     */
+    public int getFilterValueChangeTimeout() {
+        return filterValueChangeTimeout;
     }
 
     private void setupSorting() {
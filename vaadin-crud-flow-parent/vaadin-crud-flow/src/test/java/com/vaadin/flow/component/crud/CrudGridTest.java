@@ -0,0 +1,137 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.crud;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.ListDataProvider;
+import com.vaadin.flow.data.value.ValueChangeMode;
+
+class CrudGridTest {
+
+    private CrudGrid<Person> grid;
+    private AtomicInteger refreshCount;
+
+    @BeforeEach
+    void setup() {
+        grid = new CrudGrid<>(Person.class, true);
+        ListDataProvider<Person> dataProvider = DataProvider
+                .ofCollection(List.of(new Person()));
+        grid.setDataProvider(dataProvider);
+        refreshCount = new AtomicInteger();
+        dataProvider.addDataProviderListener(
+                event -> refreshCount.incrementAndGet());
+    }
+
+    @Test
+    void filterFields_lazyByDefault() {
+        Assertions.assertEquals(ValueChangeMode.LAZY,
+                getFilterField("name").getValueChangeMode());
+
+        grid.setFilterValueChangeMode(ValueChangeMode.TIMEOUT);
+        grid.setFilterValueChangeTimeout(1000);
+
+        Assertions.assertEquals(ValueChangeMode.TIMEOUT,
+                getFilterField("name").getValueChangeMode());
+        Assertions.assertEquals(1000,
+                getFilterField("city").getValueChangeTimeout());
+    }
+
+    @Test
+    void notAttached_filterChange_refreshedImmediately() {
+        getFilterField("name").setValue("smith");
+
+        Assertions.assertEquals(Map.of("name", "smith"),
+                grid.getFilter().getConstraints());
+        Assertions.assertEquals(1, refreshCount.get());
+    }
+
+    @Test
+    void attached_changesInSameRoundTrip_refreshedOnce() {
+        UI ui = new UI();
+        ui.add(grid);
+
+        getFilterField("name").setValue("smith");
+        getFilterField("city").setValue("Turku");
+        Assertions.assertEquals(0, refreshCount.get());
+
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+
+        Assertions.assertEquals(
+                Map.of("name", "smith", "city", "Turku"),
+                grid.getFilter().getConstraints());
+        Assertions.assertEquals(1, refreshCount.get());
+    }
+
+    @Test
+    void attached_changesCancelOut_notRefreshed() {
+        UI ui = new UI();
+        ui.add(grid);
+
+        getFilterField("name").setValue("smith");
+        getFilterField("name").clear();
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+
+        Assertions.assertTrue(grid.getFilter().getConstraints().isEmpty());
+        Assertions.assertEquals(0, refreshCount.get());
+    }
+
+    @Test
+    void attached_filterChange_detachedAndReattached_refreshedOnce() {
+        UI ui = new UI();
+        ui.add(grid);
+
+        getFilterField("name").setValue("smith");
+        ui.remove(grid);
+        Assertions.assertEquals(1, refreshCount.get());
+
+        ui.add(grid);
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+
+        Assertions.assertEquals(1, refreshCount.get());
+    }
+
+    private TextField getFilterField(String key) {
+        return grid.getHeaderRows().stream()
+                .map(row -> row.getCell(grid.getColumnByKey(key))
+                        .getComponent())
+                .filter(TextField.class::isInstance)
+                .map(TextField.class::cast).findFirst().orElseThrow();
+    }
+
+    public static class Person {
+        private String name;
+        private String city;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+    }
+}
@@ -78,6 +78,12 @@ public class Dashboard extends Component
 
     private boolean pendingUpdate = false;
 
+    /**
+     * The items as last sent to the client, or {@code null} if the items
+     * need to be sent in full.
+     */
+    private List<ClientItem> clientItems;
+
     /**
      * Creates an empty dashboard.
      */
@@ -649,6 +655,7 @@ public class Dashboard extends Component
         getElement().executeJs(
                 "Vaadin.FlowComponentHost.patchVirtualContainer(this);");
         customizeItemMovedEvent();
+        clientItems = null;
         doUpdateClient();
     }
 
@@ -694,26 +701,23 @@ public class Dashboard extends Component
     }
 
     private void updateClientItems() {
-        ArrayNode itemsJson = JacksonUtils.createArrayNode();
-        for (Component component : childrenComponents) {
-            if (component instanceof DashboardSection section) {
-                List<DashboardWidget> sectionWidgets = section.getWidgets();
-                ArrayNode widgetsJson = sectionWidgets.stream()
-                        .map(Dashboard::getWidgetRepresentation)
-                        .collect(JacksonUtils.asArray());
-
-                ObjectNode sectionJson = JacksonUtils.createObjectNode();
-                sectionJson.put("id", section.getElement().getNode().getId());
-                sectionJson.set("items", widgetsJson);
-                itemsJson.add(sectionJson);
-            } else {
-                ObjectNode widgetJson = getWidgetRepresentation(
-                        (DashboardWidget) component);
-                itemsJson.add(widgetJson);
+        List<ClientItem> items = childrenComponents.stream()
+                .map(Dashboard::getClientItem).toList();
+        String appId = UI.getCurrentOrThrow().getInternals().getAppId();
+        if (clientItems == null) {
+            sendItems(items.stream().map(Dashboard::getItemRepresentation)
+                    .collect(JacksonUtils.asArray()), appId);
+        } else {
+            ArrayNode patch = JacksonUtils.createArrayNode();
+            addLevelPatch(patch, null, clientItems, items);
+            if (!patch.isEmpty()) {
+                sendItemsPatch(patch, appId);
             }
         }
+        clientItems = items;
+    }
 
-        String appId = UI.getCurrentOrThrow().getInternals().getAppId();
+    private void sendItems(ArrayNode itemsJson, String appId) {
         getElement().executeJs(
                 """
                         const items = $0;
@@ -732,13 +736,119 @@ public class Dashboard extends Component
                 itemsJson, appId);
     }
 
-    private static ObjectNode getWidgetRepresentation(DashboardWidget widget) {
-        ObjectNode widgetJson = JacksonUtils.createObjectNode();
-        widgetJson.put("id", widget.getElement().getNode().getId());
-        widgetJson.put("colspan", widget.getColspan());
-        widgetJson.put("rowspan", widget.getRowspan());
+    private void sendItemsPatch(ArrayNode patch, String appId) {
+        getElement().executeJs(
+                """
+                        const patch = $0;
+                        const appId = $1;
+                        function populateComponents(items) {
+                          items.forEach(item => {
+                            item.component = window.Vaadin.Flow.clients[appId].getByNodeId(item.id);
+                            if (item.items) {
+                              populateComponents(item.items);
+                            }
+                          });
+                        }
+                        const items = (this.items || []).map(item => item.items ? { ...item, items: [...item.items] } : item);
+                        patch.forEach(op => {
+                          const level = op.section == null ? items : items.find(item => item.id === op.section).items;
+                          if (op.type === 'order') {
+                            populateComponents(op.added);
+                            const itemsById = new Map([...level, ...op.added].map(item => [item.id, item]));
+                            level.splice(0, level.length, ...op.ids.map(id => itemsById.get(id)));
+                          } else if (op.type === 'update') {
+                            const index = level.findIndex(item => item.id === op.id);
+                            level[index] = { ...level[index], colspan: op.colspan, rowspan: op.rowspan };
+                          }
+                        });
+                        this.items = items;
+                        """,
+                patch, appId);
+    }
+
+    /**
+     * Adds the operations that update the items of a level from the old
+     * items to the new ones. The order of a level is sent only if it has
+     * changed, together with the representations of the added items, and the
+     * size of an existing widget only if it has been resized.
+     */
+    private static void addLevelPatch(ArrayNode patch, Integer sectionId,
+            List<ClientItem> oldItems, List<ClientItem> newItems) {
+        Map<Integer, ClientItem> oldItemsById = oldItems.stream().collect(
+                Collectors.toMap(ClientItem::id, Function.identity()));
+        List<Integer> newIds = newItems.stream().map(ClientItem::id).toList();
+        if (!newIds.equals(oldItems.stream().map(ClientItem::id).toList())) {
+            ObjectNode operation = createOperation("order", sectionId);
+            ArrayNode ids = JacksonUtils.createArrayNode();
+            newIds.forEach(id -> ids.add(id.intValue()));
+            operation.set("ids", ids);
+            operation.set("added", newItems.stream()
+                    .filter(item -> !oldItemsById.containsKey(item.id()))
+                    .map(Dashboard::getItemRepresentation)
+                    .collect(JacksonUtils.asArray()));
+            patch.add(operation);
+        }
+        for (ClientItem item : newItems) {
+            ClientItem oldItem = oldItemsById.get(item.id());
+            if (oldItem == null) {
+                continue;
+            }
+            if (item.items() != null && oldItem.items() != null) {
+                addLevelPatch(patch, item.id(), oldItem.items(),
+                        item.items());
+            } else if (item.colspan() != oldItem.colspan()
+                    || item.rowspan() != oldItem.rowspan()) {
+                ObjectNode operation = createOperation("update", sectionId);
+                operation.put("id", item.id());
+                operation.put("colspan", item.colspan());
+                operation.put("rowspan", item.rowspan());
+                patch.add(operation);
+            }
+        }
+    }
 
-        return widgetJson;
+    private static ObjectNode createOperation(String type, Integer sectionId) {
+        ObjectNode operation = JacksonUtils.createObjectNode();
+        operation.put("type", type);
+        if (sectionId != null) {
+            operation.put("section", sectionId);
+        }
+        return operation;
+    }
+
+    private static ClientItem getClientItem(Component component) {
+        int id = component.getElement().getNode().getId();
+        if (component instanceof DashboardSection section) {
+            return new ClientItem(id, 0, 0, section.getWidgets().stream()
+                    .map(Dashboard::getClientItem).toList());
+        }
+        DashboardWidget widget = (DashboardWidget) component;
+        return new ClientItem(id, widget.getColspan(), widget.getRowspan(),
+                null);
+    }
+
+    private static ObjectNode getItemRepresentation(ClientItem item) {
+        ObjectNode itemJson = JacksonUtils.createObjectNode();
+        itemJson.put("id", item.id());
+        if (item.items() != null) {
+            itemJson.set("items", item.items().stream()
+                    .map(Dashboard::getItemRepresentation)
+                    .collect(JacksonUtils.asArray()));
+        } else {
+            itemJson.put("colspan", item.colspan());
+            itemJson.put("rowspan", item.rowspan());
+        }
+        return itemJson;
+    }
+
+    /**
+     * The state of a widget or a section as sent to the client.
+     *
+     * @param items
+     *            the widgets of a section, or {@code null} for a widget
+     */
+    private record ClientItem(int id, int colspan, int rowspan,
+            List<ClientItem> items) implements Serializable {
     }
 
     private void doRemoveAll() {
@@ -8,12 +8,17 @@
  */
 package com.vaadin.flow.component.dashboard;
 
+import java.util.Objects;
+
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.ClientCallable;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.component.shared.SlotUtils;
 import com.vaadin.flow.dom.SignalBinding;
+import com.vaadin.flow.function.SerializableSupplier;
 import com.vaadin.flow.signals.Signal;
 
 /**
@@ -34,6 +39,12 @@ public class DashboardWidget extends Component {
 
     private int rowspan = 1;
 
+    private SerializableSupplier<? extends Component> lazyContentSupplier;
+
+    private boolean detachLazyContentOutsideViewport;
+
+    private boolean inViewport;
+
     /**
      * Creates an empty widget.
      */
@@ -172,6 +183,61 @@ public class DashboardWidget extends Component {
      *            the content to set
      */
     public void setContent(Component content) {
+        lazyContentSupplier = null;
+        doSetContent(content);
+    }
+
+    /**
+     * Sets the content of the widget to be created with the given supplier
+     * when the widget is near the viewport, replacing any existing content.
+     * Until then, the widget is rendered without content, with its title and
+     * header content as a placeholder.
+     * <p>
+     * This is useful for dashboards with many widgets with heavy content, such
+     * as charts or grids, as only the content of the widgets that are scrolled
+     * into view is created and rendered.
+     *
+     * @param contentSupplier
+     *            the supplier that creates the content, not {@code null}
+     * @see #setLazyContent(SerializableSupplier, boolean)
+     */
+    public void setLazyContent(
+            SerializableSupplier<? extends Component> contentSupplier) {
+        setLazyContent(contentSupplier, false);
+    }
+
+    /**
+     * Sets the content of the widget to be created with the given supplier
+     * when the widget is near the viewport, replacing any existing content.
+     * Until then, the widget is rendered without content, with its title and
+     * header content as a placeholder.
+     * <p>
+     * When {@code detachOutsideViewport} is {@code true}, the content is also
+     * removed when the widget is scrolled far out of the viewport, and created
+     * again with the supplier when the widget is scrolled back into view. This
+     * keeps the memory usage of the dashboard bounded by the widgets in view,
+     * but the state of the content is not preserved.
+     *
+     * @param contentSupplier
+     *            the supplier that creates the content, not {@code null}
+     * @param detachOutsideViewport
+     *            {@code true} to remove the content when the widget is far out
+     *            of the viewport, {@code false} to keep it once created
+     */
+    public void setLazyContent(
+            SerializableSupplier<? extends Component> contentSupplier,
+            boolean detachOutsideViewport) {
+        Objects.requireNonNull(contentSupplier,
+                "The content supplier cannot be null");
+        doSetContent(inViewport ? contentSupplier.get() : null);
+        lazyContentSupplier = contentSupplier;
+        detachLazyContentOutsideViewport = detachOutsideViewport;
+        if (isAttached()) {
+            observeViewport();
+        }
+    }
+
+    private void doSetContent(Component content) {
         Component initialContent = getContent();
         if (initialContent == content) {
             return;
@@ -252,6 +318,44 @@ public class DashboardWidget extends Component {
         return true;
     }
 
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        if (lazyContentSupplier != null) {
+            observeViewport();
+        }
+    }
+
+    private void observeViewport() {
+        // The root margin makes the content to be created before the widget
+        // is scrolled into view, and removed only when it is more than a
+        // viewport height away from it
+        getElement().executeJs(
+                """
+                        if (this.__viewportObserver) {
+                          return;
+                        }
+                        this.__viewportObserver = new IntersectionObserver((entries) => {
+                          const entry = entries[entries.length - 1];
+                          this.$server.updateInViewport(entry.isIntersecting);
+                        }, { rootMargin: '100%' });
+                        this.__viewportObserver.observe(this);
+                        """);
+    }
+
+    @ClientCallable
+    void updateInViewport(boolean inViewport) {
+        this.inViewport = inViewport;
+        if (lazyContentSupplier == null) {
+            return;
+        }
+        if (inViewport && getContent() == null) {
+            doSetContent(lazyContentSupplier.get());
+        } else if (!inViewport && detachLazyContentOutsideViewport) {
+            doSetContent(null);
+        }
+    }
+
     private void notifyParentDashboardOrSection() {
         getParent().ifPresent(parent -> {
             if (parent instanceof Dashboard dashboard) {
@@ -22,8 +22,12 @@ import org.junit.jupiter.api.Test;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.component.internal.PendingJavaScriptInvocation;
 import com.vaadin.flow.component.shared.HasThemeVariant;
 
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+
 class DashboardTest extends DashboardTestBase {
     private Dashboard dashboard;
 
@@ -1394,4 +1398,95 @@ class DashboardTest extends DashboardTestBase {
             Assertions.assertEquals(expectedItems, eventItems.get());
         }
     }
+
+    @Test
+    void resizeWidget_onlyResizeSentToClient() {
+        DashboardWidget widget1 = getNewWidget();
+        DashboardWidget widget2 = getNewWidget();
+        dashboard.add(widget1, widget2);
+        ui.fakeClientCommunication();
+        ui.dumpPendingJavaScriptInvocations();
+
+        widget2.setColspan(2);
+        ArrayNode patch = getItemsPatch();
+
+        Assertions.assertEquals(1, patch.size());
+        JsonNode operation = patch.get(0);
+        Assertions.assertEquals("update", operation.get("type").asString());
+        Assertions.assertEquals(widget2.getElement().getNode().getId(),
+                operation.get("id").asInt());
+        Assertions.assertEquals(2, operation.get("colspan").asInt());
+        Assertions.assertFalse(operation.has("section"));
+    }
+
+    @Test
+    void addWidgetToSection_onlySectionOrderSentToClient() {
+        DashboardWidget widget = getNewWidget();
+        dashboard.add(widget);
+        DashboardSection section = dashboard.addSection();
+        section.add(getNewWidget());
+        ui.fakeClientCommunication();
+        ui.dumpPendingJavaScriptInvocations();
+
+        DashboardWidget newWidget = getNewWidget();
+        section.add(newWidget);
+        ArrayNode patch = getItemsPatch();
+
+        Assertions.assertEquals(1, patch.size());
+        JsonNode operation = patch.get(0);
+        Assertions.assertEquals("order", operation.get("type").asString());
+        Assertions.assertEquals(section.getElement().getNode().getId(),
+                operation.get("section").asInt());
+        Assertions.assertEquals(2, operation.get("ids").size());
+        Assertions.assertEquals(1, operation.get("added").size());
+        Assertions.assertEquals(newWidget.getElement().getNode().getId(),
+                operation.get("added").get(0).get("id").asInt());
+    }
+
+    @Test
+    void removeWidget_orderSentToClient() {
+        DashboardWidget widget1 = getNewWidget();
+        DashboardWidget widget2 = getNewWidget();
+        dashboard.add(widget1, widget2);
+        ui.fakeClientCommunication();
+        ui.dumpPendingJavaScriptInvocations();
+
+        dashboard.remove(widget1);
+        ArrayNode patch = getItemsPatch();
+
+        Assertions.assertEquals(1, patch.size());
+        JsonNode operation = patch.get(0);
+        Assertions.assertEquals("order", operation.get("type").asString());
+        Assertions.assertEquals(1, operation.get("ids").size());
+        Assertions.assertEquals(widget2.getElement().getNode().getId(),
+                operation.get("ids").get(0).asInt());
+        Assertions.assertTrue(operation.get("added").isEmpty());
+    }
+
+    @Test
+    void detachAndAttach_allItemsSentToClient() {
+        dashboard.add(getNewWidget());
+        ui.fakeClientCommunication();
+        ui.dumpPendingJavaScriptInvocations();
+
+        ui.remove(dashboard);
+        ui.add(dashboard);
+        ui.fakeClientCommunication();
+
+        Assertions.assertTrue(ui.dumpPendingJavaScriptInvocations().stream()
+                .anyMatch(invocation -> invocation.getInvocation()
+                        .getExpression().contains("const items = $0")));
+    }
+
+    private ArrayNode getItemsPatch() {
+        ui.fakeClientCommunication();
+        List<PendingJavaScriptInvocation> invocations = ui
+                .dumpPendingJavaScriptInvocations().stream()
+                .filter(invocation -> invocation.getInvocation()
+                        .getExpression().contains("const patch = $0"))
+                .toList();
+        Assertions.assertEquals(1, invocations.size());
+        return (ArrayNode) invocations.get(0).getInvocation().getParameters()
+                .get(0);
+    }
 }
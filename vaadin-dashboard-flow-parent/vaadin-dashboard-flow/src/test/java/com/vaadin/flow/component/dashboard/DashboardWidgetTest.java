@@ -8,9 +8,12 @@
  */
 package com.vaadin.flow.component.dashboard;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.Span;
 
@@ -287,4 +290,77 @@ class DashboardWidgetTest extends DashboardTestBase {
         DashboardWidget widget = getNewWidget();
         Assertions.assertTrue(widget.isVisible());
     }
+
+    @Test
+    void setLazyContent_notInViewport_contentNotCreated() {
+        AtomicInteger created = new AtomicInteger();
+        DashboardWidget widget = getNewWidget();
+        widget.setLazyContent(() -> {
+            created.incrementAndGet();
+            return new Div();
+        });
+        ui.add(widget);
+        ui.fakeClientCommunication();
+
+        Assertions.assertNull(widget.getContent());
+        Assertions.assertEquals(0, created.get());
+    }
+
+    @Test
+    void setLazyContent_inViewport_contentCreatedOnce() {
+        AtomicInteger created = new AtomicInteger();
+        DashboardWidget widget = getNewWidget();
+        widget.setLazyContent(() -> {
+            created.incrementAndGet();
+            return new Div();
+        });
+
+        widget.updateInViewport(true);
+        Component content = widget.getContent();
+        widget.updateInViewport(false);
+        widget.updateInViewport(true);
+
+        Assertions.assertNotNull(content);
+        Assertions.assertSame(content, widget.getContent());
+        Assertions.assertEquals(1, created.get());
+    }
+
+    @Test
+    void setLazyContentDetachOutsideViewport_outOfViewport_contentRemoved() {
+        DashboardWidget widget = getNewWidget();
+        widget.setLazyContent(Div::new, true);
+
+        widget.updateInViewport(true);
+        Component content = widget.getContent();
+        widget.updateInViewport(false);
+
+        Assertions.assertNull(widget.getContent());
+        Assertions.assertNull(content.getParent().orElse(null));
+
+        widget.updateInViewport(true);
+        Assertions.assertNotNull(widget.getContent());
+        Assertions.assertNotSame(content, widget.getContent());
+    }
+
+    @Test
+    void setLazyContentInViewport_contentCreatedImmediately() {
+        DashboardWidget widget = getNewWidget();
+        widget.updateInViewport(true);
+
+        widget.setLazyContent(Div::new);
+
+        Assertions.assertNotNull(widget.getContent());
+    }
+
+    @Test
+    void setLazyContent_setContent_lazyContentNotCreated() {
+        Span content = new Span();
+        DashboardWidget widget = getNewWidget();
+        widget.setLazyContent(Div::new);
+
+        widget.setContent(content);
+        widget.updateInViewport(true);
+
+        Assertions.assertSame(content, widget.getContent());
+    }
 }
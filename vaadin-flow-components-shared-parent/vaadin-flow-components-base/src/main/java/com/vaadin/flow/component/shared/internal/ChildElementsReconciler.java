@@ -0,0 +1,106 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.shared.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.dom.Element;
+
+/**
+ * Internal utility for updating the children of an element to a given list
+ * with a minimal amount of changes, used by components that render an item
+ * component per data item and reuse the components of unchanged items when
+ * the data is refreshed.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ */
+public final class ChildElementsReconciler {
+
+    private ChildElementsReconciler() {
+    }
+
+    /**
+     * Makes the given components the only children of the given parent, in
+     * the given order. Children that are not in the list are removed, the
+     * components that are not yet children are inserted, and the existing
+     * children are moved only if they are not already in place.
+     *
+     * @param parent
+     *            the parent element, not {@code null}
+     * @param children
+     *            the components that should be the children of the parent, in
+     *            order, not {@code null}
+     */
+    public static void reconcile(Element parent,
+            List<? extends Component> children) {
+        Set<Element> retained = toElementSet(children);
+        for (int i = parent.getChildCount() - 1; i >= 0; i--) {
+            if (!retained.contains(parent.getChild(i))) {
+                parent.removeChild(i);
+            }
+        }
+        reorder(parent, children.stream().map(Component::getElement).toList());
+    }
+
+    /**
+     * Makes the given components the last children of the given parent, in
+     * the given order. The components that are not yet children are inserted
+     * and the existing children are moved only if they are not already in
+     * place. Other children are not removed, and they keep their relative
+     * order before the given components.
+     *
+     * @param parent
+     *            the parent element, not {@code null}
+     * @param children
+     *            the components that should be the last children of the
+     *            parent, in order, not {@code null}
+     */
+    public static void appendInOrder(Element parent,
+            List<? extends Component> children) {
+        Set<Element> retained = toElementSet(children);
+        List<Element> elements = new ArrayList<>(
+                parent.getChildCount() + children.size());
+        parent.getChildren().filter(child -> !retained.contains(child))
+                .forEach(elements::add);
+        children.forEach(child -> elements.add(child.getElement()));
+        reorder(parent, elements);
+    }
+
+    private static Set<Element> toElementSet(
+            List<? extends Component> children) {
+        Set<Element> elements = Collections
+                .newSetFromMap(new IdentityHashMap<>(children.size()));
+        children.forEach(child -> elements.add(child.getElement()));
+        return elements;
+    }
+
+    private static void reorder(Element parent, List<Element> elements) {
+        for (int i = 0; i < elements.size(); i++) {
+            Element child = elements.get(i);
+            if (i >= parent.getChildCount() || parent.getChild(i) != child) {
+                // Inserting an existing child moves it. The children before
+                // the index are already in place, so the child is always
+                // moved backwards.
+                parent.insertChild(i, child);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.shared.internal;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.dom.Element;
+
+class ChildElementsReconcilerTest {
+    private Element parent;
+    private TestComponent a;
+    private TestComponent b;
+    private TestComponent c;
+    private TestComponent d;
+
+    @BeforeEach
+    void setup() {
+        parent = new Element("div");
+        a = new TestComponent();
+        b = new TestComponent();
+        c = new TestComponent();
+        d = new TestComponent();
+    }
+
+    @Test
+    void reconcile_emptyParent_childrenAdded() {
+        ChildElementsReconciler.reconcile(parent, List.of(a, b));
+
+        assertChildren(a.getElement(), b.getElement());
+    }
+
+    @Test
+    void reconcile_childrenRemovedInsertedAndMoved() {
+        parent.appendChild(a.getElement(), b.getElement(), c.getElement());
+
+        ChildElementsReconciler.reconcile(parent, List.of(c, d, a));
+
+        assertChildren(c.getElement(), d.getElement(), a.getElement());
+        Assertions.assertNull(b.getElement().getParent());
+    }
+
+    @Test
+    void reconcile_emptyList_allChildrenRemoved() {
+        parent.appendChild(a.getElement(), new Element("span"));
+
+        ChildElementsReconciler.reconcile(parent, List.of());
+
+        Assertions.assertEquals(0, parent.getChildCount());
+    }
+
+    @Test
+    void appendInOrder_otherChildrenKeptBefore() {
+        Element other = new Element("span");
+        parent.appendChild(b.getElement(), other, a.getElement());
+
+        ChildElementsReconciler.appendInOrder(parent, List.of(a, c, b));
+
+        assertChildren(other, a.getElement(), c.getElement(), b.getElement());
+    }
+
+    private void assertChildren(Element... expected) {
+        Assertions.assertEquals(List.of(expected),
+                parent.getChildren().toList());
+    }
+
+    @Tag("test")
+    private static class TestComponent extends Component {
+    }
+}
@@ -64,8 +64,17 @@ public abstract class AbstractGridMultiSelectionModel<T>
     private final Map<Object, T> selected;
     private final GridSelectionColumn selectionColumn;
     private SelectAllCheckboxVisibility selectAllCheckBoxVisibility;
+    private SelectAllMode selectAllMode = SelectAllMode.FETCH_ALL;
     private Registration selectionBindingCleanup;
 
+    /*
+     * Compact "all selected" state used with SelectAllMode.COMPACT: every item
+     * matching the filter snapshot is selected except for the excluded ids.
+     */
+    private boolean allSelected;
+    private Object allSelectedFilter;
+    private final Set<Object> excludedIds = new LinkedHashSet<>();
+
     /**
      * Constructor for passing a reference of the grid to this implementation.
      *
@@ -124,7 +133,11 @@ public abstract class AbstractGridMultiSelectionModel<T>
         }
 
         Set<T> oldSelection = getSelectedItems();
-        selected.put(getItemId(item), item);
+        if (allSelected) {
+            excludedIds.remove(getItemId(item));
+        } else {
+            selected.put(getItemId(item), item);
+        }
 
         fireSelectionEvent(new MultiSelectionEvent<>(getGrid(),
                 getGrid().asMultiSelect(), oldSelection, true));
@@ -138,12 +151,7 @@ public abstract class AbstractGridMultiSelectionModel<T>
             return;
         }
 
-        long size = getDataProviderSize();
-        selectionColumn.setSelectAllCheckboxState(
-                !isHierarchicalDataProvider() && size == selected.size());
-        selectionColumn.setSelectAllCheckboxIndeterminateState(
-                isHierarchicalDataProvider() ? selected.size() > 0
-                        : selected.size() > 0 && selected.size() < size);
+        updateSelectAllCheckboxState();
     }
 
     @Override
@@ -154,7 +162,11 @@ public abstract class AbstractGridMultiSelectionModel<T>
         }
 
         Set<T> oldSelection = getSelectedItems();
-        selected.remove(getItemId(item));
+        if (allSelected) {
+            excludedIds.add(getItemId(item));
+        } else {
+            selected.remove(getItemId(item));
+        }
 
         fireSelectionEvent(new MultiSelectionEvent<>(getGrid(),
                 getGrid().asMultiSelect(), oldSelection, true));
@@ -162,15 +174,16 @@ public abstract class AbstractGridMultiSelectionModel<T>
         ComponentUtil.fireEvent(getGrid(), new ClientItemToggleEvent<>(
                 getGrid(), item, false, selectionColumn.isShiftKeyDown()));
 
-        long size = getDataProviderSize();
+        updateSelectAllCheckboxState();
         selectionColumn.setSelectAllCheckboxState(false);
-        selectionColumn.setSelectAllCheckboxIndeterminateState(
-                isHierarchicalDataProvider() ? selected.size() > 0
-                        : selected.size() > 0 && selected.size() < size);
     }
 
     @Override
     public Set<T> getSelectedItems() {
+        if (allSelected) {
+            return new AllItemsSelection<>(getDataProvider(),
+                    allSelectedFilter, excludedIds);
+        }
         /*
          * A new LinkedHashSet is created to avoid
          * ConcurrentModificationExceptions when changing the selection during
@@ -190,15 +203,28 @@ public abstract class AbstractGridMultiSelectionModel<T>
      * over this Set and modifying the selection during iteration to avoid
      * ConcurrentModificationExceptions.
      *
+     * <p>
+     * If all items are selected in {@link SelectAllMode#COMPACT} mode, the ids
+     * are resolved by fetching the selected items from the data provider.
+     *
      * @return An unmodifiable view of the selected item ids. Updates in the
      *         selection may or may not be directly reflected in the Set.
      */
     protected Set<Object> getSelectedItemIds() {
+        if (allSelected) {
+            return getSelectedItems().stream().map(this::getItemId)
+                    .collect(Collectors.collectingAndThen(
+                            Collectors.toCollection(LinkedHashSet::new),
+                            Collections::unmodifiableSet));
+        }
         return Collections.unmodifiableSet(this.selected.keySet());
     }
 
     @Override
     public Optional<T> getFirstSelectedItem() {
+        if (allSelected) {
+            return getSelectedItems().stream().findFirst();
+        }
         return selected.values().stream().findFirst();
     }
 
@@ -229,6 +255,10 @@ public abstract class AbstractGridMultiSelectionModel<T>
 
     @Override
     public void selectAll() {
+        if (isCompactSelectAll()) {
+            doSelectAllCompact(false);
+            return;
+        }
         updateSelection(
                 (Set<T>) getGrid().getDataCommunicator().getDataProvider()
                         .fetch(getGrid().getDataCommunicator().buildQuery(0,
@@ -241,6 +271,10 @@ public abstract class AbstractGridMultiSelectionModel<T>
 
     @Override
     public void deselectAll() {
+        if (allSelected) {
+            doDeselectAllCompact(false);
+            return;
+        }
         updateSelection(Collections.emptySet(), getSelectedItems());
         selectionColumn.setSelectAllCheckboxState(false);
         selectionColumn.setSelectAllCheckboxIndeterminateState(false);
@@ -255,6 +289,9 @@ public abstract class AbstractGridMultiSelectionModel<T>
 
     @Override
     public boolean isSelected(T item) {
+        if (allSelected) {
+            return item != null && !excludedIds.contains(getItemId(item));
+        }
         return selected.containsKey(getItemId(item));
     }
 
@@ -385,6 +422,26 @@ public abstract class AbstractGridMultiSelectionModel<T>
         }
     }
 
+    @Override
+    public void setSelectAllMode(SelectAllMode selectAllMode) {
+        this.selectAllMode = Objects.requireNonNull(selectAllMode,
+                "select all mode cannot be null");
+    }
+
+    @Override
+    public SelectAllMode getSelectAllMode() {
+        return selectAllMode;
+    }
+
+    @Override
+    public Optional<AllItemsSelection<T>> getAllItemsSelection() {
+        if (!allSelected) {
+            return Optional.empty();
+        }
+        return Optional.of(new AllItemsSelection<>(getDataProvider(),
+                allSelectedFilter, excludedIds));
+    }
+
     @Override
     public void generateData(T item, ObjectNode jsonObject) {
         if (isSelected(item)) {
@@ -426,6 +483,10 @@ public abstract class AbstractGridMultiSelectionModel<T>
         if (!isSelectAllCheckboxVisible()) {
             return;
         }
+        if (isCompactSelectAll()) {
+            doSelectAllCompact(true);
+            return;
+        }
         Stream<T> allItemsStream;
         DataProvider<T, ?> dataProvider = getGrid().getDataCommunicator()
                 .getDataProvider();
@@ -491,6 +552,10 @@ public abstract class AbstractGridMultiSelectionModel<T>
         if (!isSelectAllCheckboxVisible()) {
             return;
         }
+        if (allSelected) {
+            doDeselectAllCompact(true);
+            return;
+        }
         doUpdateSelection(Collections.emptySet(), getSelectedItems(), true);
         selectionColumn.setSelectAllCheckboxState(false);
         selectionColumn.setSelectAllCheckboxIndeterminateState(false);
@@ -511,13 +576,24 @@ public abstract class AbstractGridMultiSelectionModel<T>
     private void doUpdateSelection(Map<Object, T> addedItems,
             Map<Object, T> removedItems, boolean userOriginated) {
 
-        if (selected.keySet().containsAll(addedItems.keySet()) && Collections
-                .disjoint(selected.keySet(), removedItems.keySet())) {
+        if (allSelected) {
+            if (Collections.disjoint(excludedIds, addedItems.keySet())
+                    && excludedIds.containsAll(removedItems.keySet())) {
+                return;
+            }
+        } else if (selected.keySet().containsAll(addedItems.keySet())
+                && Collections.disjoint(selected.keySet(),
+                        removedItems.keySet())) {
             return;
         }
         Set<T> oldSelection = getSelectedItems();
-        removedItems.keySet().forEach(selected::remove);
-        selected.putAll(addedItems);
+        if (allSelected) {
+            excludedIds.removeAll(addedItems.keySet());
+            excludedIds.addAll(removedItems.keySet());
+        } else {
+            removedItems.keySet().forEach(selected::remove);
+            selected.putAll(addedItems);
+        }
 
         sendSelectionUpdate(new LinkedHashSet<>(addedItems.values()),
                 getGrid()::doClientSideSelection);
@@ -527,7 +603,60 @@ public abstract class AbstractGridMultiSelectionModel<T>
         fireSelectionEvent(new MultiSelectionEvent<>(getGrid(),
                 getGrid().asMultiSelect(), oldSelection, userOriginated));
 
+        updateSelectAllCheckboxState();
+    }
+
+    private boolean isCompactSelectAll() {
+        return selectAllMode == SelectAllMode.COMPACT
+                && !isHierarchicalDataProvider();
+    }
+
+    private void doSelectAllCompact(boolean userOriginated) {
+        if (!(allSelected && excludedIds.isEmpty())) {
+            Set<T> oldSelection = getSelectedItems();
+            allSelectedFilter = getGrid().getDataCommunicator()
+                    .buildQuery(0, Integer.MAX_VALUE).getFilter().orElse(null);
+            allSelected = true;
+            excludedIds.clear();
+            selected.clear();
+
+            // The selected items are not known, so let the client re-request
+            // the selection state of the loaded items
+            getGrid().getDataCommunicator().reset();
+
+            fireSelectionEvent(new MultiSelectionEvent<>(getGrid(),
+                    getGrid().asMultiSelect(), oldSelection, userOriginated));
+        }
+        selectionColumn.setSelectAllCheckboxState(true);
+        selectionColumn.setSelectAllCheckboxIndeterminateState(false);
+    }
+
+    private void doDeselectAllCompact(boolean userOriginated) {
+        Set<T> oldSelection = getSelectedItems();
+        allSelected = false;
+        allSelectedFilter = null;
+        excludedIds.clear();
+        selected.clear();
+
+        getGrid().getDataCommunicator().reset();
+
+        fireSelectionEvent(new MultiSelectionEvent<>(getGrid(),
+                getGrid().asMultiSelect(), oldSelection, userOriginated));
+
+        selectionColumn.setSelectAllCheckboxState(false);
+        selectionColumn.setSelectAllCheckboxIndeterminateState(false);
+    }
+
+    private void updateSelectAllCheckboxState() {
         long size = getDataProviderSize();
+        if (allSelected) {
+            boolean anyExcluded = !excludedIds.isEmpty();
+            boolean anySelected = size == 0 || excludedIds.size() < size;
+            selectionColumn.setSelectAllCheckboxState(!anyExcluded);
+            selectionColumn.setSelectAllCheckboxIndeterminateState(
+                    anyExcluded && anySelected);
+            return;
+        }
         selectionColumn.setSelectAllCheckboxState(
                 !isHierarchicalDataProvider() && size == selected.size());
         selectionColumn.setSelectAllCheckboxIndeterminateState(
@@ -555,7 +684,11 @@ public abstract class AbstractGridMultiSelectionModel<T>
     }
 
     private Object getItemId(T item) {
-        return getGrid().getDataCommunicator().getDataProvider().getId(item);
+        return getDataProvider().getId(item);
+    }
+
+    private DataProvider<T, ?> getDataProvider() {
+        return getGrid().getDataCommunicator().getDataProvider();
     }
 
     private long getDataProviderSize() {
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.Query;
+
+/**
+ * An immutable snapshot of a grid multi-selection in which all items matching
+ * a filter are selected, except for the items with the given ids.
+ * <p>
+ * This representation is used by {@link GridMultiSelectionModel} when
+ * {@link GridMultiSelectionModel.SelectAllMode#COMPACT} is enabled and all
+ * items have been selected. It never holds the selected items themselves: the
+ * memory footprint only depends on the number of excluded items, regardless of
+ * the size of the data set.
+ * <p>
+ * {@link #contains(Object)} is answered in constant time by checking the
+ * excluded ids. The selected items are fetched from the data provider on
+ * demand when the set is iterated or streamed, and {@link #size()} runs a
+ * count query, so these operations should be avoided for large lazy data sets.
+ * Note that the items are fetched using the filter captured when all items
+ * were selected, and that {@link #contains(Object)} does not check whether an
+ * item matches that filter.
+ *
+ * @param <T>
+ *            the grid bean type
+ * @author Vaadin Ltd
+ * @see GridMultiSelectionModel#getAllItemsSelection()
+ */
+public class AllItemsSelection<T> extends AbstractSet<T>
+        implements Serializable {
+
+    private final DataProvider<T, ?> dataProvider;
+    private final Object filter;
+    private final Set<Object> excludedIds;
+
+    /**
+     * Creates a new selection of all the items of the given data provider
+     * matching the given filter, except the ones with the given ids.
+     *
+     * @param dataProvider
+     *            the data provider the items are fetched from, not
+     *            {@code null}
+     * @param filter
+     *            the filter used for fetching the items, or {@code null} for
+     *            no filter
+     * @param excludedIds
+     *            the ids of the items that are not selected, not {@code null}
+     */
+    public AllItemsSelection(DataProvider<T, ?> dataProvider, Object filter,
+            Set<Object> excludedIds) {
+        this.dataProvider = Objects.requireNonNull(dataProvider,
+                "data provider cannot be null");
+        this.filter = filter;
+        this.excludedIds = Collections.unmodifiableSet(new LinkedHashSet<>(
+                Objects.requireNonNull(excludedIds,
+                        "excluded ids cannot be null")));
+    }
+
+    /**
+     * Gets the ids of the items that are not part of this selection.
+     *
+     * @return an unmodifiable set of excluded item ids, never {@code null}
+     */
+    public Set<Object> getExcludedIds() {
+        return excludedIds;
+    }
+
+    /**
+     * Gets the filter that was in use when all items were selected.
+     *
+     * @return the filter snapshot, or an empty optional if there was no filter
+     */
+    public Optional<Object> getFilter() {
+        return Optional.ofNullable(filter);
+    }
+
+    /**
+     * Checks whether the given item is selected, i.e. whether its id has not
+     * been excluded from this selection.
+     *
+     * @param item
+     *            the item to check
+     * @return {@code true} if the item is selected, {@code false} otherwise
+     */
+    public boolean isSelected(T item) {
+        return item != null
+                && !excludedIds.contains(dataProvider.getId(item));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean contains(Object o) {
+        try {
+            return isSelected((T) o);
+        } catch (ClassCastException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return stream().iterator();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Override
+    public Stream<T> stream() {
+        Stream<T> items = dataProvider
+                .fetch(new Query(0, Integer.MAX_VALUE, null, null, filter));
+        if (excludedIds.isEmpty()) {
+            return items;
+        }
+        return items.filter(this::isSelected);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Override
+    public int size() {
+        int count = dataProvider.size(new Query(filter));
+        return Math.max(0, count - excludedIds.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
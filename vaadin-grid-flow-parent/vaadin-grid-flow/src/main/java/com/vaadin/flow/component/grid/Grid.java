@@ -59,6 +59,7 @@ import com.vaadin.flow.component.grid.contextmenu.GridContextMenu;
 import com.vaadin.flow.component.grid.dataview.GridDataView;
 import com.vaadin.flow.component.grid.dataview.GridLazyDataView;
 import com.vaadin.flow.component.grid.dataview.GridListDataView;
+import com.vaadin.flow.component.grid.dataview.ItemExistenceCheck;
 import com.vaadin.flow.component.grid.dnd.GridDragEndEvent;
 import com.vaadin.flow.component.grid.dnd.GridDragStartEvent;
 import com.vaadin.flow.component.grid.dnd.GridDropEvent;
@@ -1389,6 +1390,8 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
 
     private SelectionPreservationHandler<T> selectionPreservationHandler;
 
+    private ItemExistenceCheck itemExistenceCheck;
+
     private PendingJavaScriptResult pendingSorterUpdate;
 
     private static final String EMPTY_STATE_SLOT = "empty-state";
@@ -1662,20 +1665,19 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
 
             @Override
             public void onPreserveExisting(DataChangeEvent<T> dataChangeEvent) {
+                if (getSelectionModel() instanceof GridMultiSelectionModel<T> model
+                        && model.getAllItemsSelection().isPresent()) {
+                    // Removed items are never fetched for a compact selection
+                    return;
+                }
                 Map<Object, T> deselectionCandidateIdsToItems = getSelectedItems()
                         .stream().collect(Collectors
                                 .toMap(getDataProvider()::getId, item -> item));
                 if (deselectionCandidateIdsToItems.isEmpty()) {
                     return;
                 }
-                @SuppressWarnings("unchecked")
-                Stream<T> itemsStream = getDataProvider().fetch(
-                        getDataCommunicator().buildQuery(0, Integer.MAX_VALUE));
-                Set<Object> existingItemIds = itemsStream
-                        .map(getDataProvider()::getId)
-                        .filter(deselectionCandidateIdsToItems::containsKey)
-                        .limit(deselectionCandidateIdsToItems.size())
-                        .collect(Collectors.toSet());
+                Set<Object> existingItemIds = findExistingItemIds(
+                        deselectionCandidateIdsToItems.keySet());
                 existingItemIds.forEach(deselectionCandidateIdsToItems::remove);
                 if (getSelectionModel() instanceof GridMultiSelectionModel) {
                     asMultiSelect()
@@ -1692,8 +1694,48 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
         };
     }
 
+    private Set<Object> findExistingItemIds(Set<Object> itemIds) {
+        ItemExistenceCheck existenceCheck = getEffectiveItemExistenceCheck();
+        if (existenceCheck != null) {
+            return existenceCheck.findExistingIds(
+                    Collections.unmodifiableSet(itemIds),
+                    getDataCommunicator().buildQuery(0, 0).getFilter());
+        }
+        // Stream through the items, holding only the matching ids, and stop
+        // as soon as all of them have been found
+        @SuppressWarnings("unchecked")
+        Stream<T> itemsStream = getDataProvider().fetch(
+                getDataCommunicator().buildQuery(0, Integer.MAX_VALUE));
+        return itemsStream.map(getDataProvider()::getId)
+                .filter(itemIds::contains).limit(itemIds.size())
+                .collect(Collectors.toSet());
+    }
+
+    private ItemExistenceCheck getEffectiveItemExistenceCheck() {
+        if (itemExistenceCheck != null) {
+            return itemExistenceCheck;
+        }
+        if (getDataProvider() instanceof ItemExistenceCheck check) {
+            return check;
+        }
+        return null;
+    }
+
+    private static boolean supportsPreserveExisting(
+            DataProvider<?, ?> dataProvider,
+            ItemExistenceCheck itemExistenceCheck) {
+        return dataProvider.isInMemory() || itemExistenceCheck != null
+                || dataProvider instanceof ItemExistenceCheck;
+    }
+
     private void handleDataChange(DataChangeEvent<T> dataChangeEvent) {
         onDataProviderChange();
+        GridListItemCache<T> itemCache = getItemCache();
+        if (dataChangeEvent instanceof DataChangeEvent.DataRefreshEvent
+                && itemCache != null) {
+            // The changed item may have to be filtered or sorted differently
+            itemCache.invalidate();
+        }
         if (!(dataChangeEvent instanceof DataChangeEvent.DataRefreshEvent)
                 && !(getSelectionModel() instanceof GridNoneSelectionModel)) {
             selectionPreservationHandler.handleDataChange(dataChangeEvent);
@@ -2718,16 +2760,27 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
      *            DataProvider instance to use, not <code>null</code>
      */
     public void setDataProvider(DataProvider<T, ?> dataProvider) {
+        setDataProvider(dataProvider, null);
+    }
+
+    private void setDataProvider(DataProvider<T, ?> dataProvider,
+            ItemExistenceCheck itemExistenceCheck) {
         Objects.requireNonNull(dataProvider, "data provider cannot be null");
+        // Validate before changing anything, so that a failing call leaves
+        // the grid as it was
         if (SelectionPreservationMode.PRESERVE_EXISTING.equals(
-                getSelectionPreservationMode()) && !dataProvider.isInMemory()) {
+                getSelectionPreservationMode())
+                && !supportsPreserveExisting(dataProvider,
+                        itemExistenceCheck)) {
             throw new UnsupportedOperationException(
-                    "Lazy data providers do not support preserve existing selection mode.");
+                    "Lazy data providers do not support preserve existing selection mode without an item existence check.");
         }
         handleDataProviderChange(dataProvider);
 
         deselectAll();
         filterSlot = getDataCommunicator().setDataProvider(dataProvider, null);
+        // Any previous check belongs to the previous data provider
+        this.itemExistenceCheck = itemExistenceCheck;
 
         /*
          * The visibility of the selectAll checkbox depends on whether the
@@ -2810,13 +2863,66 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
      * fetched lazily, use {@link #getLazyDataView()} instead.
      *
      * @return the list data view that provides access to the items in the grid
+     * @see #setInMemoryItemCacheEnabled(boolean)
      */
     @Override
     public GridListDataView<T> getListDataView() {
+        if (dataCommunicator instanceof GridDataCommunicator<T> communicator) {
+            return new GridCachedListDataView<>(communicator, this,
+                    this::onInMemoryFilterOrSortingChange);
+        }
         return new GridListDataView<>(getDataCommunicator(), this,
                 this::onInMemoryFilterOrSortingChange);
     }
 
+    /**
+     * Sets whether the filtered and sorted in-memory items are cached. By
+     * default, each page requested by the client, as well as the items and
+     * the item indexes of the {@link #getListDataView() list data view},
+     * filter and sort all items of the in-memory data provider again. With
+     * the cache enabled, the items are filtered and sorted once, and the
+     * cached items are used until the items are refreshed, or the filtering or
+     * the sorting of the grid changes. The cache is only used while the grid
+     * is attached and has an in-memory filter or sorting.
+     * <p>
+     * Note that with the cache enabled, changes made directly to the backing
+     * collection of the data provider, or changes to item properties that
+     * affect the filtering or the sorting, are only reflected after
+     * refreshing the changed items with {@link DataProvider#refreshItem} or
+     * all items with {@link DataProvider#refreshAll()}. Adding and removing
+     * items through the list data view refreshes the items automatically.
+     *
+     * @param inMemoryItemCacheEnabled
+     *            {@code true} to cache the in-memory items, {@code false} to
+     *            fetch them from the data provider each time, which is the
+     *            default
+     */
+    public void setInMemoryItemCacheEnabled(boolean inMemoryItemCacheEnabled) {
+        GridListItemCache<T> itemCache = getItemCache();
+        if (itemCache != null) {
+            itemCache.setEnabled(inMemoryItemCacheEnabled);
+        }
+    }
+
+    /**
+     * Gets whether the filtered and sorted in-memory items are cached.
+     *
+     * @return {@code true} if the in-memory items are cached, {@code false}
+     *         otherwise
+     * @see #setInMemoryItemCacheEnabled(boolean)
+     */
+    public boolean isInMemoryItemCacheEnabled() {
+        GridListItemCache<T> itemCache = getItemCache();
+        return itemCache != null && itemCache.isEnabled();
+    }
+
+    private GridListItemCache<T> getItemCache() {
+        if (dataCommunicator instanceof GridDataCommunicator<T> communicator) {
+            return communicator.getItemCache();
+        }
+        return null;
+    }
+
     // Overridden for now to delegate to setDataProvider for setup
     @Override
     public GridLazyDataView<T> setItems(
@@ -2825,6 +2931,30 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
         return getLazyDataView();
     }
 
+    /**
+     * Supply items lazily with a back end data provider, together with a
+     * callback for checking which of the selected items still exist in the
+     * backend. Setting both at once allows to switch to a lazy data provider
+     * while the selection preservation mode is
+     * {@link SelectionPreservationMode#PRESERVE_EXISTING}.
+     *
+     * @param dataProvider
+     *            the data provider to use, not {@code null}
+     * @param itemExistenceCheck
+     *            the callback for checking which of the selected items still
+     *            exist, not {@code null}
+     * @return LazyDataView instance for further configuration
+     * @see #setItemExistenceCheck(ItemExistenceCheck)
+     */
+    public GridLazyDataView<T> setItems(
+            BackEndDataProvider<T, Void> dataProvider,
+            ItemExistenceCheck itemExistenceCheck) {
+        Objects.requireNonNull(itemExistenceCheck,
+                "Item existence check cannot be null");
+        setDataProvider(dataProvider, itemExistenceCheck);
+        return getLazyDataView();
+    }
+
     public interface SpringData extends Serializable {
         /**
          * Callback interface for fetching a list of items from a backend based
@@ -3238,8 +3368,10 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
      * Sets the selection preservation mode. Determines what happens with the
      * selection when {@link DataProvider#refreshAll} is called. The selection
      * is discarded in any case when a new data provider is set. The default is
-     * {@link SelectionPreservationMode#PRESERVE_ALL}. Lazy data providers do
-     * not support {@link SelectionPreservationMode#PRESERVE_EXISTING}.
+     * {@link SelectionPreservationMode#PRESERVE_ALL}. Lazy data providers only
+     * support {@link SelectionPreservationMode#PRESERVE_EXISTING} when an
+     * {@link ItemExistenceCheck} is available, see
+     * {@link #setItemExistenceCheck(ItemExistenceCheck)}.
      *
      * @param selectionPreservationMode
      *            the selection preservation mode to switch to, not {@code null}
@@ -3249,14 +3381,54 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
     public void setSelectionPreservationMode(
             SelectionPreservationMode selectionPreservationMode) {
         if (SelectionPreservationMode.PRESERVE_EXISTING.equals(
-                selectionPreservationMode) && !getDataProvider().isInMemory()) {
+                selectionPreservationMode)
+                && !supportsPreserveExisting(getDataProvider(),
+                        itemExistenceCheck)) {
             throw new UnsupportedOperationException(
-                    "Lazy data providers do not support preserve existing selection mode.");
+                    "Lazy data providers do not support preserve existing selection mode without an item existence check.");
         }
         selectionPreservationHandler
                 .setSelectionPreservationMode(selectionPreservationMode);
     }
 
+    /**
+     * Sets a callback for checking which of the selected items still exist in
+     * the backend when the selection preservation mode is
+     * {@link SelectionPreservationMode#PRESERVE_EXISTING}.
+     * <p>
+     * Without a callback, the grid checks whether the data provider itself
+     * implements {@link ItemExistenceCheck}, and otherwise streams through the
+     * items of the data provider until all selected items have been found.
+     * In both cases, selected items that do not match the current filter of
+     * the grid are deselected.
+     * <p>
+     * The callback is removed when the data provider is changed, so it needs
+     * to be set again for the new data provider. To switch to a lazy data
+     * provider that does not implement {@link ItemExistenceCheck} while the
+     * selection preservation mode is
+     * {@link SelectionPreservationMode#PRESERVE_EXISTING}, set the data
+     * provider and the callback at once with
+     * {@link #setItems(BackEndDataProvider, ItemExistenceCheck)}.
+     *
+     * @param itemExistenceCheck
+     *            the callback to use, or {@code null} to remove it
+     * @see GridLazyDataView#setItemExistenceCheck(ItemExistenceCheck)
+     */
+    public void setItemExistenceCheck(ItemExistenceCheck itemExistenceCheck) {
+        this.itemExistenceCheck = itemExistenceCheck;
+    }
+
+    /**
+     * Gets the callback for checking which of the selected items still exist
+     * in the backend.
+     *
+     * @return the item existence check, or {@code null} if none has been set
+     * @see #setItemExistenceCheck(ItemExistenceCheck)
+     */
+    public ItemExistenceCheck getItemExistenceCheck() {
+        return itemExistenceCheck;
+    }
+
     /**
      * Gets the selection preservation mode.
      *
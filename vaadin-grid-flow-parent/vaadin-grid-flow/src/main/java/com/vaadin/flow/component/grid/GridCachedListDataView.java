@@ -0,0 +1,70 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.component.grid.dataview.GridListDataView;
+import com.vaadin.flow.data.provider.IdentifierProvider;
+import com.vaadin.flow.function.SerializableBiConsumer;
+import com.vaadin.flow.function.SerializableComparator;
+import com.vaadin.flow.function.SerializablePredicate;
+
+/**
+ * List data view of a grid, which serves the items and the item indexes from
+ * the item cache of the grid data communicator while the cache is applicable.
+ * <p>
+ * WARNING: This class is for internal use only.
+ *
+ * @param <T>
+ *            data type
+ */
+class GridCachedListDataView<T> extends GridListDataView<T> {
+    private final GridListItemCache<T> itemCache;
+
+    GridCachedListDataView(GridDataCommunicator<T> dataCommunicator,
+            Grid<T> grid,
+            SerializableBiConsumer<SerializablePredicate<T>, SerializableComparator<T>> filterOrSortingChangedCallback) {
+        super(dataCommunicator, grid, filterOrSortingChangedCallback);
+        itemCache = dataCommunicator.getItemCache();
+    }
+
+    @Override
+    public Stream<T> getItems() {
+        if (itemCache.isApplicable()) {
+            return itemCache.getItems().stream();
+        }
+        return super.getItems();
+    }
+
+    @Override
+    public Optional<Integer> getItemIndex(T item) {
+        Objects.requireNonNull(item, "Item cannot be null");
+        if (itemCache.isApplicable()) {
+            return itemCache.getItemIndex(item);
+        }
+        return super.getItemIndex(item);
+    }
+
+    @Override
+    public void setIdentifierProvider(
+            IdentifierProvider<T> identifierProvider) {
+        super.setIdentifierProvider(identifierProvider);
+        itemCache.setIdentifierProvider(identifierProvider);
+    }
+}
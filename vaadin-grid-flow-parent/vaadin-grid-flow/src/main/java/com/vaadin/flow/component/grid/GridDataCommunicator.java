@@ -15,6 +15,8 @@
  */
 package com.vaadin.flow.component.grid;
 
+import java.util.stream.Stream;
+
 import com.vaadin.flow.data.provider.ArrayUpdater;
 import com.vaadin.flow.data.provider.CompositeDataGenerator;
 import com.vaadin.flow.data.provider.DataCommunicator;
@@ -24,16 +26,54 @@ import com.vaadin.flow.dom.Element;
  * WARNING: This class is for internal use only.
  */
 class GridDataCommunicator<T> extends DataCommunicator<T> {
+    private final GridListItemCache<T> itemCache;
+
     public GridDataCommunicator(Element element,
             CompositeDataGenerator<T> dataGenerator,
             ArrayUpdater arrayUpdater) {
         super(dataGenerator, arrayUpdater, data -> element
                 .callJsFunction("$connector.updateFlatData", data),
                 element.getNode());
+        itemCache = new GridListItemCache<>(this, element.getNode());
+    }
+
+    /**
+     * Gets the cache of the filtered and sorted items, which is used when the
+     * data provider is in-memory.
+     *
+     * @return the item cache
+     */
+    GridListItemCache<T> getItemCache() {
+        return itemCache;
     }
 
     @Override
     public void refreshViewport() {
         super.refreshViewport();
     }
+
+    @Override
+    public void reset() {
+        // Called from the super constructor before the cache is created
+        if (itemCache != null) {
+            itemCache.invalidate();
+        }
+        super.reset();
+    }
+
+    @Override
+    public void refresh(T data) {
+        super.refresh(data);
+        itemCache.refresh(data);
+    }
+
+    @Override
+    protected Stream<T> fetchFromProvider(int offset, int limit) {
+        // Serve in-memory data from the cache, instead of filtering and
+        // sorting all items again for each requested page
+        if (itemCache.isApplicable()) {
+            return itemCache.fetch(offset, limit);
+        }
+        return super.fetchFromProvider(offset, limit);
+    }
 }
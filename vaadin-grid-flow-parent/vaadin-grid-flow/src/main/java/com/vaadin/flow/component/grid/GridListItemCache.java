@@ -0,0 +1,258 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.data.provider.DataCommunicator;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.IdentifierProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.internal.StateNode;
+
+/**
+ * Cache for the filtered and sorted items of a grid with in-memory data.
+ * <p>
+ * Without the cache, each page requested by the client fetches the items from
+ * the in-memory data provider, which filters and sorts the whole backing
+ * collection again. The cache instead fetches all items once, and serves the
+ * pages, as well as the items and the item indexes of the list data view of
+ * the grid, from the fetched list. The index of an item is looked up from a
+ * map of item identifiers, which is created on the first lookup.
+ * <p>
+ * The cache is disabled by default, as changes made directly to the backing
+ * collection of the data provider are only seen after refreshing the items.
+ * When enabled, it is only used while the grid has an in-memory filter or
+ * sorting, as otherwise the data provider serves the pages directly from the
+ * backing collection.
+ * <p>
+ * The cache is cleared when the data communicator is reset, which happens
+ * when the items are refreshed with {@link DataProvider#refreshAll()}, for
+ * example after adding or removing items through the data view, and when the
+ * filtering or the sorting of the grid changes. It is also cleared when the
+ * data provider reports a change of a single item, as the item may have to be
+ * filtered or sorted differently. Refreshing an item only for updating its
+ * row, such as when opening the editor or the details of the item, replaces
+ * the item instance in the cache instead. As the data communicator only
+ * listens to data changes while the grid is attached, the cache is only used
+ * while the grid is attached, and it is cleared when the grid is attached
+ * again.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+class GridListItemCache<T> implements Serializable {
+
+    private final DataCommunicator<T> dataCommunicator;
+    private final StateNode stateNode;
+    private IdentifierProvider<T> identifierProvider;
+    private boolean enabled;
+
+    // The cached items are not serialized, they are fetched again on demand
+    private transient List<T> items;
+    private transient Map<Object, Integer> indexes;
+    private transient DataProvider<T, ?> cachedDataProvider;
+    private transient Object cachedFilter;
+    private transient Comparator<T> cachedSorting;
+
+    /**
+     * Creates a new cache for the given data communicator.
+     *
+     * @param dataCommunicator
+     *            the data communicator to cache the items of, not
+     *            {@code null}
+     * @param stateNode
+     *            the state node of the grid, not {@code null}
+     */
+    GridListItemCache(DataCommunicator<T> dataCommunicator,
+            StateNode stateNode) {
+        this.dataCommunicator = Objects.requireNonNull(dataCommunicator);
+        this.stateNode = Objects.requireNonNull(stateNode);
+        // Data may have changed while detached
+        stateNode.addAttachListener(this::invalidate);
+    }
+
+    /**
+     * Sets whether the cache is enabled. Disabling the cache clears the
+     * cached items.
+     *
+     * @param enabled
+     *            {@code true} to enable the cache, {@code false} to disable it
+     */
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Gets whether the cache is enabled.
+     *
+     * @return {@code true} if the cache is enabled
+     */
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets whether the cache can be used, which is the case when the cache is
+     * enabled, the grid is attached, the data provider of the data
+     * communicator is in-memory, and the grid has an in-memory filter or
+     * sorting.
+     *
+     * @return {@code true} if the cache can be used
+     */
+    boolean isApplicable() {
+        DataProvider<T, ?> dataProvider = dataCommunicator.getDataProvider();
+        if (!enabled || !stateNode.isAttached() || dataProvider == null
+                || !dataProvider.isInMemory()) {
+            return false;
+        }
+        // Without filtering or sorting, the cache would only duplicate the
+        // backing collection
+        Query<T, ?> query = dataCommunicator.buildQuery(0, 0);
+        return query.getFilter().isPresent()
+                || query.getInMemorySorting() != null;
+    }
+
+    /**
+     * Clears the cached items, so that they are fetched again on the next
+     * access.
+     */
+    void invalidate() {
+        items = null;
+        indexes = null;
+    }
+
+    /**
+     * Sets the identifier provider that is used for looking up the indexes of
+     * items, or {@code null} to use {@link DataProvider#getId(Object)}.
+     *
+     * @param identifierProvider
+     *            the identifier provider, or {@code null}
+     */
+    void setIdentifierProvider(IdentifierProvider<T> identifierProvider) {
+        this.identifierProvider = identifierProvider;
+        indexes = null;
+    }
+
+    /**
+     * Gets the filtered and sorted items.
+     *
+     * @return the items, immutable
+     */
+    List<T> getItems() {
+        // Also check the filter and the sorting, in case they have been
+        // changed without resetting the data communicator
+        Query<T, ?> query = dataCommunicator.buildQuery(0, Integer.MAX_VALUE);
+        Object filter = query.getFilter().orElse(null);
+        if (items == null
+                || cachedDataProvider != dataCommunicator.getDataProvider()
+                || !Objects.equals(cachedFilter, filter)
+                || cachedSorting != query.getInMemorySorting()) {
+            cachedDataProvider = dataCommunicator.getDataProvider();
+            cachedFilter = filter;
+            cachedSorting = query.getInMemorySorting();
+            items = fetchItems(cachedDataProvider);
+            indexes = null;
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    /**
+     * Gets a range of the filtered and sorted items.
+     *
+     * @param offset
+     *            the index of the first item
+     * @param limit
+     *            the maximum number of items
+     * @return the items in the range
+     */
+    Stream<T> fetch(int offset, int limit) {
+        List<T> cachedItems = getItems();
+        int from = Math.min(offset, cachedItems.size());
+        int to = from + Math.min(limit, cachedItems.size() - from);
+        return cachedItems.subList(from, to).stream();
+    }
+
+    /**
+     * Gets the index of the given item within the filtered and sorted items.
+     *
+     * @param item
+     *            the item to look up, not {@code null}
+     * @return the index of the item, or an empty optional if the item is not
+     *         in the filtered items
+     */
+    Optional<Integer> getItemIndex(T item) {
+        Objects.requireNonNull(item);
+        return Optional.ofNullable(getIndexes().get(getId(item)));
+    }
+
+    /**
+     * Replaces the cached instance of the given item, so that the refreshed
+     * instance is used for fetching the item later on. Does nothing if the
+     * items have not been cached.
+     *
+     * @param item
+     *            the refreshed item, not {@code null}
+     */
+    void refresh(T item) {
+        if (items == null || !isApplicable()) {
+            return;
+        }
+        Integer index = getIndexes().get(getId(item));
+        if (index != null) {
+            items.set(index, item);
+        }
+    }
+
+    private <F> List<T> fetchItems(DataProvider<T, F> dataProvider) {
+        Query<T, F> query = dataCommunicator.buildQuery(0, Integer.MAX_VALUE);
+        return dataProvider.fetch(query)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private Map<Object, Integer> getIndexes() {
+        List<T> cachedItems = getItems();
+        if (indexes == null) {
+            Map<Object, Integer> itemIndexes = new HashMap<>(
+                    cachedItems.size() * 4 / 3 + 1);
+            for (int i = 0; i < cachedItems.size(); i++) {
+                // Keep the first index of items with the same identifier,
+                // similar to looking up the item with a linear search
+                itemIndexes.putIfAbsent(getId(cachedItems.get(i)), i);
+            }
+            indexes = itemIndexes;
+        }
+        return indexes;
+    }
+
+    private Object getId(T item) {
+        return identifierProvider != null ? identifierProvider.apply(item)
+                : dataCommunicator.getDataProvider().getId(item);
+    }
+}
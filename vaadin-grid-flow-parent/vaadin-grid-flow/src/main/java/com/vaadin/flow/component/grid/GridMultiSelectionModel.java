@@ -15,6 +15,8 @@
  */
 package com.vaadin.flow.component.grid;
 
+import java.util.Optional;
+
 import com.vaadin.flow.component.ComponentEventListener;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.selection.MultiSelect;
@@ -73,6 +75,36 @@ public interface GridMultiSelectionModel<T>
         DEFAULT;
     }
 
+    /**
+     * Strategy for representing the selection when all items are selected,
+     * either with {@link #selectAll()} or with the select all checkbox.
+     * <p>
+     * Default value is {@link #FETCH_ALL}.
+     */
+    public enum SelectAllMode {
+
+        /**
+         * Selecting all fetches every item from the data provider and stores
+         * them in the selection.
+         * <p>
+         * <b>For lazy data, this results in all rows being fetched from backend
+         * to application memory!</b>
+         */
+        FETCH_ALL,
+
+        /**
+         * Selecting all stores only a snapshot of the current filter together
+         * with the ids of the items deselected afterwards, without fetching
+         * any items. The selection is then exposed as an
+         * {@link AllItemsSelection}, which fetches the selected items from
+         * the data provider only when iterated.
+         * <p>
+         * Hierarchical data providers are not supported by this mode and
+         * always use {@link #FETCH_ALL}.
+         */
+        COMPACT;
+    }
+
     /**
      * Gets a wrapper to use this multiselection model as a multiselect in
      * {@link Binder}.
@@ -155,6 +187,46 @@ public interface GridMultiSelectionModel<T>
      */
     boolean isSelectAllCheckboxVisible();
 
+    /**
+     * Sets the strategy used for representing the selection when all items
+     * are selected.
+     * <p>
+     * The default value is {@link SelectAllMode#FETCH_ALL}. With
+     * {@link SelectAllMode#COMPACT}, selecting all items does not load them
+     * into memory, which makes the select all checkbox usable with large lazy
+     * data sets, see
+     * {@link #setSelectAllCheckboxVisibility(SelectAllCheckboxVisibility)}.
+     * <p>
+     * Changing the mode does not affect the current selection.
+     *
+     * @param selectAllMode
+     *            the select all mode to use, not {@code null}
+     * @see SelectAllMode
+     */
+    void setSelectAllMode(SelectAllMode selectAllMode);
+
+    /**
+     * Gets the strategy used for representing the selection when all items
+     * are selected.
+     *
+     * @return the select all mode
+     * @see #setSelectAllMode(SelectAllMode)
+     */
+    SelectAllMode getSelectAllMode();
+
+    /**
+     * Gets the compact representation of the current selection, if all items
+     * have been selected while using {@link SelectAllMode#COMPACT}.
+     * <p>
+     * The same instance type is also returned by {@link #getSelectedItems()}
+     * and carried as the value of selection events in that state, so
+     * listeners can check for it to avoid iterating the whole data set.
+     *
+     * @return the compact selection, or an empty optional if not all items
+     *         are selected in compact mode
+     */
+    Optional<AllItemsSelection<T>> getAllItemsSelection();
+
     /**
      * Sets the selection column's frozen state.
      *
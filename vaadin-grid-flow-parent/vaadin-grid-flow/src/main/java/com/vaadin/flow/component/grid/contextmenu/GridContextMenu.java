@@ -15,6 +15,7 @@
  */
 package com.vaadin.flow.component.grid.contextmenu;
 
+import java.io.Serializable;
 import java.util.Optional;
 
 import com.vaadin.flow.component.Component;
@@ -42,6 +43,39 @@ public class GridContextMenu<T> extends
         implements HasGridMenuItems<T> {
 
     private SerializablePredicate<T> dynamicContentHandler;
+    private DynamicContentProvider<T> dynamicContentProvider;
+
+    /**
+     * Callback for adding the items of a {@link GridContextMenu} when it is
+     * opened.
+     *
+     * @param <T>
+     *            the type of items in the grid
+     * @see GridContextMenu#setDynamicContentProvider(DynamicContentProvider)
+     */
+    @FunctionalInterface
+    public interface DynamicContentProvider<T> extends Serializable {
+
+        /**
+         * Adds the items to show for the given target of the context-click to
+         * the context menu.
+         *
+         * @param menu
+         *            the context menu to add the items to, initially empty
+         * @param item
+         *            the target item of the context-click, or {@code null} if
+         *            the context-click didn't target any item in the Grid (eg.
+         *            if targeting a header)
+         * @param column
+         *            the target column of the context-click, or {@code null}
+         *            if the context-click didn't target any application column
+         *            in the Grid (eg. selection column)
+         * @return {@code true} if the context menu should be opened,
+         *         {@code false} otherwise
+         */
+        boolean addItems(GridContextMenu<T> menu, T item,
+                Grid.Column<T> column);
+    }
 
     /**
      * Event that is fired when a {@link GridMenuItem} is clicked inside a
@@ -135,6 +169,11 @@ public class GridContextMenu<T> extends
      */
     public GridContextMenu() {
         super();
+        addOpenedChangeListener(event -> {
+            if (!event.isOpened() && dynamicContentProvider != null) {
+                discardDynamicContent();
+            }
+        });
     }
 
     /**
@@ -250,6 +289,45 @@ public class GridContextMenu<T> extends
         this.dynamicContentHandler = dynamicContentHandler;
     }
 
+    /**
+     * Gets the callback that adds the items of the context menu when it is
+     * opened.
+     *
+     * @return the callback that adds the items of the context menu, or
+     *         {@code null} if not specified
+     * @see #setDynamicContentProvider(DynamicContentProvider)
+     */
+    public DynamicContentProvider<T> getDynamicContentProvider() {
+        return dynamicContentProvider;
+    }
+
+    /**
+     * Sets a callback that adds the items of the context menu when it is
+     * opened.
+     * <p>
+     * Each time before the context menu is opened, its items are removed and
+     * the callback is called with the clicked item and column (if any) to add
+     * the items to show for them. The items are removed again when the context
+     * menu is closed, so the items of the context menu don't need to exist
+     * while it is closed, and only the items for the clicked item and column
+     * are sent to the client. This is useful in situations where the items
+     * depend on the specific context and the menu would otherwise need to
+     * contain a large set of items to show or hide.
+     * <p>
+     * The boolean return value of this callback specifies if the context menu
+     * will be opened. When a provider is set, the
+     * {@link #setDynamicContentHandler(SerializablePredicate) dynamic content
+     * handler} is not used.
+     *
+     * @param dynamicContentProvider
+     *            the callback that adds the items of the context menu, or
+     *            {@code null} to use the items added to the context menu
+     */
+    public void setDynamicContentProvider(
+            DynamicContentProvider<T> dynamicContentProvider) {
+        this.dynamicContentProvider = dynamicContentProvider;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -258,6 +336,16 @@ public class GridContextMenu<T> extends
         Grid<T> grid = (Grid<T>) getTarget();
         String key = eventDetail.get("key").asString();
 
+        if (getDynamicContentProvider() != null) {
+            final T item = grid.getDataCommunicator().getKeyMapper().get(key);
+            removeAll();
+            boolean open = getDynamicContentProvider().addItems(this, item,
+                    getTargetColumn(grid, eventDetail));
+            if (!open) {
+                removeAll();
+            }
+            return open;
+        }
         if (getDynamicContentHandler() != null) {
             final T item = grid.getDataCommunicator().getKeyMapper().get(key);
             return getDynamicContentHandler().test(item);
@@ -265,4 +353,26 @@ public class GridContextMenu<T> extends
 
         return super.onBeforeOpenMenu(eventDetail);
     }
+
+    private Grid.Column<T> getTargetColumn(Grid<T> grid,
+            ObjectNode eventDetail) {
+        if (!eventDetail.has("columnFlowId")) {
+            return null;
+        }
+        String columnFlowId = eventDetail.get("columnFlowId").asString();
+        return grid.getColumns().stream()
+                .filter(column -> columnFlowId.equals(
+                        column.getElement().getProperty("_flowId")))
+                .findFirst().orElse(null);
+    }
+
+    private void discardDynamicContent() {
+        // Removing the items is deferred until the end of the round-trip so
+        // that a click on an item that closes the menu is still handled
+        getUI().ifPresentOrElse(ui -> ui.beforeClientResponse(this, context -> {
+            if (!isOpened()) {
+                removeAll();
+            }
+        }), this::removeAll);
+    }
 }
@@ -16,6 +16,7 @@
 package com.vaadin.flow.component.grid.dataview;
 
 import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.shared.SelectionPreservationMode;
 import com.vaadin.flow.data.provider.AbstractLazyDataView;
 import com.vaadin.flow.data.provider.BackEndDataProvider;
 import com.vaadin.flow.data.provider.CallbackDataProvider;
@@ -33,6 +34,8 @@ import com.vaadin.flow.data.provider.Query;
  */
 public class GridLazyDataView<T> extends AbstractLazyDataView<T> {
 
+    private final Grid<T> grid;
+
     /**
      * Creates a new lazy data view for grid and verifies the passed data
      * provider is compatible with this data view implementation.
@@ -45,6 +48,7 @@ public class GridLazyDataView<T> extends AbstractLazyDataView<T> {
     public GridLazyDataView(DataCommunicator<T> dataCommunicator,
             Grid<T> component) {
         super(dataCommunicator, component);
+        this.grid = component;
     }
 
     /**
@@ -100,4 +104,23 @@ public class GridLazyDataView<T> extends AbstractLazyDataView<T> {
     public void setItemCountUnknown() {
         super.setItemCountUnknown();
     }
+
+    /**
+     * Sets a callback that the Grid uses to check which of the selected items
+     * still exist in the backend, when the selection preservation mode is
+     * {@link SelectionPreservationMode#PRESERVE_EXISTING}.
+     * <p>
+     * Setting the callback allows using
+     * {@link SelectionPreservationMode#PRESERVE_EXISTING} with lazy data, as
+     * the selection can be reconciled with a single batch lookup of the
+     * selected item ids instead of fetching all the items from the backend.
+     *
+     * @param itemExistenceCheck
+     *            the callback to use for looking up the selected item ids, or
+     *            {@code null} to remove it
+     * @see Grid#setItemExistenceCheck(ItemExistenceCheck)
+     */
+    public void setItemExistenceCheck(ItemExistenceCheck itemExistenceCheck) {
+        grid.setItemExistenceCheck(itemExistenceCheck);
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid.dataview;
+
+import java.io.Serializable;
+import java.util.Optional;
+import java.util.Set;
+
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.shared.SelectionPreservationMode;
+import com.vaadin.flow.data.provider.DataProvider;
+
+/**
+ * Callback for checking which items still exist in the backend, used by the
+ * grid to reconcile the selection with
+ * {@link SelectionPreservationMode#PRESERVE_EXISTING} without fetching the
+ * whole data set.
+ * <p>
+ * The check can either be set with
+ * {@link GridLazyDataView#setItemExistenceCheck(ItemExistenceCheck)} or be
+ * implemented directly by the data provider set to the grid.
+ *
+ * @author Vaadin Ltd
+ * @see Grid#setSelectionPreservationMode(SelectionPreservationMode)
+ */
+@FunctionalInterface
+public interface ItemExistenceCheck extends Serializable {
+
+    /**
+     * Looks up the given item ids in the backend and returns the ones that
+     * still exist and match the given filter.
+     * <p>
+     * The ids are the ones returned by {@link DataProvider#getId(Object)} for
+     * the selected items. The filter is the current filter of the grid, as
+     * passed to the data provider when fetching items. Items that do not match
+     * the filter do not count as existing, so that they are deselected in the
+     * same way as when the grid fetches the items to check the selection.
+     *
+     * @param itemIds
+     *            the ids of the items to look up, not {@code null}
+     * @param filter
+     *            the current filter of the grid, or an empty optional if
+     *            there is no filter
+     * @return the subset of the given ids that still exist, not {@code null}
+     */
+    Set<Object> findExistingIds(Set<Object> itemIds, Optional<?> filter);
+}
@@ -34,6 +34,7 @@ import com.vaadin.flow.component.grid.GridArrayUpdater;
 import com.vaadin.flow.component.grid.dataview.GridDataView;
 import com.vaadin.flow.component.grid.dataview.GridLazyDataView;
 import com.vaadin.flow.component.grid.dataview.GridListDataView;
+import com.vaadin.flow.component.grid.dataview.ItemExistenceCheck;
 import com.vaadin.flow.component.internal.AllowInert;
 import com.vaadin.flow.data.binder.PropertyDefinition;
 import com.vaadin.flow.data.provider.BackEndDataProvider;
@@ -338,6 +339,35 @@ public class TreeGrid<T> extends Grid<T>
                         + "An example of interface to be used: HierarchicalDataProvider");
     }
 
+    /**
+     * Tree grid does not support data views. Use
+     * {@link #setDataProvider(HierarchicalDataProvider)} instead.
+     * <p>
+     * This method is inherited from Grid and has been marked as deprecated to
+     * indicate that it is not supported. This method will throw an
+     * {@link UnsupportedOperationException}.
+     *
+     * @param dataProvider
+     *            the data provider
+     * @param itemExistenceCheck
+     *            the item existence check
+     * @return the data view
+     * @deprecated use {@link #setDataProvider(HierarchicalDataProvider)},
+     *             {@link #setItems(Collection, ValueProvider)},
+     *             {@link #setItems(Stream, ValueProvider)} or
+     *             {@link #setTreeData(TreeData)} instead.
+     */
+    @Deprecated
+    @Override
+    public GridLazyDataView<T> setItems(
+            BackEndDataProvider<T, Void> dataProvider,
+            ItemExistenceCheck itemExistenceCheck) {
+        throw new UnsupportedOperationException(
+                "TreeGrid only accepts hierarchical data providers. "
+                        + "Use another setDataProvider/setItems method instead with hierarchical data."
+                        + "An example of interface to be used: HierarchicalDataProvider");
+    }
+
     /**
      * Tree grid supports only hierarchical data so use another method instead.
      * <p>
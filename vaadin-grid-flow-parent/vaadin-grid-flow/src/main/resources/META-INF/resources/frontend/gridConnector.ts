@@ -548,7 +548,8 @@ window.Vaadin.Flow.gridConnector.initLazy = (grid) => {
     const eventContext = grid.getEventContext(sourceEvent);
     const key = eventContext.item?.key || '';
     const columnId = eventContext.column?.id || '';
-    return { key, columnId };
+    const columnFlowId = eventContext.column?._flowId || '';
+    return { key, columnId, columnFlowId };
   };
 
   grid.preventContextMenu = function (event) {
@@ -15,9 +15,12 @@
  */
 package com.vaadin.flow.component.grid;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
@@ -737,6 +740,97 @@ class AbstractGridMultiSelectionModelTest {
                 () -> getGridSelectionColumn(grid));
     }
 
+    @Test
+    void compactSelectAll_lazyDataProvider_itemsNotFetched() {
+        AtomicInteger fetchCount = new AtomicInteger();
+        grid.setSelectionMode(SelectionMode.MULTI);
+        grid.setItems(query -> {
+            fetchCount.incrementAndGet();
+            return IntStream.range(query.getOffset(),
+                    Math.min(1000, query.getOffset() + query.getLimit()))
+                    .mapToObj(String::valueOf);
+        }, query -> 1000);
+        GridMultiSelectionModel<String> selectionModel = (GridMultiSelectionModel<String>) grid
+                .getSelectionModel();
+        selectionModel.setSelectAllMode(
+                GridMultiSelectionModel.SelectAllMode.COMPACT);
+        fetchCount.set(0);
+
+        selectionModel.selectAll();
+
+        Assertions.assertEquals(0, fetchCount.get());
+        Assertions.assertTrue(selectionModel.isSelected("500"));
+        Assertions.assertTrue(
+                selectionModel.getAllItemsSelection().isPresent());
+        Assertions.assertEquals(0, fetchCount.get());
+    }
+
+    @Test
+    void compactSelectAll_deselectItem_itemExcluded() {
+        grid.setItems("foo", "bar", "baz");
+        grid.setSelectionMode(SelectionMode.MULTI);
+        GridMultiSelectionModel<String> selectionModel = (GridMultiSelectionModel<String>) grid
+                .getSelectionModel();
+        selectionModel.setSelectAllMode(
+                GridMultiSelectionModel.SelectAllMode.COMPACT);
+
+        selectionModel.selectAll();
+        selectionModel.deselect("bar");
+
+        Assertions.assertFalse(selectionModel.isSelected("bar"));
+        Assertions.assertTrue(selectionModel.isSelected("foo"));
+        Assertions.assertEquals(Set.of("bar"), selectionModel
+                .getAllItemsSelection().get().getExcludedIds());
+        Assertions.assertEquals(List.of("foo", "baz"),
+                List.copyOf(selectionModel.getSelectedItems()));
+        Assertions.assertEquals(2, selectionModel.getSelectedItems().size());
+        Assertions.assertEquals(Set.of("bar"), deselected);
+
+        selectionModel.select("bar");
+        Assertions.assertTrue(selectionModel.isSelected("bar"));
+        Assertions.assertTrue(selectionModel.getAllItemsSelection().get()
+                .getExcludedIds().isEmpty());
+    }
+
+    @Test
+    void compactSelectAll_eventCarriesCompactSelection() {
+        grid.setItems("foo", "bar");
+        grid.setSelectionMode(SelectionMode.MULTI);
+        GridMultiSelectionModel<String> selectionModel = (GridMultiSelectionModel<String>) grid
+                .getSelectionModel();
+        selectionModel.setSelectAllMode(
+                GridMultiSelectionModel.SelectAllMode.COMPACT);
+        List<Set<String>> values = new ArrayList<>();
+        selectionModel.addMultiSelectionListener(
+                event -> values.add(event.getValue()));
+
+        selectionModel.selectAll();
+        selectionModel.deselectFromClient("foo");
+
+        Assertions.assertEquals(2, values.size());
+        Assertions.assertInstanceOf(AllItemsSelection.class, values.get(0));
+        Assertions.assertEquals(Set.of("foo", "bar"), values.get(0));
+        Assertions.assertEquals(Set.of("bar"), values.get(1));
+    }
+
+    @Test
+    void compactSelectAll_deselectAll_selectionCleared() {
+        grid.setItems("foo", "bar");
+        grid.setSelectionMode(SelectionMode.MULTI);
+        GridMultiSelectionModel<String> selectionModel = (GridMultiSelectionModel<String>) grid
+                .getSelectionModel();
+        selectionModel.setSelectAllMode(
+                GridMultiSelectionModel.SelectAllMode.COMPACT);
+
+        selectionModel.selectAll();
+        selectionModel.deselectAll();
+
+        Assertions.assertFalse(selectionModel.isSelected("foo"));
+        Assertions.assertTrue(selectionModel.getSelectedItems().isEmpty());
+        Assertions.assertTrue(
+                selectionModel.getAllItemsSelection().isEmpty());
+    }
+
     private void verifySelectAllCheckboxVisibilityInMultiSelectMode(
             boolean inMemory, boolean unknownItemCount,
             boolean expectedVisibility,
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
@@ -28,6 +29,8 @@ import org.junit.jupiter.api.Test;
 
 import com.vaadin.flow.component.HasValue;
 import com.vaadin.flow.component.grid.Grid.SelectionMode;
+import com.vaadin.flow.component.grid.dataview.GridListDataView;
+import com.vaadin.flow.component.grid.dataview.ItemExistenceCheck;
 import com.vaadin.flow.component.shared.SelectionPreservationMode;
 import com.vaadin.flow.data.provider.BackEndDataProvider;
 import com.vaadin.flow.data.provider.DataProvider;
@@ -327,6 +330,99 @@ class GridSelectionTest {
                 () -> setLazyDataProvider(grid));
     }
 
+    @Test
+    void lazyDataProvider_withItemExistenceCheck_preserveExistingUsesCheck() {
+        Grid<String> grid = new Grid<>();
+        grid.setSelectionMode(SelectionMode.MULTI);
+        List<String> backend = new ArrayList<>(
+                Arrays.asList("foo", "bar", "baz"));
+        AtomicInteger fetchCount = new AtomicInteger();
+        List<Set<Object>> lookups = new ArrayList<>();
+        grid.setItems(query -> {
+            fetchCount.incrementAndGet();
+            return backend.stream().skip(query.getOffset())
+                    .limit(query.getLimit());
+        }, query -> backend.size()).setItemExistenceCheck((ids, filter) -> {
+            lookups.add(Set.copyOf(ids));
+            Set<Object> existing = new LinkedHashSet<>(ids);
+            existing.retainAll(backend);
+            return existing;
+        });
+        grid.setSelectionPreservationMode(
+                SelectionPreservationMode.PRESERVE_EXISTING);
+        grid.asMultiSelect().select("foo", "bar");
+        fetchCount.set(0);
+
+        backend.remove("bar");
+        grid.getDataProvider().refreshAll();
+
+        Assertions.assertEquals(Set.of("foo"), grid.getSelectedItems());
+        Assertions.assertEquals(List.of(Set.of("foo", "bar")), lookups);
+        Assertions.assertEquals(0, fetchCount.get());
+    }
+
+    @Test
+    void setItemExistenceCheck_setDataProvider_checkRemoved() {
+        Grid<String> grid = new Grid<>();
+        grid.setItemExistenceCheck((ids, filter) -> ids);
+        grid.setItems("foo", "bar");
+        Assertions.assertNull(grid.getItemExistenceCheck());
+    }
+
+    @Test
+    void preserveExisting_setLazyDataProviderFails_checkAndDataProviderKept() {
+        Grid<String> grid = new Grid<>();
+        grid.setItems("foo", "bar");
+        ItemExistenceCheck check = (ids, filter) -> ids;
+        grid.setItemExistenceCheck(check);
+        grid.setSelectionPreservationMode(
+                SelectionPreservationMode.PRESERVE_EXISTING);
+        DataProvider<String, ?> dataProvider = grid.getDataProvider();
+
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> setLazyDataProvider(grid));
+
+        Assertions.assertSame(check, grid.getItemExistenceCheck());
+        Assertions.assertSame(dataProvider, grid.getDataProvider());
+    }
+
+    @Test
+    void preserveExisting_setLazyItemsWithCheck_checkUsed() {
+        Grid<String> grid = new Grid<>();
+        grid.setSelectionPreservationMode(
+                SelectionPreservationMode.PRESERVE_EXISTING);
+        ItemExistenceCheck check = (ids, filter) -> ids;
+
+        grid.setItems(DataProvider.fromCallbacks(
+                query -> Stream.of("foo", "bar").skip(query.getOffset())
+                        .limit(query.getLimit()),
+                query -> 2), check);
+
+        Assertions.assertSame(check, grid.getItemExistenceCheck());
+        Assertions.assertFalse(grid.getDataProvider().isInMemory());
+    }
+
+    @Test
+    void itemExistenceCheck_filterOfGridPassed() {
+        Grid<String> grid = new Grid<>();
+        grid.setSelectionMode(SelectionMode.MULTI);
+        List<Optional<?>> filters = new ArrayList<>();
+        GridListDataView<String> dataView = grid.setItems("foo", "bar");
+        grid.setItemExistenceCheck((ids, filter) -> {
+            filters.add(filter);
+            return ids;
+        });
+        grid.setSelectionPreservationMode(
+                SelectionPreservationMode.PRESERVE_EXISTING);
+        grid.asMultiSelect().select("foo");
+
+        dataView.setFilter(item -> item.startsWith("f"));
+        grid.getDataProvider().refreshAll();
+
+        Assertions.assertEquals(1, filters.size());
+        Assertions.assertTrue(filters.get(0).isPresent());
+    }
+
     private static void setLazyDataProvider(Grid<String> grid) {
         BackEndDataProvider<String, Void> dataProvider = DataProvider
                 .fromCallbacks(query -> {
@@ -15,6 +15,9 @@
  */
 package com.vaadin.flow.component.grid.contextmenu;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -27,6 +30,9 @@ import com.vaadin.flow.component.contextmenu.SubMenu;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.html.NativeButton;
 import com.vaadin.flow.function.SerializableRunnable;
+import com.vaadin.flow.internal.JacksonUtils;
+
+import tools.jackson.databind.node.ObjectNode;
 
 class GridContextMenuTest {
 
@@ -84,4 +90,92 @@ class GridContextMenuTest {
 
         Assertions.assertEquals(grid, gridContextMenu.getTarget());
     }
+
+    @Test
+    void dynamicContentProvider_open_itemsAddedForTarget() {
+        Grid<String> grid = new Grid<>();
+        grid.setItems("foo", "bar");
+        Grid.Column<String> column = grid.addColumn(item -> item);
+        GridContextMenu<String> menu = new GridContextMenu<>(grid);
+        menu.addItem("static", null);
+        AtomicReference<String> target = new AtomicReference<>();
+        AtomicReference<Grid.Column<String>> targetColumn = new AtomicReference<>();
+        menu.setDynamicContentProvider((contextMenu, item, col) -> {
+            target.set(item);
+            targetColumn.set(col);
+            contextMenu.addItem("Edit " + item, null);
+            return true;
+        });
+
+        boolean open = menu.onBeforeOpenMenu(createEventDetail(grid, "bar",
+                column.getElement().getProperty("_flowId")));
+
+        Assertions.assertTrue(open);
+        Assertions.assertEquals("bar", target.get());
+        Assertions.assertSame(column, targetColumn.get());
+        Assertions.assertEquals(List.of("Edit bar"), getItemTexts(menu));
+    }
+
+    @Test
+    void dynamicContentProvider_reopen_previousItemsReplaced() {
+        Grid<String> grid = new Grid<>();
+        grid.setItems("foo", "bar");
+        GridContextMenu<String> menu = new GridContextMenu<>(grid);
+        menu.setDynamicContentProvider((contextMenu, item, col) -> {
+            contextMenu.addItem("Edit " + item, null);
+            return true;
+        });
+
+        menu.onBeforeOpenMenu(createEventDetail(grid, "foo", ""));
+        menu.onBeforeOpenMenu(createEventDetail(grid, "bar", ""));
+
+        Assertions.assertEquals(List.of("Edit bar"), getItemTexts(menu));
+    }
+
+    @Test
+    void dynamicContentProvider_notOpened_itemsRemoved() {
+        Grid<String> grid = new Grid<>();
+        grid.setItems("foo");
+        GridContextMenu<String> menu = new GridContextMenu<>(grid);
+        menu.setDynamicContentProvider((contextMenu, item, col) -> {
+            contextMenu.addItem("Edit " + item, null);
+            return false;
+        });
+
+        boolean open = menu
+                .onBeforeOpenMenu(createEventDetail(grid, "foo", ""));
+
+        Assertions.assertFalse(open);
+        Assertions.assertTrue(menu.getItems().isEmpty());
+    }
+
+    @Test
+    void dynamicContentProvider_close_itemsRemoved() {
+        Grid<String> grid = new Grid<>();
+        grid.setItems("foo");
+        GridContextMenu<String> menu = new GridContextMenu<>(grid);
+        menu.setDynamicContentProvider((contextMenu, item, col) -> {
+            contextMenu.addItem("Edit " + item, null);
+            return true;
+        });
+        menu.onBeforeOpenMenu(createEventDetail(grid, "foo", ""));
+        menu.getElement().setProperty("opened", true);
+
+        menu.getElement().setProperty("opened", false);
+
+        Assertions.assertTrue(menu.getItems().isEmpty());
+    }
+
+    private ObjectNode createEventDetail(Grid<String> grid, String item,
+            String columnFlowId) {
+        ObjectNode detail = JacksonUtils.createObjectNode();
+        detail.put("key",
+                grid.getDataCommunicator().getKeyMapper().key(item));
+        detail.put("columnFlowId", columnFlowId);
+        return detail;
+    }
+
+    private List<String> getItemTexts(GridContextMenu<String> menu) {
+        return menu.getItems().stream().map(GridMenuItem::getText).toList();
+    }
 }
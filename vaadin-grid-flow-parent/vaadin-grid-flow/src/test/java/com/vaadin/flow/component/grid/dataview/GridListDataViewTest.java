@@ -16,19 +16,30 @@
 package com.vaadin.flow.component.grid.dataview;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
 
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.data.provider.AbstractListDataView;
 import com.vaadin.flow.data.provider.HasListDataView;
 import com.vaadin.flow.data.provider.ListDataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.SortDirection;
+import com.vaadin.flow.data.renderer.TextRenderer;
+import com.vaadin.flow.function.SerializablePredicate;
+import com.vaadin.flow.function.ValueProvider;
+import com.vaadin.tests.MockUIExtension;
 import com.vaadin.tests.dataprovider.AbstractListDataViewListenerTest;
 
 class GridListDataViewTest extends AbstractListDataViewListenerTest {
+    @RegisterExtension
+    MockUIExtension ui = new MockUIExtension();
 
     @Test
     void dataViewWithItem_rowOutsideSetRequested_exceptionThrown() {
@@ -170,6 +181,181 @@ class GridListDataViewTest extends AbstractListDataViewListenerTest {
                 "Non existent item found in data");
     }
 
+    @Test
+    void getItemsAndItemIndex_itemsFetchedOnce() {
+        AtomicInteger fetchCount = new AtomicInteger();
+        Grid<String> grid = new Grid<>();
+        grid.setInMemoryItemCacheEnabled(true);
+        ui.add(grid);
+        GridListDataView<String> dataView = grid
+                .setItems(createCountingDataProvider(fetchCount));
+        dataView.setSortOrder(ValueProvider.identity(),
+                SortDirection.ASCENDING);
+        fetchCount.set(0);
+
+        Assertions.assertEquals(List.of("a", "b", "c"),
+                dataView.getItems().toList());
+        Assertions.assertEquals(Optional.of(2), dataView.getItemIndex("c"));
+        Assertions.assertEquals(Optional.of(0), dataView.getItemIndex("a"));
+        Assertions.assertEquals(1, fetchCount.get());
+    }
+
+    @Test
+    void addItem_itemIndexUpdated() {
+        AtomicInteger fetchCount = new AtomicInteger();
+        Grid<String> grid = new Grid<>();
+        grid.setInMemoryItemCacheEnabled(true);
+        ui.add(grid);
+        GridListDataView<String> dataView = grid
+                .setItems(createCountingDataProvider(fetchCount));
+        dataView.setSortOrder(ValueProvider.identity(),
+                SortDirection.DESCENDING);
+        dataView.getItems();
+        fetchCount.set(0);
+
+        dataView.addItem("d");
+
+        Assertions.assertEquals(Optional.of(0), dataView.getItemIndex("d"));
+        Assertions.assertEquals(Optional.of(3), dataView.getItemIndex("a"));
+        Assertions.assertEquals(1, fetchCount.get());
+    }
+
+    @Test
+    void setFilter_itemIndexUpdated() {
+        Grid<String> grid = new Grid<>();
+        grid.setInMemoryItemCacheEnabled(true);
+        ui.add(grid);
+        GridListDataView<String> dataView = grid.setItems("b", "c", "a");
+        Assertions.assertEquals(Optional.of(0), dataView.getItemIndex("b"));
+
+        dataView.setFilter(item -> !item.equals("b"));
+
+        Assertions.assertEquals(Optional.empty(), dataView.getItemIndex("b"));
+        Assertions.assertEquals(Optional.of(1), dataView.getItemIndex("a"));
+    }
+
+    @Test
+    void setIdentifierProvider_itemIndexUsesIdentifiers() {
+        Grid<String> grid = new Grid<>();
+        ui.add(grid);
+        GridListDataView<String> dataView = grid.setItems("first", "middle",
+                "last");
+        Assertions.assertEquals(Optional.empty(),
+                dataView.getItemIndex("mouse"));
+
+        dataView.setIdentifierProvider(item -> item.substring(0, 1));
+
+        Assertions.assertEquals(Optional.of(1),
+                dataView.getItemIndex("mouse"));
+    }
+
+    @Test
+    void refreshItem_itemSortedAgain() {
+        StringBuilder first = new StringBuilder("a");
+        StringBuilder second = new StringBuilder("b");
+        Grid<StringBuilder> grid = new Grid<>();
+        grid.setInMemoryItemCacheEnabled(true);
+        ui.add(grid);
+        GridListDataView<StringBuilder> dataView = grid.setItems(first,
+                second);
+        dataView.setSortOrder(StringBuilder::toString,
+                SortDirection.ASCENDING);
+        Assertions.assertEquals(Optional.of(0), dataView.getItemIndex(first));
+
+        first.replace(0, 1, "c");
+        dataView.refreshItem(first);
+
+        Assertions.assertEquals(List.of(second, first),
+                dataView.getItems().toList());
+        Assertions.assertEquals(Optional.of(1), dataView.getItemIndex(first));
+    }
+
+    @Test
+    void itemCacheEnabled_backingCollectionChanged_seenAfterRefreshAll() {
+        List<String> items = new ArrayList<>(List.of("b", "a"));
+        Grid<String> grid = new Grid<>();
+        grid.setInMemoryItemCacheEnabled(true);
+        ui.add(grid);
+        GridListDataView<String> dataView = grid.setItems(items);
+        dataView.setSortOrder(ValueProvider.identity(),
+                SortDirection.ASCENDING);
+        Assertions.assertEquals(2, dataView.getItems().count());
+
+        items.add("c");
+        Assertions.assertEquals(List.of("a", "b"),
+                dataView.getItems().toList());
+
+        dataView.refreshAll();
+        Assertions.assertEquals(List.of("a", "b", "c"),
+                dataView.getItems().toList());
+        Assertions.assertEquals(Optional.of(2), dataView.getItemIndex("c"));
+    }
+
+    @Test
+    void itemCacheDisabledByDefault_backingCollectionChangesSeen() {
+        List<String> items = new ArrayList<>(List.of("b", "a"));
+        Grid<String> grid = new Grid<>();
+        ui.add(grid);
+        GridListDataView<String> dataView = grid.setItems(items);
+        dataView.setSortOrder(ValueProvider.identity(),
+                SortDirection.ASCENDING);
+        Assertions.assertFalse(grid.isInMemoryItemCacheEnabled());
+        Assertions.assertEquals(2, dataView.getItems().count());
+
+        items.add("c");
+
+        Assertions.assertEquals(List.of("a", "b", "c"),
+                dataView.getItems().toList());
+    }
+
+    @Test
+    void itemCacheEnabled_noFilterOrSorting_itemsNotCached() {
+        AtomicInteger fetchCount = new AtomicInteger();
+        Grid<String> grid = new Grid<>();
+        grid.setInMemoryItemCacheEnabled(true);
+        ui.add(grid);
+        GridListDataView<String> dataView = grid
+                .setItems(createCountingDataProvider(fetchCount));
+        fetchCount.set(0);
+
+        dataView.getItems();
+        dataView.getItems();
+
+        Assertions.assertEquals(2, fetchCount.get());
+    }
+
+    @Test
+    void itemCacheEnabled_setDetailsVisible_itemsNotFetchedAgain() {
+        AtomicInteger fetchCount = new AtomicInteger();
+        Grid<String> grid = new Grid<>();
+        grid.setInMemoryItemCacheEnabled(true);
+        grid.setItemDetailsRenderer(new TextRenderer<>(item -> item));
+        ui.add(grid);
+        GridListDataView<String> dataView = grid
+                .setItems(createCountingDataProvider(fetchCount));
+        dataView.setSortOrder(ValueProvider.identity(),
+                SortDirection.ASCENDING);
+        dataView.getItems();
+        fetchCount.set(0);
+
+        grid.setDetailsVisible("b", true);
+
+        Assertions.assertEquals(Optional.of(1), dataView.getItemIndex("b"));
+        Assertions.assertEquals(0, fetchCount.get());
+    }
+
+    private ListDataProvider<String> createCountingDataProvider(
+            AtomicInteger fetchCount) {
+        return new ListDataProvider<>(new ArrayList<>(List.of("b", "c", "a"))) {
+            @Override
+            public Stream<String> fetch(
+                    Query<String, SerializablePredicate<String>> query) {
+                fetchCount.incrementAndGet();
+                return super.fetch(query);
+            }
+        };
+    }
+
     @Override
     protected HasListDataView<String, ? extends AbstractListDataView<String>> getComponent() {
         return new Grid<>();
@@ -15,11 +15,13 @@
  */
 package com.vaadin.flow.component.listbox;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -34,12 +36,14 @@ import com.vaadin.flow.component.HasStyle;
 import com.vaadin.flow.component.HasValueAndElement;
 import com.vaadin.flow.component.ItemLabelGenerator;
 import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.Text;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.component.listbox.dataview.ListBoxDataView;
 import com.vaadin.flow.component.listbox.dataview.ListBoxListDataView;
 import com.vaadin.flow.component.shared.HasTooltip;
+import com.vaadin.flow.component.shared.internal.ChildElementsReconciler;
 import com.vaadin.flow.data.binder.HasItemComponents;
 import com.vaadin.flow.data.provider.BackEndDataProvider;
 import com.vaadin.flow.data.provider.DataChangeEvent;
@@ -66,6 +70,13 @@ import com.vaadin.flow.signals.Signal;
 
 /**
  * Base class for the {@link ListBox} and {@link MultiSelectListBox}.
+ * <p>
+ * The list box renders a component for each item, and all items are fetched
+ * from the data provider at once, also from data providers that are not
+ * in-memory. Loading the items lazily is not supported, as the value of the
+ * list box on the client is the index of the selected item among the
+ * rendered items. For selecting from a large number of items, use a
+ * {@code Select} with a lazy data provider instead.
  *
  * @author Vaadin Ltd
  */
@@ -283,18 +294,31 @@ public abstract class ListBoxBase<C extends ListBoxBase<C, ITEM, VALUE>, ITEM, V
 
     @SuppressWarnings("unchecked")
     void rebuild() {
-        removeAll();
-
         synchronized (dataProvider) {
-            final AtomicInteger itemCounter = new AtomicInteger(0);
             items = (List<ITEM>) getDataProvider()
                     .fetch(DataViewUtils.getQuery(this))
                     .collect(Collectors.toList());
-            items.stream().map(this::createItemComponent).forEach(component -> {
-                add(component);
-                itemCounter.incrementAndGet();
-            });
-            lastFetchedDataSize = itemCounter.get();
+
+            // Reuse the components of the items that are still present, so
+            // that only the changed items are sent to the client
+            Map<Object, VaadinItem<ITEM>> existingComponents = new HashMap<>();
+            getItemComponents().forEach(component -> existingComponents
+                    .putIfAbsent(getItemId(component.getItem()), component));
+            List<VaadinItem<ITEM>> itemComponents = new ArrayList<>(
+                    items.size());
+            for (ITEM item : items) {
+                VaadinItem<ITEM> component = existingComponents
+                        .remove(getItemId(item));
+                if (component == null) {
+                    component = createItemComponent(item);
+                } else {
+                    component.setItem(item);
+                    refresh(component);
+                }
+                itemComponents.add(component);
+            }
+            ChildElementsReconciler.reconcile(getElement(), itemComponents);
+            lastFetchedDataSize = itemComponents.size();
 
             // Ignore new size requests unless the last one has been executed
             // so as to avoid multiple beforeClientResponses.
@@ -320,7 +344,10 @@ public abstract class ListBoxBase<C extends ListBoxBase<C, ITEM, VALUE>, ITEM, V
         getItemComponents().stream()
                 .filter(vaadinItem -> getItemId(vaadinItem.getItem())
                         .equals(getItemId(item)))
-                .findFirst().ifPresent(this::refresh);
+                .findFirst().ifPresent(vaadinItem -> {
+                    vaadinItem.setItem(item);
+                    refresh(vaadinItem);
+                });
     }
 
     private void refresh(VaadinItem<ITEM> itemComponent) {
@@ -329,9 +356,17 @@ public abstract class ListBoxBase<C extends ListBoxBase<C, ITEM, VALUE>, ITEM, V
     }
 
     private void refreshContent(VaadinItem<ITEM> itemComponent) {
+        Component content = itemRenderer
+                .createComponent(itemComponent.getItem());
+        List<Component> children = itemComponent.getChildren().toList();
+        if (children.size() == 1 && children.get(0) instanceof Text text
+                && content instanceof Text newText) {
+            // Update the text in place instead of replacing the node
+            text.setText(newText.getText());
+            return;
+        }
         itemComponent.removeAll();
-        itemComponent
-                .add(itemRenderer.createComponent(itemComponent.getItem()));
+        itemComponent.add(content);
     }
 
     @Override
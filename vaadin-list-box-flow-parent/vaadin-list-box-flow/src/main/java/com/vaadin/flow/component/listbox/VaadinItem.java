@@ -37,7 +37,7 @@ import com.vaadin.flow.data.binder.HasItemComponents;
 class VaadinItem<T> extends Component
         implements HasItemComponents.ItemComponent<T>, HasComponents {
 
-    private final T item;
+    private T item;
 
     /**
      * Constructs the component with the given item rendered as a String.
@@ -54,4 +54,8 @@ class VaadinItem<T> extends Component
         return item;
     }
 
+    void setItem(T item) {
+        this.item = item;
+    }
+
 }
@@ -28,6 +28,7 @@ import com.vaadin.flow.component.HasAriaLabel;
 import com.vaadin.flow.component.listbox.ListBox;
 import com.vaadin.flow.component.listbox.dataview.ListBoxListDataView;
 import com.vaadin.flow.component.shared.HasTooltip;
+import com.vaadin.flow.dom.Element;
 import com.vaadin.tests.MockUIExtension;
 import com.vaadin.tests.dataprovider.DataProviderListenersTest;
 
@@ -220,6 +221,24 @@ class ListBoxUnitTest {
         Assertions.assertTrue(listBox.getAriaLabelledBy().isEmpty());
     }
 
+    @Test
+    void refreshAll_existingItemComponentsReused() {
+        List<String> items = new ArrayList<>(List.of("a", "b", "c"));
+        ListBoxListDataView<String> dataView = listBox.setItems(items);
+        Element a = listBox.getElement().getChild(0);
+        Element c = listBox.getElement().getChild(2);
+
+        items.remove("b");
+        items.add(0, "d");
+        dataView.refreshAll();
+
+        Assertions.assertEquals(3, listBox.getElement().getChildCount());
+        Assertions.assertEquals("d",
+                listBox.getElement().getChild(0).getText());
+        Assertions.assertSame(a, listBox.getElement().getChild(1));
+        Assertions.assertSame(c, listBox.getElement().getChild(2));
+    }
+
     private void assertDisabledItem(int index, boolean disabled) {
         if (disabled) {
             Assertions.assertNotNull(listBox.getElement().getChild(index)
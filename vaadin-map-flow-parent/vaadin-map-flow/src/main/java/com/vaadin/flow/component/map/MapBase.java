@@ -50,6 +50,7 @@ public abstract class MapBase extends Component
     private transient MapSerializer serializer;
 
     private StateTree.ExecutionRegistration pendingConfigurationSync;
+    private Extent viewportExtent;
 
     protected MapBase() {
         this.configuration = new Configuration();
@@ -103,6 +104,10 @@ public abstract class MapBase extends Component
         }
         getUI().ifPresent(ui -> pendingConfigurationSync = ui
                 .beforeClientResponse(this, context -> {
+                    // Update the viewport of layers that have been added
+                    // after the last viewport change, while changes don't
+                    // request another sync
+                    updateViewportExtent();
                     pendingConfigurationSync = null;
                     synchronizeConfiguration();
                 }));
@@ -129,6 +134,17 @@ public abstract class MapBase extends Component
         this.requestConfigurationSync();
     }
 
+    /**
+     * Passes the visible area of the map through the configuration to the
+     * vector sources, which use it for viewport culling.
+     */
+    private void updateViewportExtent() {
+        if (viewportExtent == null) {
+            return;
+        }
+        configuration.updateViewportExtent(viewportExtent);
+    }
+
     private void registerEventListeners() {
         // Register an event listener before all the other listeners of the view
         // move end event to update view state to the latest values received
@@ -139,6 +155,8 @@ public abstract class MapBase extends Component
             Coordinate center = event.getCenter();
             Extent extent = event.getExtent();
             getView().updateInternalViewState(center, rotation, zoom, extent);
+            viewportExtent = extent;
+            updateViewportExtent();
         });
         // Register an event listener before all the other listeners of the
         // feature drop event to update the feature's position
@@ -22,6 +22,7 @@ import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonIdentityReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.vaadin.flow.component.map.configuration.layer.Layer;
+import com.vaadin.flow.component.map.configuration.source.VectorSource;
 
 /**
  * Base class for all map configuration objects that represent an OL class. The
@@ -105,7 +106,10 @@ public abstract class AbstractConfigurationObject implements Serializable {
     }
 
     public void setId(String id) {
+        String oldId = this.id;
         this.id = id;
+        // Notify parents directly, which may look up nested objects by ID
+        propertyChangeSupport.firePropertyChange("id", oldId, id);
     }
 
     /**
@@ -151,6 +155,19 @@ public abstract class AbstractConfigurationObject implements Serializable {
         children.forEach(AbstractConfigurationObject::deepMarkAsDirty);
     }
 
+    /**
+     * Passes the visible area of the map to this object and to all nested
+     * objects. Objects that depend on the visible area, such as
+     * {@link com.vaadin.flow.component.map.configuration.source.VectorSource}
+     * with viewport culling, can override this method.
+     *
+     * @param viewportExtent
+     *            the extent of the visible area of the map
+     */
+    protected void updateViewportExtent(Extent viewportExtent) {
+        children.forEach(child -> child.updateViewportExtent(viewportExtent));
+    }
+
     /**
      * Adds a nested object reference to keep track of. This adds the object to
      * an internal set that is used when collecting changed / dirty objects for
@@ -176,6 +193,41 @@ public abstract class AbstractConfigurationObject implements Serializable {
         configurationObject.deepMarkAsDirty();
     }
 
+    /**
+     * Marks a nested object, as well as all of its nested objects, as dirty /
+     * as changed, so that the full nested hierarchy will be picked up for the
+     * next synchronization. Like {@link #deepMarkAsDirty()}, this does not
+     * trigger {@link #notifyChange()}.
+     * <p>
+     * This can be used when a nested object that has been skipped from the
+     * synchronization, see
+     * {@link #isChildSynchronized(AbstractConfigurationObject)}, is
+     * synchronized again, as the client-side may have removed it from the
+     * reference lookup in the meantime.
+     */
+    protected void deepMarkChildAsDirty(
+            AbstractConfigurationObject configurationObject) {
+        configurationObject.deepMarkAsDirty();
+    }
+
+    /**
+     * Whether changes of a nested object should be collected for the next
+     * synchronization. Nested objects that are not synchronized, as well as
+     * their nested objects, are skipped when collecting changes, and they stay
+     * dirty until they are synchronized again. Change events of the nested
+     * objects are still relayed. By default, all nested objects are
+     * synchronized.
+     *
+     * @param configurationObject
+     *            the nested object to check
+     * @return {@code true} to collect the changes of the nested object,
+     *         {@code false} to skip it
+     */
+    protected boolean isChildSynchronized(
+            AbstractConfigurationObject configurationObject) {
+        return true;
+    }
+
     /**
      * Convenience wrapper for {@link #addChild(AbstractConfigurationObject)}
      * that allows {@code configurationObject} to be a null reference.
@@ -277,7 +329,11 @@ public abstract class AbstractConfigurationObject implements Serializable {
      */
     protected void collectChanges(
             Consumer<AbstractConfigurationObject> changeCollector) {
-        children.forEach(child -> child.collectChanges(changeCollector));
+        children.forEach(child -> {
+            if (isChildSynchronized(child)) {
+                child.collectChanges(changeCollector);
+            }
+        });
         if (dirty) {
             changeCollector.accept(this);
             dirty = false;
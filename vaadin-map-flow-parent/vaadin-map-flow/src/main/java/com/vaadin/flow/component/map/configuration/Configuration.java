@@ -224,6 +224,17 @@ public class Configuration extends AbstractConfigurationObject {
         super.collectChanges(changeCollector);
     }
 
+    /**
+     * For internal use only.
+     * <p>
+     * Exposes the method to allow the map component to pass the visible area
+     * of the map to the configuration.
+     */
+    @Override
+    public void updateViewportExtent(Extent viewportExtent) {
+        super.updateViewportExtent(viewportExtent);
+    }
+
     private void handleControlPropertyChange(PropertyChangeEvent event) {
         // When property of a control changes, resync the configuration itself:
         // - Sends an updated list of visible controls
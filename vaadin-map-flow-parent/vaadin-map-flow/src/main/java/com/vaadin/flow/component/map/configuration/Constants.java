@@ -26,6 +26,8 @@ public class Constants {
     public static final String OL_SOURCE_CLUSTER = "ol/source/Cluster";
     public static final String OL_SOURCE_TILE_WMS = "ol/source/TileWMS";
     public static final String OL_SOURCE_IMAGE_WMS = "ol/source/ImageWMS";
+    // Synchronized into an ol/source/Vector by a custom synchronization
+    public static final String VAADIN_SOURCE_POINT = "vaadin/source/Point";
     // Geometry
     public static final String OL_GEOMETRY_LINESTRING = "ol/geom/LineString";
     public static final String OL_GEOMETRY_POINT = "ol/geom/Point";
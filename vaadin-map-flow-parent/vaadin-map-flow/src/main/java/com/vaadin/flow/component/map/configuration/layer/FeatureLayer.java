@@ -40,6 +40,10 @@ import com.vaadin.flow.component.map.configuration.style.TextStyle;
  * features that extend from {@link PointBasedFeature}, such as
  * {@link MarkerFeature} can be added to the layer. Enabling clustering will
  * switch the layer's source to a {@link ClusterSource}.
+ * <p>
+ * For layers with a large number of features, viewport culling can be enabled
+ * using {@link #setViewportCullingEnabled(boolean)}, so that only the features
+ * within the visible area of the map are synchronized to the client.
  */
 public class FeatureLayer extends VectorLayer {
 
@@ -47,6 +51,8 @@ public class FeatureLayer extends VectorLayer {
     private int clusterDistance = 50;
     private int clusterMinDistance = 50;
     private Style clusterStyle;
+    private boolean viewportCullingEnabled = false;
+    private double viewportCullingMargin = 0.5;
 
     public FeatureLayer() {
         setSource(new VectorSource());
@@ -205,6 +211,70 @@ public class FeatureLayer extends VectorLayer {
         }
     }
 
+    /**
+     * Returns whether viewport culling is enabled for this layer.
+     *
+     * @return true if viewport culling is enabled, false otherwise
+     * @see #setViewportCullingEnabled(boolean)
+     */
+    @JsonIgnore
+    public boolean isViewportCullingEnabled() {
+        return viewportCullingEnabled;
+    }
+
+    /**
+     * Enables or disables viewport culling for this layer. When enabled, only
+     * the features that intersect with the visible area of the map, extended
+     * by the margin set with {@link #setViewportCullingMargin(double)}, are
+     * synchronized to the client. The features are kept in a spatial index,
+     * and the synchronized features are updated when the user has finished
+     * moving the viewport, and when features are added, removed or moved.
+     * <p>
+     * As the visible area is calculated on the client-side, no features are
+     * synchronized until the map has been rendered once. When clustering is
+     * enabled, only the synchronized features are clustered.
+     * <p>
+     * Disabled by default.
+     *
+     * @param viewportCullingEnabled
+     *            true to enable viewport culling, false to disable
+     * @see VectorSource#setViewportCullingEnabled(boolean)
+     */
+    public void setViewportCullingEnabled(boolean viewportCullingEnabled) {
+        this.viewportCullingEnabled = viewportCullingEnabled;
+        getSource().setViewportCullingEnabled(viewportCullingEnabled);
+    }
+
+    /**
+     * The margin that is added around the visible area of the map when
+     * determining which features to synchronize, relative to the size of the
+     * visible area. Default is {@code 0.5}.
+     * <p>
+     * Only applies when viewport culling is enabled.
+     *
+     * @return the margin around the visible area
+     */
+    @JsonIgnore
+    public double getViewportCullingMargin() {
+        return viewportCullingMargin;
+    }
+
+    /**
+     * Sets the margin that is added around the visible area of the map when
+     * determining which features to synchronize, relative to the size of the
+     * visible area.
+     * <p>
+     * Only applies when viewport culling is enabled.
+     *
+     * @param viewportCullingMargin
+     *            the margin around the visible area, not negative
+     * @see VectorSource#setViewportCullingMargin(double)
+     */
+    public void setViewportCullingMargin(double viewportCullingMargin) {
+        getSource().setViewportCullingMargin(viewportCullingMargin);
+        this.viewportCullingMargin = viewportCullingMargin;
+    }
+
     /**
      * The {@link Style} that defines how individual clusters should be rendered
      * when clustering is enabled. By default, uses an image of a circle with
@@ -250,6 +320,8 @@ public class FeatureLayer extends VectorLayer {
         } else {
             newSource = new VectorSource(newOptions);
         }
+        newSource.setViewportCullingMargin(viewportCullingMargin);
+        newSource.setViewportCullingEnabled(viewportCullingEnabled);
 
         setSource(newSource);
 
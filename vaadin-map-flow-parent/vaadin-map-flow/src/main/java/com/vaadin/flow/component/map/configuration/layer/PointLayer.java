@@ -0,0 +1,57 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.map.configuration.layer;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIdentityReference;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.vaadin.flow.component.map.configuration.Constants;
+import com.vaadin.flow.component.map.configuration.source.PointSource;
+
+/**
+ * Layer for rendering a large number of points from a {@link PointSource}
+ * client-side.
+ * <p>
+ * The points are rendered as vector data, but unlike with a
+ * {@link VectorLayer}, they are not represented as features on the server,
+ * which means that the layer does not provide feature events.
+ */
+public class PointLayer extends Layer {
+
+    private PointSource source;
+
+    @Override
+    public String getType() {
+        return Constants.OL_LAYER_VECTOR;
+    }
+
+    /**
+     * @return source for this layer, null by default
+     */
+    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    @JsonIdentityReference(alwaysAsId = true)
+    public PointSource getSource() {
+        return source;
+    }
+
+    /**
+     * Sets the source for this layer.
+     *
+     * @param source
+     *            the new source for the layer, not null
+     */
+    public void setSource(PointSource source) {
+        Objects.requireNonNull(source);
+        removeChild(this.source);
+        this.source = source;
+        addChild(source);
+    }
+}
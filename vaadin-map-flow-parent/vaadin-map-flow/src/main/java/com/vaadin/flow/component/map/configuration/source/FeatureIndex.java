@@ -0,0 +1,276 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.map.configuration.source;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.vaadin.flow.component.map.configuration.Extent;
+
+/**
+ * Spatial index for finding the items whose extent intersects with a given
+ * extent, without checking every item. The index is a quadtree, where each
+ * item is stored in the smallest node whose area fully contains the extent of
+ * the item. Nodes are split when they contain too many items, and the root
+ * node grows when an item is added outside of its area.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @param <T>
+ *            the type of the indexed items
+ */
+class FeatureIndex<T> implements Serializable {
+
+    private static final int NODE_CAPACITY = 16;
+    private static final int MAX_DEPTH = 24;
+
+    private final IdentityHashMap<T, Entry<T>> entries = new IdentityHashMap<>();
+    private Node<T> root;
+
+    /**
+     * Adds an item to the index, or updates the extent of an item that is
+     * already in the index. Items with an extent that has non-finite
+     * coordinates are removed from the index.
+     *
+     * @param item
+     *            the item to add, not {@code null}
+     * @param extent
+     *            the extent of the item, or {@code null} to remove the item
+     */
+    void put(T item, Extent extent) {
+        remove(item);
+        if (extent == null || !isFinite(extent)) {
+            return;
+        }
+        Entry<T> entry = new Entry<>(item, extent);
+        entries.put(item, entry);
+        if (root == null) {
+            double size = Math.max(extent.getMaxX() - extent.getMinX(),
+                    extent.getMaxY() - extent.getMinY());
+            size = size > 0 ? size : 1;
+            root = new Node<>(extent.getMinX(), extent.getMinY(),
+                    extent.getMinX() + size, extent.getMinY() + size, 0);
+        }
+        while (!root.contains(extent)) {
+            grow(extent);
+        }
+        insert(root, entry);
+    }
+
+    /**
+     * Removes an item from the index.
+     *
+     * @param item
+     *            the item to remove
+     */
+    void remove(T item) {
+        Entry<T> entry = entries.remove(item);
+        if (entry != null) {
+            entry.node.entries.remove(entry);
+        }
+    }
+
+    /**
+     * Removes all items from the index.
+     */
+    void clear() {
+        entries.clear();
+        root = null;
+    }
+
+    /**
+     * Gets whether the given item is in the index.
+     *
+     * @param item
+     *            the item to check
+     * @return {@code true} if the item is in the index
+     */
+    boolean contains(T item) {
+        return entries.containsKey(item);
+    }
+
+    /**
+     * Gets whether the extent of the given item intersects with the given
+     * extent.
+     *
+     * @param item
+     *            the item to check
+     * @param extent
+     *            the extent to check against, not {@code null}
+     * @return {@code true} if the item is in the index and its extent
+     *         intersects with the given extent
+     */
+    boolean intersects(T item, Extent extent) {
+        Entry<T> entry = entries.get(item);
+        return entry != null && intersects(entry.extent, extent);
+    }
+
+    /**
+     * Passes the items whose extent intersects with the given extent to the
+     * given consumer.
+     *
+     * @param extent
+     *            the extent to query, not {@code null}
+     * @param consumer
+     *            the consumer for the matching items, not {@code null}
+     */
+    void query(Extent extent, Consumer<T> consumer) {
+        if (root == null) {
+            return;
+        }
+        Deque<Node<T>> nodes = new ArrayDeque<>();
+        nodes.push(root);
+        while (!nodes.isEmpty()) {
+            Node<T> node = nodes.pop();
+            if (!node.intersects(extent)) {
+                continue;
+            }
+            for (Entry<T> entry : node.entries) {
+                if (intersects(entry.extent, extent)) {
+                    consumer.accept(entry.item);
+                }
+            }
+            if (node.children != null) {
+                for (Node<T> child : node.children) {
+                    nodes.push(child);
+                }
+            }
+        }
+    }
+
+    private void insert(Node<T> node, Entry<T> entry) {
+        while (node.children != null) {
+            Node<T> child = node.getChildContaining(entry.extent);
+            if (child == null) {
+                break;
+            }
+            node = child;
+        }
+        node.add(entry);
+        if (node.children == null && node.entries.size() > NODE_CAPACITY
+                && node.depth < MAX_DEPTH) {
+            split(node);
+        }
+    }
+
+    private void split(Node<T> node) {
+        node.createChildren();
+        List<Entry<T>> nodeEntries = new ArrayList<>(node.entries);
+        node.entries.clear();
+        for (Entry<T> entry : nodeEntries) {
+            Node<T> child = node.getChildContaining(entry.extent);
+            if (child == null) {
+                node.add(entry);
+            } else {
+                insert(child, entry);
+            }
+        }
+    }
+
+    /**
+     * Doubles the area of the root node towards the given extent.
+     */
+    private void grow(Extent extent) {
+        double width = root.maxX - root.minX;
+        double height = root.maxY - root.minY;
+        boolean growLeft = extent.getMinX() < root.minX;
+        boolean growDown = extent.getMinY() < root.minY;
+        double minX = growLeft ? root.minX - width : root.minX;
+        double minY = growDown ? root.minY - height : root.minY;
+        Node<T> newRoot = new Node<>(minX, minY, minX + 2 * width,
+                minY + 2 * height, 0);
+        newRoot.createChildren();
+        int index = (growLeft ? 1 : 0) + (growDown ? 2 : 0);
+        newRoot.children.set(index, root);
+        root = newRoot;
+    }
+
+    private static boolean isFinite(Extent extent) {
+        return Double.isFinite(extent.getMinX())
+                && Double.isFinite(extent.getMinY())
+                && Double.isFinite(extent.getMaxX())
+                && Double.isFinite(extent.getMaxY());
+    }
+
+    private static boolean intersects(Extent a, Extent b) {
+        return a.getMinX() <= b.getMaxX() && a.getMaxX() >= b.getMinX()
+                && a.getMinY() <= b.getMaxY() && a.getMaxY() >= b.getMinY();
+    }
+
+    private static class Entry<T> implements Serializable {
+        private final T item;
+        private final Extent extent;
+        private Node<T> node;
+
+        private Entry(T item, Extent extent) {
+            this.item = item;
+            this.extent = extent;
+        }
+    }
+
+    private static class Node<T> implements Serializable {
+        private final double minX;
+        private final double minY;
+        private final double maxX;
+        private final double maxY;
+        private final int depth;
+        private final List<Entry<T>> entries = new ArrayList<>();
+        // Children in the order: bottom left, bottom right, top left, top
+        // right
+        private List<Node<T>> children;
+
+        private Node(double minX, double minY, double maxX, double maxY,
+                int depth) {
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.depth = depth;
+        }
+
+        private void add(Entry<T> entry) {
+            entries.add(entry);
+            entry.node = this;
+        }
+
+        private void createChildren() {
+            double midX = (minX + maxX) / 2;
+            double midY = (minY + maxY) / 2;
+            children = new ArrayList<>(4);
+            children.add(new Node<>(minX, minY, midX, midY, depth + 1));
+            children.add(new Node<>(midX, minY, maxX, midY, depth + 1));
+            children.add(new Node<>(minX, midY, midX, maxY, depth + 1));
+            children.add(new Node<>(midX, midY, maxX, maxY, depth + 1));
+        }
+
+        private Node<T> getChildContaining(Extent extent) {
+            for (Node<T> child : children) {
+                if (child.contains(extent)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        private boolean contains(Extent extent) {
+            return extent.getMinX() >= minX && extent.getMaxX() <= maxX
+                    && extent.getMinY() >= minY && extent.getMaxY() <= maxY;
+        }
+
+        private boolean intersects(Extent extent) {
+            return minX <= extent.getMaxX() && maxX >= extent.getMinX()
+                    && minY <= extent.getMaxY() && maxY >= extent.getMinY();
+        }
+    }
+}
@@ -0,0 +1,383 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.map.configuration.source;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIdentityReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.vaadin.flow.component.map.configuration.AbstractConfigurationObject;
+import com.vaadin.flow.component.map.configuration.Constants;
+import com.vaadin.flow.component.map.configuration.Coordinate;
+import com.vaadin.flow.component.map.configuration.style.Style;
+
+/**
+ * A source for rendering a large number of points, for example for displaying
+ * thousands of locations on a map.
+ * <p>
+ * Unlike {@link VectorSource}, which manages each feature as a separate
+ * configuration object with its own geometry and style, this source stores
+ * the coordinates of all points in a single array, and the points reference
+ * one of the styles that are shared by all points in the source. Only the
+ * points that have changed since the last synchronization are sent to the
+ * client.
+ * <p>
+ * Points are identified by their index, which starts from {@code 0}.
+ * Removing a point shifts the indexes of the following points. Each point
+ * either uses one of the styles added with {@link #addStyle(Style)}, or the
+ * style of the layer, which is the default.
+ * <p>
+ * Points of this source are not represented as
+ * {@link com.vaadin.flow.component.map.configuration.Feature}s on the server,
+ * which means that they are not included in the feature details of map
+ * events, and that they can not be dragged.
+ *
+ * @see com.vaadin.flow.component.map.configuration.layer.PointLayer
+ */
+public class PointSource extends Source {
+
+    /**
+     * The style index for points that use the style of the layer.
+     */
+    public static final int LAYER_STYLE = -1;
+
+    // Changed ranges that are separated by fewer unchanged points are sent as
+    // a single range, to avoid the overhead of many small ranges
+    private static final int RANGE_MERGE_GAP = 16;
+
+    private final List<Style> styles = new ArrayList<>();
+    // Coordinates of the points, stored as [x0, y0, x1, y1, ...]
+    private double[] coordinates = new double[0];
+    private int[] styleIndexes = new int[0];
+    private int pointCount;
+
+    private final BitSet changedPoints = new BitSet();
+    private boolean fullSyncRequired = true;
+    // Ranges of points to synchronize, stored as [from0, to0, from1, to1, ...]
+    private int[] synchronizedRanges = new int[0];
+
+    public PointSource() {
+        this(new Options());
+    }
+
+    public PointSource(Options options) {
+        super(options);
+    }
+
+    @Override
+    public String getType() {
+        return Constants.VAADIN_SOURCE_POINT;
+    }
+
+    /**
+     * The styles that can be used by the points of this source. This returns
+     * an immutable collection, which means it can not be modified. Use
+     * {@link #addStyle(Style)} instead.
+     *
+     * @return the styles of this source, immutable
+     */
+    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    @JsonIdentityReference(alwaysAsId = true)
+    public List<Style> getStyles() {
+        return Collections.unmodifiableList(styles);
+    }
+
+    /**
+     * Adds a style that can be used by the points of this source. Styles can
+     * not be removed, as the points reference them by their index. Instead,
+     * the style instance can be modified.
+     *
+     * @param style
+     *            the style to add, not {@code null}
+     * @return the index of the added style, to be used when adding points
+     */
+    public int addStyle(Style style) {
+        Objects.requireNonNull(style);
+
+        styles.add(style);
+        addChild(style);
+        return styles.size() - 1;
+    }
+
+    /**
+     * The number of points in this source.
+     *
+     * @return the number of points
+     */
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    /**
+     * Adds a point that uses the style of the layer.
+     *
+     * @param x
+     *            the x coordinate of the point
+     * @param y
+     *            the y coordinate of the point
+     * @return the index of the added point
+     */
+    public int addPoint(double x, double y) {
+        return addPoint(x, y, LAYER_STYLE);
+    }
+
+    /**
+     * Adds a point that uses the given style.
+     *
+     * @param x
+     *            the x coordinate of the point
+     * @param y
+     *            the y coordinate of the point
+     * @param styleIndex
+     *            the index of the style, as returned by
+     *            {@link #addStyle(Style)}, or {@link #LAYER_STYLE}
+     * @return the index of the added point
+     */
+    public int addPoint(double x, double y, int styleIndex) {
+        checkStyleIndex(styleIndex);
+        ensureCapacity(pointCount + 1);
+        coordinates[2 * pointCount] = x;
+        coordinates[2 * pointCount + 1] = y;
+        styleIndexes[pointCount] = styleIndex;
+        pointCount++;
+        markPointsChanged(pointCount - 1, pointCount);
+        return pointCount - 1;
+    }
+
+    /**
+     * Adds several points that use the same style.
+     *
+     * @param coordinates
+     *            the coordinates of the points, as
+     *            {@code [x0, y0, x1, y1, ...]}, not {@code null}
+     * @param styleIndex
+     *            the index of the style, as returned by
+     *            {@link #addStyle(Style)}, or {@link #LAYER_STYLE}
+     */
+    public void addPoints(double[] coordinates, int styleIndex) {
+        Objects.requireNonNull(coordinates);
+        if (coordinates.length % 2 != 0) {
+            throw new IllegalArgumentException(
+                    "Coordinates must contain an x and a y value for each point");
+        }
+        checkStyleIndex(styleIndex);
+        int count = coordinates.length / 2;
+        ensureCapacity(pointCount + count);
+        System.arraycopy(coordinates, 0, this.coordinates, 2 * pointCount,
+                coordinates.length);
+        Arrays.fill(styleIndexes, pointCount, pointCount + count, styleIndex);
+        pointCount += count;
+        markPointsChanged(pointCount - count, pointCount);
+    }
+
+    /**
+     * Gets the coordinates of a point.
+     *
+     * @param index
+     *            the index of the point
+     * @return the coordinates of the point
+     */
+    public Coordinate getCoordinates(int index) {
+        Objects.checkIndex(index, pointCount);
+        return new Coordinate(coordinates[2 * index],
+                coordinates[2 * index + 1]);
+    }
+
+    /**
+     * Moves a point to new coordinates.
+     *
+     * @param index
+     *            the index of the point
+     * @param x
+     *            the new x coordinate of the point
+     * @param y
+     *            the new y coordinate of the point
+     */
+    public void setCoordinates(int index, double x, double y) {
+        Objects.checkIndex(index, pointCount);
+        coordinates[2 * index] = x;
+        coordinates[2 * index + 1] = y;
+        markPointsChanged(index, index + 1);
+    }
+
+    /**
+     * Gets the index of the style of a point.
+     *
+     * @param index
+     *            the index of the point
+     * @return the index of the style, or {@link #LAYER_STYLE} if the point
+     *         uses the style of the layer
+     */
+    public int getStyleIndex(int index) {
+        Objects.checkIndex(index, pointCount);
+        return styleIndexes[index];
+    }
+
+    /**
+     * Sets the style of a point.
+     *
+     * @param index
+     *            the index of the point
+     * @param styleIndex
+     *            the index of the style, as returned by
+     *            {@link #addStyle(Style)}, or {@link #LAYER_STYLE}
+     */
+    public void setStyleIndex(int index, int styleIndex) {
+        Objects.checkIndex(index, pointCount);
+        checkStyleIndex(styleIndex);
+        styleIndexes[index] = styleIndex;
+        markPointsChanged(index, index + 1);
+    }
+
+    /**
+     * Removes a point. This shifts the indexes of the following points by
+     * one, which means that all of them are synchronized again. Prefer
+     * removing points from the end of the source where possible.
+     *
+     * @param index
+     *            the index of the point to remove
+     */
+    public void removePoint(int index) {
+        Objects.checkIndex(index, pointCount);
+        System.arraycopy(coordinates, 2 * (index + 1), coordinates, 2 * index,
+                2 * (pointCount - index - 1));
+        System.arraycopy(styleIndexes, index + 1, styleIndexes, index,
+                pointCount - index - 1);
+        pointCount--;
+        changedPoints.clear(pointCount);
+        markPointsChanged(index, pointCount);
+    }
+
+    /**
+     * Removes all points from this source.
+     */
+    public void removeAllPoints() {
+        coordinates = new double[0];
+        styleIndexes = new int[0];
+        pointCount = 0;
+        changedPoints.clear();
+        markAsDirty();
+    }
+
+    /**
+     * The ranges of points that have changed since the last synchronization,
+     * with their coordinates and style indexes.
+     */
+    @JsonProperty("ranges")
+    List<PointRange> getChangedRanges() {
+        List<PointRange> ranges = new ArrayList<>();
+        for (int i = 0; i < synchronizedRanges.length; i += 2) {
+            int from = synchronizedRanges[i];
+            int to = Math.min(synchronizedRanges[i + 1], pointCount);
+            if (from < to) {
+                ranges.add(new PointRange(from,
+                        Arrays.copyOfRange(coordinates, 2 * from, 2 * to),
+                        Arrays.copyOfRange(styleIndexes, from, to)));
+            }
+        }
+        return ranges;
+    }
+
+    @Override
+    protected void deepMarkAsDirty() {
+        super.deepMarkAsDirty();
+        // The client-side instance may not exist anymore, in which case all
+        // points need to be synchronized again
+        fullSyncRequired = true;
+    }
+
+    @Override
+    protected void collectChanges(
+            Consumer<AbstractConfigurationObject> changeCollector) {
+        super.collectChanges(configurationObject -> {
+            if (configurationObject == this) {
+                updateSynchronizedRanges();
+            }
+            changeCollector.accept(configurationObject);
+        });
+    }
+
+    /**
+     * Determines the ranges of points to send in the next synchronization,
+     * and resets the changed points.
+     */
+    private void updateSynchronizedRanges() {
+        if (fullSyncRequired) {
+            synchronizedRanges = new int[] { 0, pointCount };
+        } else {
+            int[] ranges = new int[0];
+            int size = 0;
+            int from = changedPoints.nextSetBit(0);
+            while (from >= 0 && from < pointCount) {
+                int to = changedPoints.nextClearBit(from);
+                int next = changedPoints.nextSetBit(to);
+                while (next >= 0 && next - to < RANGE_MERGE_GAP) {
+                    to = changedPoints.nextClearBit(next);
+                    next = changedPoints.nextSetBit(to);
+                }
+                if (size + 2 > ranges.length) {
+                    ranges = Arrays.copyOf(ranges, Math.max(8, size * 2));
+                }
+                ranges[size++] = from;
+                ranges[size++] = to;
+                from = next;
+            }
+            synchronizedRanges = Arrays.copyOf(ranges, size);
+        }
+        fullSyncRequired = false;
+        changedPoints.clear();
+    }
+
+    private void markPointsChanged(int from, int to) {
+        // Only the first change after a synchronization needs to mark the
+        // source as dirty, which avoids a change event for each point
+        boolean firstChange = changedPoints.isEmpty();
+        changedPoints.set(from, to);
+        if (firstChange || from >= to) {
+            markAsDirty();
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= styleIndexes.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, styleIndexes.length * 3 / 2 + 16);
+        coordinates = Arrays.copyOf(coordinates, 2 * newCapacity);
+        styleIndexes = Arrays.copyOf(styleIndexes, newCapacity);
+    }
+
+    private void checkStyleIndex(int styleIndex) {
+        if (styleIndex != LAYER_STYLE
+                && (styleIndex < 0 || styleIndex >= styles.size())) {
+            throw new IllegalArgumentException(
+                    "Invalid style index: " + styleIndex);
+        }
+    }
+
+    /**
+     * A range of points, with the coordinates of the points as
+     * {@code [x0, y0, x1, y1, ...]} and the indexes of their styles.
+     */
+    record PointRange(int from, double[] coordinates,
+            int[] styleIndexes) implements Serializable {
+    }
+
+    public static class Options extends Source.Options {
+    }
+}
@@ -8,19 +8,50 @@
  */
 package com.vaadin.flow.component.map.configuration.source;
 
+import java.beans.PropertyChangeEvent;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonIdentityReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.vaadin.flow.component.map.configuration.AbstractConfigurationObject;
 import com.vaadin.flow.component.map.configuration.Constants;
+import com.vaadin.flow.component.map.configuration.Coordinate;
+import com.vaadin.flow.component.map.configuration.Extent;
 import com.vaadin.flow.component.map.configuration.Feature;
+import com.vaadin.flow.component.map.configuration.geometry.LineString;
+import com.vaadin.flow.component.map.configuration.geometry.Point;
+import com.vaadin.flow.component.map.configuration.geometry.Polygon;
+import com.vaadin.flow.component.map.configuration.geometry.SimpleGeometry;
 
 public class VectorSource extends Source {
     private final List<Feature> features = new ArrayList<>();
+    private final HashMap<String, Feature> featuresById = new HashMap<>();
+
+    private boolean viewportCullingEnabled = false;
+    private double viewportCullingMargin = 0.5;
+    private Extent viewportExtent;
+    private Extent cullingExtent;
+    private FeatureIndex<Feature> featureIndex;
+    // Features that are not in the index, as their extent is not known
+    private final Set<Feature> unindexedFeatures = new HashSet<>();
+    // Synchronized features by their order in the source
+    private final TreeMap<Long, Feature> synchronizedFeatures = new TreeMap<>();
+    private final Map<Feature, Long> featureOrder = new HashMap<>();
+    private long nextFeatureOrder;
+    private final Set<Feature> changedFeatures = new HashSet<>();
 
     public VectorSource() {
         this(new Options());
@@ -35,16 +66,60 @@ public class VectorSource extends Source {
         return Constants.OL_SOURCE_VECTOR;
     }
 
-    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
-    @JsonIdentityReference(alwaysAsId = true)
+    /**
+     * The features managed by this source. This returns an immutable
+     * collection, which means it can not be modified. Use
+     * {@link #addFeature(Feature)} and {@link #removeFeature(Feature)}
+     * instead.
+     * <p>
+     * When viewport culling is enabled, this still returns all features,
+     * including the ones that are currently not synchronized to the client.
+     *
+     * @return the features managed by the source, immutable
+     */
+    @JsonIgnore
     public List<Feature> getFeatures() {
         return Collections.unmodifiableList(features);
     }
 
+    /**
+     * The features that are synchronized to the client. Contains all features
+     * unless viewport culling is enabled.
+     */
+    @JsonProperty("features")
+    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    @JsonIdentityReference(alwaysAsId = true)
+    List<Feature> getSynchronizedFeatures() {
+        if (!viewportCullingEnabled) {
+            return getFeatures();
+        }
+        return List.copyOf(synchronizedFeatures.values());
+    }
+
+    /**
+     * Gets the feature with the given ID.
+     *
+     * @param id
+     *            the ID of the feature
+     * @return the feature with the given ID, or an empty optional if there is
+     *         no such feature in this source
+     */
+    public Optional<Feature> getFeatureById(String id) {
+        return Optional.ofNullable(featuresById.get(id));
+    }
+
     public void addFeature(Feature feature) {
         Objects.requireNonNull(feature);
 
         features.add(feature);
+        featuresById.put(feature.getId(), feature);
+        featureOrder.put(feature, nextFeatureOrder++);
+        if (viewportCullingEnabled) {
+            indexFeature(feature);
+            if (isVisible(feature)) {
+                setSynchronized(feature, true);
+            }
+        }
         addChild(feature);
     }
 
@@ -52,6 +127,14 @@ public class VectorSource extends Source {
         Objects.requireNonNull(feature);
 
         features.remove(feature);
+        featuresById.remove(feature.getId(), feature);
+        if (viewportCullingEnabled) {
+            featureIndex.remove(feature);
+            unindexedFeatures.remove(feature);
+            setSynchronized(feature, false);
+            changedFeatures.remove(feature);
+        }
+        featureOrder.remove(feature);
         removeChild(feature);
     }
 
@@ -61,6 +144,282 @@ public class VectorSource extends Source {
         }
     }
 
+    /**
+     * Returns whether viewport culling is enabled for this source.
+     *
+     * @return true if viewport culling is enabled, false otherwise
+     * @see #setViewportCullingEnabled(boolean)
+     */
+    @JsonIgnore
+    public boolean isViewportCullingEnabled() {
+        return viewportCullingEnabled;
+    }
+
+    /**
+     * Enables or disables viewport culling for this source. When enabled, only
+     * the features that intersect with the visible area of the map, extended
+     * by the margin set with {@link #setViewportCullingMargin(double)}, are
+     * synchronized to the client. The synchronized features are updated when
+     * the user has finished moving the viewport, and when features are added,
+     * removed or moved. The features are kept in a spatial index, so that
+     * updating the synchronized features does not need to check every
+     * feature.
+     * <p>
+     * Viewport culling is useful for sources with a large number of features,
+     * where only a small part of the features is visible at a time. As the
+     * visible area is calculated on the client-side, no features are
+     * synchronized until the map has been rendered once. When clustering is
+     * used, only the synchronized features are clustered.
+     * <p>
+     * Features without a geometry, or with a geometry whose extent can not be
+     * determined, are always synchronized once the map has been rendered.
+     * <p>
+     * Disabled by default.
+     *
+     * @param viewportCullingEnabled
+     *            true to enable viewport culling, false to disable
+     */
+    public void setViewportCullingEnabled(boolean viewportCullingEnabled) {
+        if (this.viewportCullingEnabled == viewportCullingEnabled) {
+            return;
+        }
+        this.viewportCullingEnabled = viewportCullingEnabled;
+        synchronizedFeatures.clear();
+        unindexedFeatures.clear();
+        changedFeatures.clear();
+        cullingExtent = null;
+        if (viewportCullingEnabled) {
+            featureIndex = new FeatureIndex<>();
+            features.forEach(this::indexFeature);
+            updateCullingExtent();
+        } else {
+            featureIndex = null;
+            // Features that have been skipped need to be synchronized again
+            features.forEach(this::deepMarkChildAsDirty);
+        }
+        markAsDirty();
+    }
+
+    /**
+     * The margin that is added around the visible area of the map when
+     * determining which features to synchronize, relative to the size of the
+     * visible area. Default is {@code 0.5}, which adds half of the width of
+     * the visible area to the left and to the right, and half of its height to
+     * the top and to the bottom.
+     * <p>
+     * Only applies when viewport culling is enabled.
+     *
+     * @return the margin around the visible area
+     */
+    @JsonIgnore
+    public double getViewportCullingMargin() {
+        return viewportCullingMargin;
+    }
+
+    /**
+     * Sets the margin that is added around the visible area of the map when
+     * determining which features to synchronize, relative to the size of the
+     * visible area. A larger margin synchronizes more features, but requires
+     * fewer updates while the user moves the viewport.
+     * <p>
+     * Only applies when viewport culling is enabled.
+     *
+     * @param viewportCullingMargin
+     *            the margin around the visible area, not negative
+     */
+    public void setViewportCullingMargin(double viewportCullingMargin) {
+        if (viewportCullingMargin < 0) {
+            throw new IllegalArgumentException(
+                    "Viewport culling margin must not be negative");
+        }
+        this.viewportCullingMargin = viewportCullingMargin;
+        if (viewportCullingEnabled) {
+            cullingExtent = null;
+            updateCullingExtent();
+        }
+    }
+
+    /**
+     * Updates the visible area of the map, which is used for determining the
+     * synchronized features when viewport culling is enabled. The features
+     * themselves do not need the visible area, so this does not pass it on to
+     * nested objects.
+     *
+     * @param viewportExtent
+     *            the extent of the visible area of the map
+     */
+    @Override
+    protected void updateViewportExtent(Extent viewportExtent) {
+        this.viewportExtent = viewportExtent;
+        if (viewportCullingEnabled) {
+            updateCullingExtent();
+        }
+    }
+
+    @Override
+    protected boolean isChildSynchronized(
+            AbstractConfigurationObject configurationObject) {
+        return !viewportCullingEnabled
+                || !(configurationObject instanceof Feature)
+                || isSynchronized((Feature) configurationObject);
+    }
+
+    @Override
+    protected void notifyChange(PropertyChangeEvent event) {
+        // Keep features retrievable by ID when their ID changes
+        if ("id".equals(event.getPropertyName())
+                && event.getSource() instanceof Feature feature) {
+            featuresById.remove(event.getOldValue(), feature);
+            featuresById.put(feature.getId(), feature);
+        }
+        // Remember changed features, as their geometry may have changed. The
+        // index is updated lazily, as features may change several times
+        // before the next synchronization.
+        if (viewportCullingEnabled
+                && event.getSource() instanceof Feature feature) {
+            changedFeatures.add(feature);
+        }
+        super.notifyChange(event);
+    }
+
+    @Override
+    protected void collectChanges(
+            Consumer<AbstractConfigurationObject> changeCollector) {
+        boolean synchronizedFeaturesChanged = viewportCullingEnabled
+                && updateChangedFeatures();
+        super.collectChanges(changeCollector);
+        if (synchronizedFeaturesChanged) {
+            changeCollector.accept(this);
+        }
+    }
+
+    /**
+     * Updates the culling extent from the viewport extent, unless the
+     * viewport is still within the current culling extent.
+     */
+    private void updateCullingExtent() {
+        if (viewportExtent == null || (cullingExtent != null
+                && contains(cullingExtent, viewportExtent))) {
+            return;
+        }
+        double marginX = (viewportExtent.getMaxX() - viewportExtent.getMinX())
+                * viewportCullingMargin;
+        double marginY = (viewportExtent.getMaxY() - viewportExtent.getMinY())
+                * viewportCullingMargin;
+        cullingExtent = new Extent(viewportExtent.getMinX() - marginX,
+                viewportExtent.getMinY() - marginY,
+                viewportExtent.getMaxX() + marginX,
+                viewportExtent.getMaxY() + marginY);
+
+        updateChangedFeatures();
+        Set<Feature> visibleFeatures = new HashSet<>(unindexedFeatures);
+        featureIndex.query(cullingExtent, visibleFeatures::add);
+        boolean changed = synchronizedFeatures.values()
+                .retainAll(visibleFeatures);
+        for (Feature feature : visibleFeatures) {
+            changed |= setSynchronized(feature, true);
+        }
+        if (changed) {
+            markAsDirty();
+        }
+    }
+
+    /**
+     * Updates the index for the features that have changed since the last
+     * update, and adds or removes them from the synchronized features.
+     *
+     * @return whether the synchronized features changed
+     */
+    private boolean updateChangedFeatures() {
+        boolean changed = false;
+        for (Feature feature : changedFeatures) {
+            indexFeature(feature);
+            changed |= setSynchronized(feature, isVisible(feature));
+        }
+        changedFeatures.clear();
+        return changed;
+    }
+
+    /**
+     * Adds a feature to the index, or to the unindexed features if its extent
+     * can not be determined.
+     */
+    private void indexFeature(Feature feature) {
+        featureIndex.put(feature, getExtent(feature));
+        if (featureIndex.contains(feature)) {
+            unindexedFeatures.remove(feature);
+        } else {
+            unindexedFeatures.add(feature);
+        }
+    }
+
+    private boolean isVisible(Feature feature) {
+        return cullingExtent != null && (unindexedFeatures.contains(feature)
+                || featureIndex.intersects(feature, cullingExtent));
+    }
+
+    private boolean isSynchronized(Feature feature) {
+        Long order = featureOrder.get(feature);
+        return order != null && synchronizedFeatures.containsKey(order);
+    }
+
+    /**
+     * Adds a feature to, or removes it from the synchronized features. Added
+     * features are marked as dirty, as they may have been removed from the
+     * client-side in the meantime.
+     *
+     * @return whether the synchronized features changed
+     */
+    private boolean setSynchronized(Feature feature, boolean synchronize) {
+        Long order = featureOrder.get(feature);
+        if (order == null) {
+            return false;
+        }
+        if (!synchronize) {
+            return synchronizedFeatures.remove(order) != null;
+        }
+        if (synchronizedFeatures.putIfAbsent(order, feature) != null) {
+            return false;
+        }
+        deepMarkChildAsDirty(feature);
+        return true;
+    }
+
+    private static boolean contains(Extent outer, Extent inner) {
+        return inner.getMinX() >= outer.getMinX()
+                && inner.getMaxX() <= outer.getMaxX()
+                && inner.getMinY() >= outer.getMinY()
+                && inner.getMaxY() <= outer.getMaxY();
+    }
+
+    private static Extent getExtent(Feature feature) {
+        SimpleGeometry geometry = feature.getGeometry();
+        List<Coordinate> coordinates = new ArrayList<>();
+        if (geometry instanceof Point point) {
+            coordinates.add(point.getCoordinates());
+        } else if (geometry instanceof LineString lineString) {
+            coordinates.addAll(List.of(lineString.getCoordinates()));
+        } else if (geometry instanceof Polygon polygon) {
+            for (Coordinate[] ring : polygon.getCoordinates()) {
+                coordinates.addAll(List.of(ring));
+            }
+        }
+        if (coordinates.isEmpty()) {
+            return null;
+        }
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (Coordinate coordinate : coordinates) {
+            minX = Math.min(minX, coordinate.getX());
+            minY = Math.min(minY, coordinate.getY());
+            maxX = Math.max(maxX, coordinate.getX());
+            maxY = Math.max(maxY, coordinate.getY());
+        }
+        return new Extent(minX, minY, maxX, maxY);
+    }
+
     public static class Options extends Source.Options {
     }
 }
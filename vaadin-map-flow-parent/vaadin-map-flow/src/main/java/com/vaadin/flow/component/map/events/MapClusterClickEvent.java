@@ -9,6 +9,7 @@
 package com.vaadin.flow.component.map.events;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.vaadin.flow.component.ComponentEvent;
 import com.vaadin.flow.component.DomEvent;
@@ -54,10 +55,8 @@ public class MapClusterClickEvent extends ComponentEvent<MapBase> {
                         "No vector layer with id " + layerId));
         vectorSource = (VectorSource) layer.getSource();
 
-        List<String> featureIdList = JacksonUtils.stream(featureIds)
-                .map(JsonNode::asString).toList();
-        features = vectorSource.getFeatures().stream()
-                .filter(feature -> featureIdList.contains(feature.getId()))
+        features = JacksonUtils.stream(featureIds).map(JsonNode::asString)
+                .map(vectorSource::getFeatureById).flatMap(Optional::stream)
                 .toList();
 
         details = new MouseEventDetails();
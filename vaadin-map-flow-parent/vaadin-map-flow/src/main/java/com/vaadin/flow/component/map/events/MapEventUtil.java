@@ -38,9 +38,7 @@ class MapEventUtil {
         Optional<VectorSource> maybeSource = maybeLayer
                 .map(layer -> (VectorSource) layer.getSource());
         Optional<Feature> maybeFeature = maybeSource.flatMap(
-                vectorSource -> vectorSource.getFeatures().stream().filter(
-                        feature -> Objects.equals(feature.getId(), featureId))
-                        .findFirst());
+                vectorSource -> vectorSource.getFeatureById(featureId));
 
         return new FeatureEventDetails(maybeFeature.orElse(null),
                 maybeSource.orElse(null), maybeLayer.orElse(null));
@@ -26,6 +26,7 @@ import {
   synchronizeCluster,
   synchronizeImageWMSSource,
   synchronizeOSMSource,
+  synchronizePointSource,
   synchronizeTileWMSSource,
   synchronizeVectorSource,
   synchronizeXYZSource
@@ -151,6 +152,7 @@ const synchronizerLookup = {
   'ol/source/TileWMS': synchronizeTileWMSSource,
   'ol/source/Vector': synchronizeVectorSource,
   'ol/source/XYZ': synchronizeXYZSource,
+  'vaadin/source/Point': synchronizePointSource,
   // Geometry
   'ol/geom/LineString': synchronizeLineString,
   'ol/geom/Point': synchronizePoint,
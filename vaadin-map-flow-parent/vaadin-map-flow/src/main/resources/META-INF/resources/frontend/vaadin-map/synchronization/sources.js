@@ -8,6 +8,8 @@
  * license.
  */
 import Collection from 'ol/Collection';
+import Feature from 'ol/Feature';
+import Point from 'ol/geom/Point';
 import Cluster from 'ol/source/Cluster';
 import ImageWMS from 'ol/source/ImageWMS';
 import OSM, { ATTRIBUTION as OSM_ATTRIBUTION } from 'ol/source/OSM';
@@ -143,3 +145,42 @@ export function synchronizeCluster(target, source, context) {
 
   return target;
 }
+
+export function synchronizePointSource(target, source, context) {
+  if (!target) {
+    target = new VectorSource(createOptions(source));
+    target.pointFeatures = [];
+  }
+  synchronizeSource(target, source, context);
+
+  // Keep references to the styles, so that styles that are currently not
+  // used by any point are not garbage collected from the lookup
+  target.pointStyles = source.styles.map((id) => context.lookup.get(id));
+
+  // Remove the features of points that have been removed from the end
+  const features = target.pointFeatures;
+  features.splice(source.pointCount).forEach((feature) => target.removeFeature(feature));
+
+  // Update the points within the changed ranges, the coordinates of each
+  // range are stored as [x0, y0, x1, y1, ...]
+  const addedFeatures = [];
+  source.ranges.forEach((range) => {
+    range.styleIndexes.forEach((styleIndex, offset) => {
+      const index = range.from + offset;
+      const coordinates = [range.coordinates[2 * offset], range.coordinates[2 * offset + 1]];
+      let feature = features[index];
+      if (feature) {
+        feature.getGeometry().setCoordinates(coordinates);
+      } else {
+        feature = new Feature(new Point(coordinates));
+        features[index] = feature;
+        addedFeatures.push(feature);
+      }
+      // Points without a style use the style of the layer
+      feature.setStyle(target.pointStyles[styleIndex]);
+    });
+  });
+  target.addFeatures(addedFeatures);
+
+  return target;
+}
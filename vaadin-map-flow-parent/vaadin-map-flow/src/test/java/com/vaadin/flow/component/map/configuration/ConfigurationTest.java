@@ -8,7 +8,9 @@
  */
 package com.vaadin.flow.component.map.configuration;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Assertions;
@@ -17,6 +19,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import com.vaadin.flow.component.map.configuration.controls.Control;
+import com.vaadin.flow.component.map.configuration.feature.MarkerFeature;
+import com.vaadin.flow.component.map.configuration.layer.FeatureLayer;
 
 class ConfigurationTest {
 
@@ -145,6 +149,21 @@ class ConfigurationTest {
                 .accept(configuration);
     }
 
+    @Test
+    void updateViewportExtent_passedToLayerSources() {
+        FeatureLayer layer = new FeatureLayer();
+        layer.setViewportCullingEnabled(true);
+        MarkerFeature feature = new MarkerFeature(new Coordinate(0, 0));
+        layer.addFeature(feature);
+        configuration.addLayer(layer);
+
+        configuration.updateViewportExtent(new Extent(-10, -10, 10, 10));
+
+        Set<AbstractConfigurationObject> changes = new HashSet<>();
+        configuration.collectChanges(changes::add);
+        Assertions.assertTrue(changes.contains(feature));
+    }
+
     @Test
     void controlOtherPropertyChange_marksConfigurationAsDirty() {
         TestControl control = new TestControl();
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.map.configuration.source;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.map.configuration.Extent;
+
+class FeatureIndexTest {
+
+    private final FeatureIndex<String> index = new FeatureIndex<>();
+
+    @Test
+    void query_itemsIntersectingExtent() {
+        index.put("a", point(1, 1));
+        index.put("b", point(5, 5));
+        index.put("c", new Extent(-10, 4, 10, 6));
+
+        Assertions.assertEquals(Set.of("a"), query(new Extent(0, 0, 2, 2)));
+        Assertions.assertEquals(Set.of("b", "c"),
+                query(new Extent(4, 4, 6, 6)));
+    }
+
+    @Test
+    void putExistingItem_extentUpdated() {
+        index.put("a", point(1, 1));
+        index.put("a", point(100, 100));
+
+        Assertions.assertEquals(Set.of(), query(new Extent(0, 0, 2, 2)));
+        Assertions.assertEquals(Set.of("a"),
+                query(new Extent(99, 99, 101, 101)));
+    }
+
+    @Test
+    void remove_itemNotFound() {
+        index.put("a", point(1, 1));
+        index.remove("a");
+
+        Assertions.assertFalse(index.contains("a"));
+        Assertions.assertEquals(Set.of(), query(new Extent(0, 0, 2, 2)));
+    }
+
+    @Test
+    void nonFiniteExtent_notIndexed() {
+        index.put("a", point(Double.NaN, 1));
+
+        Assertions.assertFalse(index.contains("a"));
+    }
+
+    @Test
+    void manyItems_queryMatchesLinearScan() {
+        for (int i = 0; i < 10_000; i++) {
+            index.put("item" + i, point((i * 37) % 1000 - 500,
+                    (i * 91) % 1000 - 500));
+        }
+        // Many items at the same position
+        for (int i = 0; i < 100; i++) {
+            index.put("same" + i, point(0, 0));
+        }
+
+        Extent extent = new Extent(-100, -50, 20, 80);
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            double x = (i * 37) % 1000 - 500;
+            double y = (i * 91) % 1000 - 500;
+            if (x >= -100 && x <= 20 && y >= -50 && y <= 80) {
+                expected.add("item" + i);
+            }
+        }
+        for (int i = 0; i < 100; i++) {
+            expected.add("same" + i);
+        }
+        Assertions.assertEquals(expected, query(extent));
+    }
+
+    private Set<String> query(Extent extent) {
+        Set<String> items = new HashSet<>();
+        index.query(extent, items::add);
+        return items;
+    }
+
+    private static Extent point(double x, double y) {
+        return new Extent(x, y, x, y);
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.map.configuration.source;
+
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.map.configuration.AbstractConfigurationObject;
+import com.vaadin.flow.component.map.configuration.Coordinate;
+import com.vaadin.flow.component.map.configuration.layer.PointLayer;
+import com.vaadin.flow.component.map.configuration.source.PointSource.PointRange;
+import com.vaadin.flow.component.map.configuration.style.Style;
+
+class PointSourceTest {
+
+    private PointSource source;
+
+    @BeforeEach
+    void setup() {
+        source = new PointSource();
+    }
+
+    @Test
+    void addPoints() {
+        int styleIndex = source.addStyle(new Style());
+
+        Assertions.assertEquals(0, source.addPoint(1, 2));
+        Assertions.assertEquals(1, source.addPoint(3, 4, styleIndex));
+        source.addPoints(new double[] { 5, 6, 7, 8 }, styleIndex);
+
+        Assertions.assertEquals(4, source.getPointCount());
+        assertCoordinates(1, 2, source.getCoordinates(0));
+        assertCoordinates(7, 8, source.getCoordinates(3));
+        Assertions.assertEquals(PointSource.LAYER_STYLE,
+                source.getStyleIndex(0));
+        Assertions.assertEquals(styleIndex, source.getStyleIndex(3));
+    }
+
+    @Test
+    void invalidStyleIndex_throws() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> source.addPoint(1, 2, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> source.addPoints(new double[] { 1 },
+                        PointSource.LAYER_STYLE));
+    }
+
+    @Test
+    void removePoint_followingPointsShifted() {
+        source.addPoints(new double[] { 1, 1, 2, 2, 3, 3 },
+                PointSource.LAYER_STYLE);
+
+        source.removePoint(1);
+
+        Assertions.assertEquals(2, source.getPointCount());
+        assertCoordinates(3, 3, source.getCoordinates(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                () -> source.getCoordinates(2));
+    }
+
+    @Test
+    void initialSync_allPointsSynchronized() {
+        source.addPoints(new double[] { 1, 1, 2, 2, 3, 3 },
+                PointSource.LAYER_STYLE);
+
+        List<PointRange> ranges = collectChangedRanges();
+
+        Assertions.assertEquals(1, ranges.size());
+        Assertions.assertEquals(0, ranges.get(0).from());
+        Assertions.assertArrayEquals(new double[] { 1, 1, 2, 2, 3, 3 },
+                ranges.get(0).coordinates());
+        Assertions.assertArrayEquals(new int[] { -1, -1, -1 },
+                ranges.get(0).styleIndexes());
+    }
+
+    @Test
+    void changePoints_onlyChangedRangesSynchronized() {
+        source.addPoints(new double[200], PointSource.LAYER_STYLE);
+        collectChangedRanges();
+
+        source.setCoordinates(10, 5, 6);
+        source.setCoordinates(12, 7, 8);
+        source.setCoordinates(150, 9, 10);
+        List<PointRange> ranges = collectChangedRanges();
+
+        // Nearby changes are merged into a single range
+        Assertions.assertEquals(2, ranges.size());
+        Assertions.assertEquals(10, ranges.get(0).from());
+        Assertions.assertArrayEquals(new double[] { 5, 6, 0, 0, 7, 8 },
+                ranges.get(0).coordinates());
+        Assertions.assertEquals(150, ranges.get(1).from());
+        Assertions.assertArrayEquals(new double[] { 9, 10 },
+                ranges.get(1).coordinates());
+    }
+
+    @Test
+    void noChanges_notCollected() {
+        source.addPoint(1, 2);
+        collectChangedRanges();
+
+        List<AbstractConfigurationObject> changes = new ArrayList<>();
+        source.collectChanges(changes::add);
+
+        Assertions.assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void removeLastPoint_sourceCollected() {
+        source.addPoints(new double[] { 1, 1, 2, 2 }, PointSource.LAYER_STYLE);
+        collectChangedRanges();
+
+        source.removePoint(1);
+        List<AbstractConfigurationObject> changes = new ArrayList<>();
+        source.collectChanges(changes::add);
+
+        Assertions.assertEquals(List.of(source), changes);
+        Assertions.assertTrue(source.getChangedRanges().isEmpty());
+    }
+
+    @Test
+    void deepMarkAsDirty_allPointsSynchronized() {
+        source.addPoints(new double[] { 1, 1, 2, 2 }, PointSource.LAYER_STYLE);
+        collectChangedRanges();
+
+        source.deepMarkAsDirty();
+        List<PointRange> ranges = collectChangedRanges();
+
+        Assertions.assertEquals(1, ranges.size());
+        Assertions.assertEquals(2, ranges.get(0).styleIndexes().length);
+    }
+
+    @Test
+    void changePoints_singleChangeEventUntilSynchronized() {
+        collectChangedRanges();
+        PropertyChangeListener listener = Mockito
+                .mock(PropertyChangeListener.class);
+        source.addPropertyChangeListener(listener);
+
+        for (int i = 0; i < 100; i++) {
+            source.addPoint(i, i);
+        }
+        Mockito.verify(listener, Mockito.times(1))
+                .propertyChange(Mockito.any());
+
+        collectChangedRanges();
+        source.setCoordinates(0, 1, 1);
+        Mockito.verify(listener, Mockito.times(2))
+                .propertyChange(Mockito.any());
+    }
+
+    @Test
+    void pointLayer_setSource_sourceReplaced() {
+        PointLayer layer = new PointLayer();
+        PointSource otherSource = new PointSource();
+
+        layer.setSource(source);
+        layer.setSource(otherSource);
+
+        Assertions.assertSame(otherSource, layer.getSource());
+        Assertions.assertThrows(NullPointerException.class,
+                () -> layer.setSource(null));
+    }
+
+    private static void assertCoordinates(double x, double y,
+            Coordinate coordinate) {
+        Assertions.assertEquals(x, coordinate.getX());
+        Assertions.assertEquals(y, coordinate.getY());
+    }
+
+    private List<PointRange> collectChangedRanges() {
+        List<AbstractConfigurationObject> changes = new ArrayList<>();
+        source.collectChanges(changes::add);
+        Assertions.assertTrue(changes.contains(source));
+        return source.getChangedRanges();
+    }
+}
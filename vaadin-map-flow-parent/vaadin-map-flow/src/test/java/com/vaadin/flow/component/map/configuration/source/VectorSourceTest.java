@@ -17,6 +17,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import com.vaadin.flow.component.map.configuration.AbstractConfigurationObject;
+import com.vaadin.flow.component.map.configuration.Coordinate;
+import com.vaadin.flow.component.map.configuration.Extent;
+import com.vaadin.flow.component.map.configuration.Feature;
 import com.vaadin.flow.component.map.configuration.feature.MarkerFeature;
 
 class VectorSourceTest {
@@ -57,6 +60,133 @@ class VectorSourceTest {
 
     }
 
+    @Test
+    void getFeatureById() {
+        VectorSource source = new VectorSource();
+        MarkerFeature feature = new MarkerFeature();
+        source.addFeature(feature);
+
+        Assertions.assertEquals(feature,
+                source.getFeatureById(feature.getId()).orElseThrow());
+        String initialId = feature.getId();
+        feature.setId("changed");
+        Assertions.assertEquals(feature,
+                source.getFeatureById("changed").orElseThrow());
+        Assertions.assertTrue(source.getFeatureById(initialId).isEmpty());
+        source.removeFeature(feature);
+        Assertions.assertTrue(source.getFeatureById("changed").isEmpty());
+    }
+
+    @Test
+    void viewportCulling_noViewport_noFeaturesSynchronized() {
+        VectorSource source = new VectorSource();
+        source.addFeature(new MarkerFeature(new Coordinate(0, 0)));
+
+        source.setViewportCullingEnabled(true);
+
+        Assertions.assertEquals(List.of(), source.getSynchronizedFeatures());
+        Assertions.assertEquals(1, source.getFeatures().size());
+    }
+
+    @Test
+    void viewportCulling_onlyFeaturesInViewportSynchronized() {
+        VectorSource source = new VectorSource();
+        MarkerFeature inside = new MarkerFeature(new Coordinate(0, 0));
+        MarkerFeature margin = new MarkerFeature(new Coordinate(14, 0));
+        MarkerFeature outside = new MarkerFeature(new Coordinate(50, 0));
+        source.addFeature(inside);
+        source.addFeature(margin);
+        source.addFeature(outside);
+
+        source.setViewportCullingEnabled(true);
+        source.updateViewportExtent(new Extent(-10, -10, 10, 10));
+
+        Assertions.assertEquals(List.of(inside, margin),
+                source.getSynchronizedFeatures());
+    }
+
+    @Test
+    void viewportCulling_viewportMoved_synchronizedFeaturesUpdated() {
+        VectorSource source = new VectorSource();
+        source.setViewportCullingEnabled(true);
+        source.updateViewportExtent(new Extent(-10, -10, 10, 10));
+        MarkerFeature inside = new MarkerFeature(new Coordinate(0, 0));
+        MarkerFeature outside = new MarkerFeature(new Coordinate(50, 0));
+        source.addFeature(inside);
+        source.addFeature(outside);
+
+        source.updateViewportExtent(new Extent(40, -10, 60, 10));
+
+        Assertions.assertEquals(List.of(outside),
+                source.getSynchronizedFeatures());
+    }
+
+    @Test
+    void viewportCulling_featureMoved_synchronizedFeaturesUpdated() {
+        VectorSource source = new VectorSource();
+        source.setViewportCullingEnabled(true);
+        source.updateViewportExtent(new Extent(-10, -10, 10, 10));
+        MarkerFeature feature = new MarkerFeature(new Coordinate(50, 0));
+        source.addFeature(feature);
+        Assertions.assertEquals(List.of(), source.getSynchronizedFeatures());
+
+        feature.setCoordinates(new Coordinate(5, 5));
+        // Moved features are updated when collecting changes
+        List<AbstractConfigurationObject> changes = new ArrayList<>();
+        source.collectChanges(changes::add);
+
+        Assertions.assertEquals(List.of(feature),
+                source.getSynchronizedFeatures());
+        Assertions.assertTrue(changes.contains(source));
+        Assertions.assertTrue(changes.contains(feature));
+    }
+
+    @Test
+    void viewportCulling_viewportMoved_sourceOrderKept() {
+        VectorSource source = new VectorSource();
+        source.setViewportCullingEnabled(true);
+        source.updateViewportExtent(new Extent(-10, -10, 10, 10));
+        MarkerFeature first = new MarkerFeature(new Coordinate(50, 0));
+        MarkerFeature second = new MarkerFeature(new Coordinate(0, 0));
+        source.addFeature(first);
+        source.addFeature(second);
+
+        source.updateViewportExtent(new Extent(-10, -10, 60, 10));
+
+        Assertions.assertEquals(List.of(first, second),
+                source.getSynchronizedFeatures());
+    }
+
+    @Test
+    void viewportCulling_featureWithoutGeometry_alwaysSynchronized() {
+        VectorSource source = new VectorSource();
+        source.setViewportCullingEnabled(true);
+        Feature feature = new Feature() {
+        };
+        source.addFeature(feature);
+        Assertions.assertEquals(List.of(), source.getSynchronizedFeatures());
+
+        source.updateViewportExtent(new Extent(-10, -10, 10, 10));
+        Assertions.assertEquals(List.of(feature),
+                source.getSynchronizedFeatures());
+
+        source.updateViewportExtent(new Extent(40, -10, 60, 10));
+        Assertions.assertEquals(List.of(feature),
+                source.getSynchronizedFeatures());
+    }
+
+    @Test
+    void viewportCulling_disabled_allFeaturesSynchronized() {
+        VectorSource source = new VectorSource();
+        source.setViewportCullingEnabled(true);
+        source.addFeature(new MarkerFeature(new Coordinate(50, 0)));
+
+        source.setViewportCullingEnabled(false);
+
+        Assertions.assertEquals(source.getFeatures(),
+                source.getSynchronizedFeatures());
+    }
+
     @SuppressWarnings("unchecked")
     private Set<AbstractConfigurationObject> getChildren(
             AbstractConfigurationObject confObject)
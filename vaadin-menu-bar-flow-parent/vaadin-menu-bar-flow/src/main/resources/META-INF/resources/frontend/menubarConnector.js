@@ -38,6 +38,8 @@ function initLazy(menubar, appId) {
     }
   });
 
+  let itemsCache = new Map();
+
   menubar.$connector = {
     /**
      * Generates and assigns the items to the menu bar.
@@ -46,24 +48,34 @@ function initLazy(menubar, appId) {
      * the previously generated items tree will be used.
      * That can be useful if you only want to sync the disabled and hidden properties of root items.
      *
+     * When the ids of the changed containers are given, the previously
+     * generated items of the other containers are reused.
+     *
      * @param {number | undefined} nodeId
+     * @param {number[] | undefined} changedNodeIds
      */
-    generateItems(nodeId) {
+    generateItems(nodeId, changedNodeIds) {
       if (!menubar.shadowRoot) {
         // workaround for https://github.com/vaadin/flow/issues/5722
-        setTimeout(() => menubar.$connector.generateItems(nodeId));
+        setTimeout(() => menubar.$connector.generateItems(nodeId, changedNodeIds));
         return;
       }
 
       if (!menubar._container) {
         // Menu-bar defers first buttons render to avoid re-layout
         // See https://github.com/vaadin/web-components/issues/7271
-        queueMicrotask(() => menubar.$connector.generateItems(nodeId));
+        queueMicrotask(() => menubar.$connector.generateItems(nodeId, changedNodeIds));
         return;
       }
 
       if (nodeId) {
-        menubar.__generatedItems = window.Vaadin.Flow.contextMenuConnector.generateItemsTree(appId, nodeId);
+        const nextItemsCache = new Map();
+        menubar.__generatedItems = window.Vaadin.Flow.contextMenuConnector.generateItemsTree(appId, nodeId, {
+          previous: changedNodeIds ? itemsCache : new Map(),
+          next: nextItemsCache,
+          changedNodeIds
+        });
+        itemsCache = nextItemsCache;
       }
 
       let items = menubar.__generatedItems || [];
@@ -19,8 +19,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.vaadin.experimental.FeatureFlags;
@@ -70,6 +72,7 @@ public class MessageList extends Component
     private boolean pendingUpdate = false;
     private boolean pendingTextUpdate = false;
     private Integer pendingAddItemsIndex;
+    private final Set<MessageListItem> pendingTextUpdateItems = new LinkedHashSet<>();
 
     private final String CONNECTOR_OBJECT = "window.Vaadin.Flow.messageListConnector";
 
@@ -143,7 +146,10 @@ public class MessageList extends Component
     private void updateItems(Collection<MessageListItem> items) {
         this.items.forEach(item -> item.setHost(null));
         this.items = new ArrayList<>(items);
-        this.items.forEach(item -> item.setHost(this));
+        for (int i = 0; i < this.items.size(); i++) {
+            this.items.get(i).setHost(this);
+            this.items.get(i).hostIndex = i;
+        }
         scheduleItemsUpdate();
     }
 
@@ -169,6 +175,7 @@ public class MessageList extends Component
         Objects.requireNonNull(item, "Can't add null item to MessageList.");
 
         item.setHost(this);
+        item.hostIndex = items.size();
         items.add(item);
         scheduleAddItemsUpdate();
     }
@@ -214,13 +221,17 @@ public class MessageList extends Component
     }
 
     /**
-     * Schedules an incremental update of the message list items' text content.
+     * Schedules an incremental update of the given item's text content.
+     *
+     * @param item
+     *            the item whose text changed
      */
-    void scheduleItemsTextUpdate() {
+    void scheduleItemTextUpdate(MessageListItem item) {
         scheduleUpdate();
         // Avoid multiple updateClient() calls even though all but the first one
         // are NOPs (untestable flag)
         pendingTextUpdate = true;
+        pendingTextUpdateItems.add(item);
     }
 
     void scheduleAddItemsUpdate() {
@@ -274,6 +285,7 @@ public class MessageList extends Component
         }
 
         // Reset flags for the next update cycle
+        pendingTextUpdateItems.clear();
         pendingTextUpdate = false;
         pendingUpdate = false;
         pendingAddItemsIndex = null;
@@ -288,8 +300,8 @@ public class MessageList extends Component
     private void handleFullUpdate(UI ui) {
         checkAttachmentsFeatureFlag(ui, items);
 
-        // Sync clientText for items
-        items.forEach(item -> item.clientText = item.getText());
+        // Sync client text state for items
+        items.forEach(MessageListItem::textSynced);
 
         var itemsJson = JacksonUtils.listToJson(items);
         getElement().executeJs(CONNECTOR_OBJECT + ".setItems(this, $0, $1)",
@@ -297,33 +309,33 @@ public class MessageList extends Component
     }
 
     /**
-     * Handles incremental updates of the message list items' text content. This
-     * may involve appending text to existing text or replacing it entirely.
+     * Handles incremental updates of the text content of the items whose text
+     * has changed. This may involve appending text to existing text or
+     * replacing it entirely.
      */
     private void handleTextUpdates() {
-        items.forEach(item -> {
-            // Check if text needs updating for this item
-            var textChanged = !Objects.equals(item.getText(), item.clientText);
-
-            if (textChanged) {
-                if (item.getText() != null && item.clientText != null
-                        && item.getText().startsWith(item.clientText)) {
+        for (MessageListItem item : pendingTextUpdateItems) {
+            if (item.getHost() != this) {
+                // Removed from this list, not to be updated anymore
+                continue;
+            }
+            var appendedText = item.textAppendedSinceSync();
+            if (appendedText != null) {
+                if (!appendedText.isEmpty()) {
                     // Append optimization
-                    var diff = item.getText()
-                            .substring(item.clientText.length());
                     getElement().executeJs(
                             CONNECTOR_OBJECT + ".appendItemText(this, $0, $1)",
-                            diff, items.indexOf(item));
-                } else {
-                    // Full text update for this item
-                    getElement().executeJs(
-                            CONNECTOR_OBJECT + ".setItemText(this, $0, $1)",
-                            item.getText(), items.indexOf(item));
+                            appendedText, item.hostIndex);
                 }
-                // Sync clientText *after* sending the update
-                item.clientText = item.getText();
+            } else if (item.textChangedSinceSync()) {
+                // Full text update for this item
+                getElement().executeJs(
+                        CONNECTOR_OBJECT + ".setItemText(this, $0, $1)",
+                        item.getText(), item.hostIndex);
             }
-        });
+            // Sync client text state *after* sending the update
+            item.textSynced();
+        }
     }
 
     private void handleAddItemsUpdate(UI ui) {
@@ -334,8 +346,8 @@ public class MessageList extends Component
         var newItems = items.subList(pendingAddItemsIndex, items.size());
         checkAttachmentsFeatureFlag(ui, newItems);
 
-        // Sync clientText for new items
-        newItems.forEach(item -> item.clientText = item.getText());
+        // Sync client text state for new items
+        newItems.forEach(MessageListItem::textSynced);
 
         var newItemsJson = JacksonUtils.listToJson(newItems);
         // Call the connector function to add items
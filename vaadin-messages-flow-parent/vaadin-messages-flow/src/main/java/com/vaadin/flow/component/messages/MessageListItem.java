@@ -57,9 +57,17 @@ public class MessageListItem implements Serializable {
 
     private MessageList host;
 
-    private String text;
-    // Value of the text property in the client
-    String clientText;
+    // Null if the item has no text
+    private StringBuilder text;
+    // Cached value of text as a String, null if not computed yet
+    private String textSnapshot;
+    // Length of the text property in the client, -1 if null
+    private int clientTextLength = -1;
+    // Whether the text was replaced with one that doesn't start with the text
+    // in the client
+    private boolean clientTextReplaced;
+    // Index of this item in the host's items
+    int hostIndex;
     private Instant time;
 
     private String userName;
@@ -92,7 +100,7 @@ public class MessageListItem implements Serializable {
      * @see #setText(String)
      */
     public MessageListItem(String text) {
-        this.text = text;
+        this.text = text == null ? null : new StringBuilder(text);
     }
 
     /**
@@ -170,7 +178,13 @@ public class MessageListItem implements Serializable {
      * @return the message's text content, or {@code null} if none is set
      */
     public String getText() {
-        return text;
+        if (text == null) {
+            return null;
+        }
+        if (textSnapshot == null) {
+            textSnapshot = text.toString();
+        }
+        return textSnapshot;
     }
 
     /**
@@ -182,9 +196,13 @@ public class MessageListItem implements Serializable {
      *            the content
      */
     public void setText(String text) {
-        this.text = text;
+        if (!clientTextReplaced && !startsWithClientText(text)) {
+            clientTextReplaced = true;
+        }
+        this.text = text == null ? null : new StringBuilder(text);
+        textSnapshot = text;
         if (getHost() != null) {
-            getHost().scheduleItemsTextUpdate();
+            getHost().scheduleItemTextUpdate(this);
         }
     }
 
@@ -198,7 +216,54 @@ public class MessageListItem implements Serializable {
         if (text == null) {
             return;
         }
-        setText(Optional.ofNullable(this.text).orElse("") + text);
+        if (this.text == null) {
+            setText(text);
+            return;
+        }
+        this.text.append(text);
+        textSnapshot = null;
+        if (getHost() != null) {
+            getHost().scheduleItemTextUpdate(this);
+        }
+    }
+
+    private boolean startsWithClientText(String text) {
+        if (clientTextLength < 0) {
+            return text == null;
+        }
+        return text != null && this.text != null
+                && text.length() >= clientTextLength
+                && CharSequence.compare(text.subSequence(0, clientTextLength),
+                        this.text.subSequence(0, clientTextLength)) == 0;
+    }
+
+    /**
+     * Returns the text appended after the text was last synced to the client,
+     * or {@code null} if the text in the client can't be updated by appending.
+     */
+    String textAppendedSinceSync() {
+        if (clientTextReplaced || clientTextLength < 0 || text == null) {
+            return null;
+        }
+        return text.substring(clientTextLength);
+    }
+
+    /**
+     * Returns whether the text differs from the text in the client.
+     */
+    boolean textChangedSinceSync() {
+        if (clientTextReplaced) {
+            return true;
+        }
+        return (text == null ? -1 : text.length()) != clientTextLength;
+    }
+
+    /**
+     * Marks the current text as synced to the client.
+     */
+    void textSynced() {
+        clientTextLength = text == null ? -1 : text.length();
+        clientTextReplaced = false;
     }
 
     /**
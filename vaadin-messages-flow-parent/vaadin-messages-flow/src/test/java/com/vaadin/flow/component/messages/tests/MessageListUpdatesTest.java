@@ -120,6 +120,41 @@ class MessageListUpdatesTest {
         Assertions.assertEquals(1, messageList.getItems().size());
     }
 
+    @Test
+    void appendTextMultipleTimes_singleAppendItemTextUpdate() {
+        messageList.setItems(Arrays.asList(item1, item2));
+        item2.setText("foo");
+        assertFullUpdate();
+
+        item2.appendText("b");
+        item2.appendText("a");
+        item2.appendText("r");
+        Assertions.assertEquals("foobar", item2.getText());
+        assertAppendItemTextUpdate(item2, "bar");
+    }
+
+    @Test
+    void setTextStartingWithClientText_appendItemTextUpdate() {
+        messageList.setItems(Arrays.asList(item1, item2));
+        item1.setText("foo");
+        assertFullUpdate();
+
+        item1.appendText("bar");
+        item1.setText("foobaz");
+        assertAppendItemTextUpdate(item1, "baz");
+    }
+
+    @Test
+    void appendTextAfterAddItem_appendItemTextUpdateWithIndex() {
+        messageList.setItems(Arrays.asList(item1, item2));
+        var item3 = new MessageListItem("foo", null, "User");
+        messageList.addItem(item3);
+        assertAddItemUpdate(item3);
+
+        item3.appendText("bar");
+        assertAppendItemTextUpdate(item3, "bar");
+    }
+
     @Test
     void addItemNull_throws() {
         Assertions.assertThrows(NullPointerException.class,
@@ -54,6 +54,10 @@ class RadioButton<T> extends Component
         return item;
     }
 
+    void setItem(T item) {
+        this.item = item;
+    }
+
     /**
      * Replaces the label content with the given label component.
      *
@@ -16,10 +16,16 @@
 package com.vaadin.flow.component.radiobutton;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -45,6 +51,7 @@ import com.vaadin.flow.component.shared.InputField;
 import com.vaadin.flow.component.shared.SelectionPreservationHandler;
 import com.vaadin.flow.component.shared.SelectionPreservationMode;
 import com.vaadin.flow.component.shared.ValidationUtil;
+import com.vaadin.flow.component.shared.internal.ChildElementsReconciler;
 import com.vaadin.flow.component.shared.internal.ValidationController;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.binder.HasValidator;
@@ -658,26 +665,44 @@ public class RadioButtonGroup<T>
     @SuppressWarnings("unchecked")
     private void rebuild() {
         synchronized (dataProvider) {
-            // Cache helper component before removal
-            Component helperComponent = getHelperComponent();
+            List<T> items = getDataProvider()
+                    .fetch(DataViewUtils.getQuery(this)).map(item -> (T) item)
+                    .toList();
+
+            // Reuse the radio buttons and keys of the items that are still
+            // present, so that only the changed items are sent to the client
+            Map<Object, RadioButton<T>> existingButtons = new HashMap<>();
+            getRadioButtons().forEach(button -> existingButtons
+                    .putIfAbsent(getItemId(button.getItem()), button));
+            List<RadioButton<T>> buttons = new ArrayList<>(items.size());
+            for (T item : items) {
+                RadioButton<T> button = existingButtons.remove(getItemId(item));
+                if (button == null) {
+                    button = createRadioButton(item);
+                } else {
+                    keyMapper.refresh(item);
+                    button.setItem(item);
+                    button.getElement().setProperty("value",
+                            keyMapper.key(item));
+                    updateButton(button);
+                }
+                buttons.add(button);
+            }
+            existingButtons.values()
+                    .forEach(button -> keyMapper.remove(button.getItem()));
 
-            // Remove all known children (doesn't remove client-side-only
-            // children such as the label)
+            // Remove all other known children except the helper component
+            // (doesn't remove client-side-only children such as the label)
+            Component helperComponent = getHelperComponent();
+            Set<Component> retained = Collections
+                    .newSetFromMap(new IdentityHashMap<>());
+            retained.addAll(buttons);
             getChildren()
+                    .filter(child -> child != helperComponent
+                            && !retained.contains(child))
                     .forEach(child -> child.getElement().removeFromParent());
-
-            // reinsert helper component
-            setHelperComponent(helperComponent);
-
-            final AtomicInteger itemCounter = new AtomicInteger(0);
-            getDataProvider().fetch(DataViewUtils.getQuery(this))
-                    .map(item -> createRadioButton((T) item))
-                    .forEach(component -> {
-                        getElement().appendChild(
-                                ((Component) component).getElement());
-                        itemCounter.incrementAndGet();
-                    });
-            lastFetchedDataSize = itemCounter.get();
+            ChildElementsReconciler.appendInOrder(getElement(), buttons);
+            lastFetchedDataSize = buttons.size();
 
             // Ignore new size requests unless the last one has been executed
             // so as to avoid multiple beforeClientResponses.
@@ -739,7 +764,7 @@ public class RadioButtonGroup<T>
         }
     }
 
-    private Component createRadioButton(T item) {
+    private RadioButton<T> createRadioButton(T item) {
         RadioButton<T> button = new RadioButton<>(keyMapper.key(item), item);
         updateButton(button);
         return button;
@@ -863,11 +888,10 @@ public class RadioButtonGroup<T>
             keyMapper.refresh(refreshEvent.getItem());
             resetRadioButton(refreshEvent.getItem());
         } else {
-            keyMapper.removeAll();
             selectionPreservationHandler.handleDataChange(dataChangeEvent);
             rebuild();
             // Re-sync the presentation value so the element property uses the
-            // new key matching the rebuilt radio buttons.
+            // key matching the rebuilt radio buttons.
             setPresentationValue(getValue());
         }
     }
@@ -15,6 +15,11 @@
  */
 package com.vaadin.flow.data.renderer;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.Component;
@@ -47,6 +52,9 @@ public class ComponentDataGenerator<T>
     private final ValueProvider<T, String> keyMapper;
     private String nodeIdPropertyName;
     private Element container;
+    // Detached components kept for reuse, see
+    // ComponentRenderer#setComponentPoolSize
+    private final Deque<Component> componentPool = new ArrayDeque<>();
 
     /**
      * Creates a new generator.
@@ -83,7 +91,7 @@ public class ComponentDataGenerator<T>
         if (oldRenderedComponent != null) {
             nodeId = oldRenderedComponent.getElement().getNode().getId();
         } else {
-            Component renderedComponent = createComponent(item);
+            Component renderedComponent = createOrReuseComponent(item);
             if (renderedComponent.getParent().isPresent()) {
                 LoggerFactory.getLogger(ComponentDataGenerator.class).warn(
                         "The 'createComponent' method returned a component '{}' which already has a parent."
@@ -99,6 +107,61 @@ public class ComponentDataGenerator<T>
         jsonObject.put(nodeIdPropertyName, nodeId);
     }
 
+    @Override
+    public void destroyData(T item) {
+        Component renderedComponent = getRenderedComponent(getItemKey(item));
+        super.destroyData(item);
+        if (renderedComponent != null) {
+            releaseComponent(renderedComponent);
+        }
+    }
+
+    @Override
+    public void destroyAllData() {
+        List<Component> renderedComponents = container == null
+                || componentRenderer.getEffectiveComponentPoolSize() == 0
+                        ? List.of()
+                        : container.getChildren().map(Element::getComponent)
+                                .flatMap(Optional::stream).toList();
+        super.destroyAllData();
+        renderedComponents.forEach(this::releaseComponent);
+    }
+
+    /**
+     * Returns a detached component to the pool, if pooling is enabled and the
+     * pool is not full.
+     */
+    private void releaseComponent(Component component) {
+        int poolSize = componentRenderer.getEffectiveComponentPoolSize();
+        // The pool size may have been reduced since the pool was filled
+        while (componentPool.size() > poolSize) {
+            componentPool.poll();
+        }
+        if (componentPool.size() < poolSize
+                && component.getParent().isEmpty()) {
+            componentPool.push(component);
+        }
+    }
+
+    /**
+     * Renders the item by updating a pooled component if one is available, or
+     * by creating a new component otherwise.
+     */
+    private Component createOrReuseComponent(T item) {
+        Component pooledComponent = componentRenderer
+                .getEffectiveComponentPoolSize() == 0 ? null
+                        : componentPool.poll();
+        if (pooledComponent != null) {
+            Component updatedComponent = updateComponent(pooledComponent,
+                    item);
+            componentRenderer.recordComponentPoolUsage(
+                    updatedComponent == pooledComponent);
+            return updatedComponent;
+        }
+        componentRenderer.recordComponentPoolUsage(false);
+        return createComponent(item);
+    }
+
     @Override
     protected Component createComponent(T item) {
         return ensureNonNullComponent(componentRenderer.createComponent(item));
@@ -16,6 +16,7 @@
 package com.vaadin.flow.data.renderer;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.dependency.JsModule;
@@ -55,6 +56,12 @@ public class ComponentRenderer<COMPONENT extends Component, SOURCE>
     private SerializableBiFunction<Component, SOURCE, Component> componentUpdateFunction;
     private SerializableBiConsumer<COMPONENT, SOURCE> itemConsumer;
 
+    private int componentPoolSize;
+    private Boolean updateComponentOverridden;
+    // The renderer may be shared by components in different sessions
+    private final LongAdder componentPoolHits = new LongAdder();
+    private final LongAdder componentPoolMisses = new LongAdder();
+
     /**
      * Creates a new ComponentRenderer that uses the componentSupplier to
      * generate new {@link Component} instances, and the itemConsumer to set the
@@ -242,4 +249,123 @@ public class ComponentRenderer<COMPONENT extends Component, SOURCE>
         }
         return createComponent(item);
     }
+
+    /**
+     * Sets the maximum number of detached components kept for reuse. When
+     * greater than zero, components of items that are no longer rendered, for
+     * example because they were scrolled out of view, are kept in a pool
+     * instead of being discarded, and are reused for rendering new items
+     * through {@link #updateComponent(Component, Object)}.
+     * <p>
+     * Pooling is only used when the renderer is able to update an existing
+     * component, that is, when it was created with an update function, or
+     * when {@link #updateComponent(Component, Object)} is overridden.
+     * Otherwise, a new component is always created, as running an item
+     * consumer again on an existing component would for example duplicate the
+     * listeners and children added by it. A pooled component is discarded if
+     * the update returns a different component instance.
+     * <p>
+     * Each component that uses the renderer has a pool of its own, so that
+     * components are never moved from one component or UI to another.
+     * <p>
+     * By default, the pool size is {@code 0} and no components are pooled.
+     *
+     * @param componentPoolSize
+     *            the maximum number of pooled components, or {@code 0} to
+     *            disable pooling
+     * @throws IllegalArgumentException
+     *             if the size is negative
+     */
+    public void setComponentPoolSize(int componentPoolSize) {
+        if (componentPoolSize < 0) {
+            throw new IllegalArgumentException(
+                    "The component pool size can't be negative");
+        }
+        this.componentPoolSize = componentPoolSize;
+    }
+
+    /**
+     * Gets the maximum number of detached components kept for reuse.
+     *
+     * @return the maximum number of pooled components, {@code 0} if pooling is
+     *         disabled
+     * @see #setComponentPoolSize(int)
+     */
+    public int getComponentPoolSize() {
+        return componentPoolSize;
+    }
+
+    /**
+     * Gets the number of items rendered by reusing a pooled component since
+     * pooling was enabled or the statistics were last reset.
+     *
+     * @return the number of pool hits
+     */
+    public long getComponentPoolHitCount() {
+        return componentPoolHits.sum();
+    }
+
+    /**
+     * Gets the number of items for which a new component had to be created
+     * while pooling was enabled, since the statistics were last reset.
+     *
+     * @return the number of pool misses
+     */
+    public long getComponentPoolMissCount() {
+        return componentPoolMisses.sum();
+    }
+
+    /**
+     * Resets the pool hit and miss counters.
+     */
+    public void resetComponentPoolStatistics() {
+        componentPoolHits.reset();
+        componentPoolMisses.reset();
+    }
+
+    /**
+     * Gets the number of detached components that can be kept for reuse,
+     * taking into account whether this renderer is able to update existing
+     * components.
+     *
+     * @return the effective pool size, {@code 0} if components are not pooled
+     */
+    int getEffectiveComponentPoolSize() {
+        if (componentPoolSize == 0) {
+            return 0;
+        }
+        if (componentUpdateFunction != null || isUpdateComponentOverridden()) {
+            return componentPoolSize;
+        }
+        return 0;
+    }
+
+    private boolean isUpdateComponentOverridden() {
+        if (updateComponentOverridden == null) {
+            try {
+                updateComponentOverridden = getClass()
+                        .getMethod("updateComponent", Component.class,
+                                Object.class)
+                        .getDeclaringClass() != ComponentRenderer.class;
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return updateComponentOverridden;
+    }
+
+    /**
+     * Records whether a pooled component could be reused for rendering an
+     * item. Has no effect if pooling is disabled.
+     *
+     * @param hit
+     *            {@code true} if a pooled component was reused
+     */
+    void recordComponentPoolUsage(boolean hit) {
+        if (hit) {
+            componentPoolHits.increment();
+        } else if (getEffectiveComponentPoolSize() > 0) {
+            componentPoolMisses.increment();
+        }
+    }
 }
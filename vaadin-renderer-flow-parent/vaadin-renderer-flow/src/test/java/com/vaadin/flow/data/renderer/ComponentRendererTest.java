@@ -225,4 +225,124 @@ class ComponentRendererTest {
                 "The two components should be the same");
     }
 
+    @Test
+    void componentPool_destroyedComponentReusedForNewItem() {
+        AtomicInteger createInvocations = new AtomicInteger();
+        ComponentRenderer<TestDiv, String> renderer = new ComponentRenderer<>(
+                item -> {
+                    createInvocations.incrementAndGet();
+                    TestDiv div = new TestDiv();
+                    div.setText(item);
+                    return div;
+                }, (component, item) -> {
+                    ((TestDiv) component).setText(item);
+                    return component;
+                });
+        renderer.setComponentPoolSize(1);
+        ComponentDataGenerator<String> generator = createGenerator(renderer);
+
+        Element container = generator.getContainer();
+
+        generator.generateData("foo", JacksonUtils.createObjectNode());
+        Component fooComponent = container.getChild(0).getComponent().get();
+        generator.destroyData("foo");
+        Assertions.assertEquals(0, container.getChildCount());
+        generator.generateData("bar", JacksonUtils.createObjectNode());
+        generator.generateData("baz", JacksonUtils.createObjectNode());
+
+        Assertions.assertSame(fooComponent,
+                container.getChild(0).getComponent().get());
+        Assertions.assertEquals("bar", ((TestDiv) fooComponent).getText());
+        Assertions.assertEquals(2, createInvocations.get());
+        Assertions.assertEquals(1, renderer.getComponentPoolHitCount());
+        Assertions.assertEquals(2, renderer.getComponentPoolMissCount());
+    }
+
+    @Test
+    void componentPool_itemConsumer_componentNotReused() {
+        AtomicInteger createInvocations = new AtomicInteger();
+        ComponentRenderer<TestDiv, String> renderer = new ComponentRenderer<>(
+                () -> {
+                    createInvocations.incrementAndGet();
+                    return new TestDiv();
+                }, TestDiv::setText);
+        renderer.setComponentPoolSize(1);
+        ComponentDataGenerator<String> generator = createGenerator(renderer);
+
+        generator.generateData("foo", JacksonUtils.createObjectNode());
+        generator.destroyData("foo");
+        generator.generateData("bar", JacksonUtils.createObjectNode());
+
+        Assertions.assertEquals(2, createInvocations.get());
+        Assertions.assertEquals(0, renderer.getComponentPoolHitCount());
+    }
+
+    @Test
+    void componentPool_updateComponentOverridden_componentReused() {
+        ComponentRenderer<TestDiv, String> renderer = new ComponentRenderer<>(
+                () -> new TestDiv(), TestDiv::setText) {
+            @Override
+            public Component updateComponent(Component currentComponent,
+                    String item) {
+                ((TestDiv) currentComponent).setText(item);
+                return currentComponent;
+            }
+        };
+        renderer.setComponentPoolSize(1);
+        ComponentDataGenerator<String> generator = createGenerator(renderer);
+
+        generator.generateData("foo", JacksonUtils.createObjectNode());
+        generator.destroyData("foo");
+        generator.generateData("bar", JacksonUtils.createObjectNode());
+
+        Assertions.assertEquals(1, renderer.getComponentPoolHitCount());
+    }
+
+    @Test
+    void componentPool_notSharedBetweenGenerators() {
+        ComponentRenderer<TestDiv, String> renderer = new ComponentRenderer<>(
+                item -> new TestDiv(), (component, item) -> component);
+        renderer.setComponentPoolSize(1);
+        ComponentDataGenerator<String> generator = createGenerator(renderer);
+        ComponentDataGenerator<String> otherGenerator = createGenerator(
+                renderer);
+
+        generator.generateData("foo", JacksonUtils.createObjectNode());
+        Component fooComponent = generator.getContainer().getChild(0)
+                .getComponent().get();
+        generator.destroyData("foo");
+        otherGenerator.generateData("bar", JacksonUtils.createObjectNode());
+
+        Assertions.assertNotSame(fooComponent, otherGenerator.getContainer()
+                .getChild(0).getComponent().get());
+        Assertions.assertEquals(0, renderer.getComponentPoolHitCount());
+    }
+
+    @Test
+    void componentPool_disabledByDefault() {
+        AtomicInteger createInvocations = new AtomicInteger();
+        ComponentRenderer<TestDiv, String> renderer = new ComponentRenderer<>(
+                () -> {
+                    createInvocations.incrementAndGet();
+                    return new TestDiv();
+                }, TestDiv::setText);
+        ComponentDataGenerator<String> generator = createGenerator(renderer);
+
+        generator.generateData("foo", JacksonUtils.createObjectNode());
+        generator.destroyAllData();
+        generator.generateData("bar", JacksonUtils.createObjectNode());
+
+        Assertions.assertEquals(2, createInvocations.get());
+        Assertions.assertEquals(0, renderer.getComponentPoolHitCount());
+        Assertions.assertEquals(0, renderer.getComponentPoolMissCount());
+    }
+
+    private static ComponentDataGenerator<String> createGenerator(
+            ComponentRenderer<TestDiv, String> renderer) {
+        ComponentDataGenerator<String> generator = new ComponentDataGenerator<>(
+                renderer, ValueProvider.identity());
+        generator.setContainer(new Element("div"));
+        generator.setNodeIdPropertyName("nodeid");
+        return generator;
+    }
 }
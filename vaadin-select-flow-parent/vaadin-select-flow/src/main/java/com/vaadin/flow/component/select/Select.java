@@ -16,10 +16,15 @@
 package com.vaadin.flow.component.select;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -27,6 +32,7 @@ import java.util.stream.Stream;
 import com.vaadin.flow.component.AbstractField;
 import com.vaadin.flow.component.AbstractSinglePropertyField;
 import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.ClientCallable;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentEvent;
 import com.vaadin.flow.component.ComponentEventListener;
@@ -44,22 +50,30 @@ import com.vaadin.flow.component.Unit;
 import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.component.select.data.SelectDataView;
+import com.vaadin.flow.component.select.data.SelectLazyDataView;
 import com.vaadin.flow.component.select.data.SelectListDataView;
 import com.vaadin.flow.component.shared.HasPrefix;
 import com.vaadin.flow.component.shared.HasThemeVariant;
 import com.vaadin.flow.component.shared.HasValidationProperties;
 import com.vaadin.flow.component.shared.InputField;
 import com.vaadin.flow.component.shared.ValidationUtil;
+import com.vaadin.flow.component.shared.internal.ChildElementsReconciler;
 import com.vaadin.flow.component.shared.internal.ValidationController;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.binder.HasItemComponents;
 import com.vaadin.flow.data.binder.HasValidator;
 import com.vaadin.flow.data.binder.Validator;
+import com.vaadin.flow.data.provider.ArrayUpdater;
+import com.vaadin.flow.data.provider.BackEndDataProvider;
+import com.vaadin.flow.data.provider.CallbackDataProvider;
+import com.vaadin.flow.data.provider.CompositeDataGenerator;
 import com.vaadin.flow.data.provider.DataChangeEvent;
+import com.vaadin.flow.data.provider.DataCommunicator;
 import com.vaadin.flow.data.provider.DataProvider;
 import com.vaadin.flow.data.provider.DataProviderWrapper;
 import com.vaadin.flow.data.provider.DataViewUtils;
 import com.vaadin.flow.data.provider.HasDataView;
+import com.vaadin.flow.data.provider.HasLazyDataView;
 import com.vaadin.flow.data.provider.HasListDataView;
 import com.vaadin.flow.data.provider.IdentifierProvider;
 import com.vaadin.flow.data.provider.InMemoryDataProvider;
@@ -70,10 +84,14 @@ import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.data.renderer.ComponentRenderer;
 import com.vaadin.flow.data.renderer.TextRenderer;
 import com.vaadin.flow.data.selection.SingleSelect;
+import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.function.SerializableConsumer;
 import com.vaadin.flow.function.SerializablePredicate;
 import com.vaadin.flow.shared.Registration;
 
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+
 /**
  * Select allows users to choose a single value from a list of options presented
  * in an overlay. The dropdown can be opened with a click, up/down arrow keys,
@@ -116,7 +134,8 @@ public class Select<T> extends AbstractSinglePropertyField<Select<T>, T>
         implements Focusable<Select<T>>, HasAriaLabel,
         HasDataView<T, Void, SelectDataView<T>>, HasItemComponents<T>,
         InputField<AbstractField.ComponentValueChangeEvent<Select<T>, T>, T>,
-        HasListDataView<T, SelectListDataView<T>>, HasPrefix,
+        HasListDataView<T, SelectListDataView<T>>,
+        HasLazyDataView<T, Void, SelectLazyDataView<T>>, HasPrefix,
         HasThemeVariant<SelectVariant>, HasValidationProperties,
         HasValidator<T>, SingleSelect<Select<T>, T>, HasPlaceholder {
 
@@ -124,6 +143,12 @@ public class Select<T> extends AbstractSinglePropertyField<Select<T>, T>
 
     private static final String VALUE_PROPERTY_NAME = "value";
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
+    // The number of pages in the window of fetched items in lazy mode: the
+    // page of the first visible item, and a page before and after it
+    private static final int LAZY_WINDOW_PAGES = 3;
+
     private final InternalListBox listBox = new InternalListBox();
 
     private final AtomicReference<DataProvider<T, ?>> dataProvider = new AtomicReference<>(
@@ -155,6 +180,24 @@ public class Select<T> extends AbstractSinglePropertyField<Select<T>, T>
 
     private SelectI18n i18n;
 
+    private int pageSize = DEFAULT_PAGE_SIZE;
+
+    private DataCommunicator<T> lazyDataCommunicator;
+
+    private boolean lazyLoading;
+
+    private final SortedMap<Integer, T> lazyItems = new TreeMap<>();
+
+    private int lazyItemCount;
+
+    private int lazyWindowStart;
+
+    private int lazyWindowLength;
+
+    private final LazyItemsSpacer lazyItemsBefore = new LazyItemsSpacer();
+
+    private final LazyItemsSpacer lazyItemsAfter = new LazyItemsSpacer();
+
     private Validator<T> defaultValidator = (value, context) -> {
         boolean fromComponent = context == null;
 
@@ -189,9 +232,16 @@ public class Select<T> extends AbstractSinglePropertyField<Select<T>, T>
         getElement().appendChild(listBox.getElement());
 
         addValueChangeListener(e -> validate());
+        addValueChangeListener(e -> {
+            if (lazyLoading) {
+                showLazyItems();
+            }
+        });
 
         getElement().addPropertyChangeListener("opened", event -> fireEvent(
                 new OpenedChangeEvent(this, event.isUserOriginated())));
+        getElement().addPropertyChangeListener("opened",
+                event -> updateLazyItemsRange());
 
         getElement().addPropertyChangeListener("invalid", event -> fireEvent(
                 new InvalidChangeEvent(this, event.isUserOriginated())));
@@ -313,9 +363,11 @@ public class Select<T> extends AbstractSinglePropertyField<Select<T>, T>
         if (model == null) {
             return "";
         }
-        if (!select.keyMapper.has(model)) {
+        if (!select.keyMapper.has(model) && !select.lazyLoading) {
             return null;
         }
+        // In lazy mode, the selected item is added to the list box even if it
+        // has not been fetched, see showItems
         return select.keyMapper.key(model);
     }
 
@@ -352,6 +404,21 @@ public class Select<T> extends AbstractSinglePropertyField<Select<T>, T>
         }
     }
 
+    /**
+     * Takes the space of the items before or after the window of fetched
+     * items in lazy mode, so that the scrollbar of the dropdown reflects the
+     * total number of items. The client-side connector sets the height of an
+     * item, which is used for calculating the height of the spacer.
+     */
+    @Tag(Tag.DIV)
+    private static class LazyItemsSpacer extends Component {
+
+        private void setItemCount(int itemCount) {
+            getElement().getStyle().set("height", "calc(" + itemCount
+                    + " * var(--_vaadin-select-lazy-item-height, 36px))");
+        }
+    }
+
     /**
      * Returns the item component renderer.
      *
@@ -630,6 +697,7 @@ public class Select<T> extends AbstractSinglePropertyField<Select<T>, T>
      *            DataProvider instance to use, not <code>null</code>
      */
     public void setDataProvider(DataProvider<T, ?> dataProvider) {
+        disableLazyLoading();
         this.dataProvider.set(dataProvider);
         DataViewUtils.removeComponentFilterAndSortComparator(this);
         reset();
@@ -717,6 +785,106 @@ public class Select<T> extends AbstractSinglePropertyField<Select<T>, T>
                 this::identifierProviderChanged, (filter, sorting) -> reset());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The items are fetched lazily: nothing is fetched before the dropdown is
+     * opened, and while it is opened, only a window of three pages of items
+     * around the scroll position is fetched and rendered. The space of the
+     * other items is taken by placeholders, and the window follows the scroll
+     * position. The fetched items are released when the dropdown is closed.
+     * Only the selected item is kept while the dropdown is closed, so the
+     * memory used on the server and the size of the responses do not depend
+     * on the number of items.
+     *
+     * @see #setPageSize(int)
+     */
+    @Override
+    public SelectLazyDataView<T> setItems(
+            BackEndDataProvider<T, Void> dataProvider) {
+        Objects.requireNonNull(dataProvider,
+                "The data provider can not be null");
+        this.dataProvider.set(dataProvider);
+        DataViewUtils.removeComponentFilterAndSortComparator(this);
+        if (dataProviderListenerRegistration != null) {
+            // The data communicator listens to the data provider changes
+            dataProviderListenerRegistration.remove();
+            dataProviderListenerRegistration = null;
+        }
+        if (lazyDataCommunicator == null) {
+            lazyDataCommunicator = new DataCommunicator<>(
+                    new CompositeDataGenerator<>(), new LazyItemsUpdater(),
+                    this::refreshLazyItems, getElement().getNode(), true);
+            lazyDataCommunicator.setPageSize(pageSize);
+        }
+        lazyLoading = true;
+        lazyItems.clear();
+        lazyItemCount = 0;
+        lazyWindowStart = 0;
+        lazyDataCommunicator.setDataProvider(dataProvider, null);
+        clear();
+        updateLazyItemsRange();
+        showLazyItems();
+        return getLazyDataView();
+    }
+
+    /**
+     * Gets the lazy data view for the {@link Select}. This data view should
+     * only be used when the items are provided lazily from the backend with:
+     * <ul>
+     * <li>{@link #setItems(CallbackDataProvider.FetchCallback)}</li>
+     * <li>{@link #setItems(CallbackDataProvider.FetchCallback, CallbackDataProvider.CountCallback)}</li>
+     * <li>{@link #setItems(BackEndDataProvider)}</li>
+     * </ul>
+     * If the items are not fetched lazily an exception is thrown.
+     *
+     * @return the lazy data view that provides access to the data bound to the
+     *         {@link Select}
+     */
+    @Override
+    public SelectLazyDataView<T> getLazyDataView() {
+        if (!lazyLoading) {
+            throw new IllegalStateException(String.format(
+                    "SelectLazyDataView only supports '%s' or it's subclasses,"
+                            + " but was given a '%s'",
+                    BackEndDataProvider.class.getSimpleName(),
+                    getDataProvider().getClass().getSimpleName()));
+        }
+        return new SelectLazyDataView<>(lazyDataCommunicator, this,
+                this::identifierProviderChanged);
+    }
+
+    /**
+     * Sets the number of items that are fetched at a time when the items are
+     * provided lazily, see {@link #setItems(BackEndDataProvider)}. The default
+     * page size is 50.
+     *
+     * @param pageSize
+     *            the page size, greater than zero
+     */
+    public void setPageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException(
+                    "Page size should be greater than zero.");
+        }
+        this.pageSize = pageSize;
+        if (lazyDataCommunicator != null) {
+            lazyDataCommunicator.setPageSize(pageSize);
+        }
+        updateLazyItemsRange();
+    }
+
+    /**
+     * Gets the number of items that are fetched at a time when the items are
+     * provided lazily.
+     *
+     * @return the page size
+     * @see #setPageSize(int)
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
     @Override
     public void onEnabledStateChanged(boolean enabled) {
         getElement().setProperty("disabled", !enabled);
@@ -826,7 +994,8 @@ public class Select<T> extends AbstractSinglePropertyField<Select<T>, T>
         return Stream.concat(
                 super.getChildren().filter(component -> component != listBox),
                 listBox.getChildren().filter(
-                        component -> !(component instanceof VaadinItem)));
+                        component -> !(component instanceof VaadinItem)
+                                && !(component instanceof LazyItemsSpacer)));
     }
 
     /**
@@ -981,24 +1150,24 @@ public class Select<T> extends AbstractSinglePropertyField<Select<T>, T>
         return itemEnabledProvider == null || itemEnabledProvider.test(item);
     }
 
-    private Component createItem(T bean) {
+    private VaadinItem<T> createItem(T bean) {
         VaadinItem<T> item = new VaadinItem<>(keyMapper.key(bean), bean);
         updateItem(item);
         return item;
     }
 
     private void updateItem(VaadinItem<T> vaadinItem) {
-        vaadinItem.removeAll();
         T item = vaadinItem.getItem();
 
         if (vaadinItem == emptySelectionItem) {
-            vaadinItem.setText(emptySelectionCaption);
+            updateItemText(vaadinItem, emptySelectionCaption);
         } else if (getItemRenderer() != null) {
+            vaadinItem.removeAll();
             vaadinItem.add(getItemRenderer().createComponent(item));
         } else if (getItemLabelGenerator() != null) {
-            vaadinItem.setText(getItemLabelGenerator().apply(item));
+            updateItemText(vaadinItem, getItemLabelGenerator().apply(item));
         } else {
-            vaadinItem.setText(item.toString());
+            updateItemText(vaadinItem, item.toString());
         }
 
         if (getItemLabelGenerator() != null) {
@@ -1014,6 +1183,18 @@ public class Select<T> extends AbstractSinglePropertyField<Select<T>, T>
         requestClientSideContentUpdateIfNotPending();
     }
 
+    private static void updateItemText(VaadinItem<?> vaadinItem,
+            String text) {
+        Element element = vaadinItem.getElement();
+        if (element.getChildCount() == 1 && element.getChild(0).isTextNode()) {
+            // Update the existing text node instead of replacing it
+            element.getChild(0).setText(text);
+        } else {
+            vaadinItem.removeAll();
+            vaadinItem.setText(text);
+        }
+    }
+
     private void updateItemEnabled(VaadinItem<T> item) {
         boolean itemEnabled = isItemEnabled(item.getItem());
         boolean isDisabled = getElement().getProperty("disabled", false);
@@ -1039,23 +1220,15 @@ public class Select<T> extends AbstractSinglePropertyField<Select<T>, T>
 
     @SuppressWarnings("unchecked")
     private void reset() {
-        keyMapper.removeAll();
-        listBox.removeAll();
         clear();
         requestClientSideContentUpdateIfNotPending();
 
-        if (isEmptySelectionAllowed()) {
-            addEmptySelectionItem();
-        }
-
         synchronized (dataProvider) {
-            final AtomicInteger itemCounter = new AtomicInteger(0);
-            getDataProvider().fetch(DataViewUtils.getQuery(this))
-                    .map(item -> createItem((T) item)).forEach(component -> {
-                        add((Component) component);
-                        itemCounter.incrementAndGet();
-                    });
-            lastFetchedDataSize = itemCounter.get();
+            List<T> items = getDataProvider()
+                    .fetch(DataViewUtils.getQuery(this)).map(item -> (T) item)
+                    .toList();
+            showItems(items, null, 0, 0);
+            lastFetchedDataSize = items.size();
 
             // Ignore new size requests unless the last one has been executed
             // so as to avoid multiple beforeClientResponses.
@@ -1069,6 +1242,205 @@ public class Select<T> extends AbstractSinglePropertyField<Select<T>, T>
                 runBeforeClientResponse(sizeRequest);
             }
         }
+
+        if (isEmptySelectionAllowed() && getValue() == null) {
+            setValue(null);
+        }
+    }
+
+    /**
+     * Shows the given items in the list box after the empty selection item.
+     * The components and keys of the items that are already shown are reused,
+     * so that only the changed items are sent to the client.
+     *
+     * @param items
+     *            the items to show
+     * @param selectedItem
+     *            the selected item to keep in the list box as a hidden item if
+     *            it is not one of the given items, or {@code null}
+     * @param itemsBefore
+     *            the number of items before the given items that are not
+     *            shown, for which a spacer is added
+     * @param itemsAfter
+     *            the number of items after the given items that are not shown,
+     *            for which a spacer is added
+     */
+    private void showItems(List<T> items, T selectedItem, int itemsBefore,
+            int itemsAfter) {
+        IdentifierProvider<T> identifierProvider = getIdentifierProvider();
+        Map<Object, VaadinItem<T>> existingItems = new HashMap<>();
+        getItems().filter(item -> item != emptySelectionItem)
+                .forEach(item -> existingItems.putIfAbsent(
+                        identifierProvider.apply(item.getItem()), item));
+
+        List<Component> itemComponents = new ArrayList<>(items.size() + 4);
+        if (isEmptySelectionAllowed()) {
+            if (emptySelectionItem == null) {
+                emptySelectionItem = new VaadinItem<>("", null);
+            }
+            updateItem(emptySelectionItem);
+            itemComponents.add(emptySelectionItem);
+        }
+        if (itemsBefore > 0) {
+            lazyItemsBefore.setItemCount(itemsBefore);
+            itemComponents.add(lazyItemsBefore);
+        }
+        Object selectedItemId = selectedItem == null ? null
+                : identifierProvider.apply(selectedItem);
+        boolean selectedItemShown = false;
+        for (T item : items) {
+            Object itemId = identifierProvider.apply(item);
+            VaadinItem<T> component = reuseOrCreateItem(
+                    existingItems.remove(itemId), item);
+            component.getElement().removeAttribute("hidden");
+            itemComponents.add(component);
+            selectedItemShown |= itemId.equals(selectedItemId);
+        }
+        if (itemsAfter > 0) {
+            lazyItemsAfter.setItemCount(itemsAfter);
+            itemComponents.add(lazyItemsAfter);
+        }
+        if (selectedItemId != null && !selectedItemShown) {
+            // The client needs the item for showing the selected value
+            VaadinItem<T> component = reuseOrCreateItem(
+                    existingItems.remove(selectedItemId), selectedItem);
+            component.getElement().setAttribute("hidden", true);
+            itemComponents.add(component);
+        }
+        existingItems.values().forEach(
+                component -> keyMapper.remove(component.getItem()));
+        ChildElementsReconciler.reconcile(listBox.getElement(),
+                itemComponents);
+    }
+
+    private VaadinItem<T> reuseOrCreateItem(VaadinItem<T> component, T item) {
+        if (component == null) {
+            return createItem(item);
+        }
+        keyMapper.refresh(item);
+        component.setItem(item);
+        updateItem(component);
+        return component;
+    }
+
+    private void showLazyItems() {
+        List<T> items = new ArrayList<>(lazyItems.values());
+        boolean opened = isOpened();
+        int itemsBefore = opened ? Math.min(lazyWindowStart, lazyItemCount)
+                : 0;
+        int itemsAfter = opened
+                ? Math.max(0, lazyItemCount - itemsBefore - items.size())
+                : 0;
+        showItems(items, getValue(), itemsBefore, itemsAfter);
+        requestClientSideContentUpdateIfNotPending();
+
+        if (opened && items.size() < lazyItemCount) {
+            // Move the window when the first visible item is scrolled out of
+            // the page in the middle of the window. The indexes on the client
+            // include the empty selection item.
+            int offset = isEmptySelectionAllowed() ? 1 : 0;
+            int from = lazyWindowStart == 0 ? 0 : lazyWindowStart + pageSize;
+            int to = lazyWindowStart + 2 * pageSize;
+            getElement().executeJs("this.$connector.observeScroll($0, $1, $2)",
+                    listBox.getElement(), from + offset, to + offset);
+        }
+    }
+
+    private void refreshLazyItems(ArrayNode data) {
+        for (JsonNode json : data) {
+            T refreshedItem = lazyDataCommunicator.getKeyMapper()
+                    .get(json.get("key").asString());
+            if (refreshedItem == null) {
+                continue;
+            }
+            Object refreshedItemId = getItemId(refreshedItem);
+            lazyItems.replaceAll((index, item) -> refreshedItemId
+                    .equals(getItemId(item)) ? refreshedItem : item);
+        }
+        showLazyItems();
+    }
+
+    private void updateLazyItemsRange() {
+        if (!lazyLoading) {
+            return;
+        }
+        if (isOpened()) {
+            setLazyWindow(lazyWindowStart, LAZY_WINDOW_PAGES * pageSize);
+        } else {
+            setLazyWindow(0, 0);
+        }
+    }
+
+    @ClientCallable
+    private void setFirstVisibleItem(int index) {
+        if (!lazyLoading || !isOpened()) {
+            return;
+        }
+        int itemIndex = Math.max(0,
+                index - (isEmptySelectionAllowed() ? 1 : 0));
+        int windowStart = Math.max(0, itemIndex / pageSize - 1) * pageSize;
+        if (windowStart != lazyWindowStart) {
+            setLazyWindow(windowStart, LAZY_WINDOW_PAGES * pageSize);
+        }
+    }
+
+    private void setLazyWindow(int start, int length) {
+        lazyWindowStart = start;
+        lazyWindowLength = length;
+        lazyDataCommunicator.setViewportRange(start, length);
+    }
+
+    private void disableLazyLoading() {
+        if (!lazyLoading) {
+            return;
+        }
+        lazyLoading = false;
+        lazyItems.clear();
+        setLazyWindow(0, 0);
+        lazyDataCommunicator.setDataProvider(DataProvider.ofItems(), null);
+    }
+
+    /**
+     * Collects the items sent by the data communicator in lazy mode.
+     */
+    private final class LazyItemsUpdater implements ArrayUpdater {
+
+        @Override
+        public Update startUpdate(int sizeChange) {
+            return new Update() {
+                @Override
+                public void set(int start, List<JsonNode> items) {
+                    for (int i = 0; i < items.size(); i++) {
+                        lazyItems.put(start + i, lazyDataCommunicator
+                                .getKeyMapper()
+                                .get(items.get(i).get("key").asString()));
+                    }
+                }
+
+                @Override
+                public void clear(int start, int length) {
+                    lazyItems.subMap(start, start + length).clear();
+                }
+
+                @Override
+                public void commit(int updateId) {
+                    lazyDataCommunicator.confirmUpdate(updateId);
+                    lazyItemCount = sizeChange;
+                    // Release the items that are outside of the window
+                    lazyItems.headMap(lazyWindowStart).clear();
+                    lazyItems.tailMap(lazyWindowStart + lazyWindowLength)
+                            .clear();
+                    if (lazyLoading) {
+                        showLazyItems();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public void initialize() {
+            // NO-OP
+        }
     }
 
     private void requestClientSideContentUpdateIfNotPending() {
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.select.data;
+
+import com.vaadin.flow.component.select.Select;
+import com.vaadin.flow.data.provider.AbstractLazyDataView;
+import com.vaadin.flow.data.provider.BackEndDataProvider;
+import com.vaadin.flow.data.provider.CallbackDataProvider;
+import com.vaadin.flow.data.provider.DataCommunicator;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.HasLazyDataView;
+import com.vaadin.flow.data.provider.IdentifierProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.function.SerializableConsumer;
+
+/**
+ * Data view implementation for {@link Select} with lazy data fetching.
+ * Provides information on the data and allows operations on it.
+ * <p>
+ * Items are only fetched while the dropdown is opened, and only a window of a
+ * few pages around the scroll position is fetched at a time, see
+ * {@link Select#setPageSize(int)}.
+ *
+ * @param <T>
+ *            item type
+ */
+public class SelectLazyDataView<T> extends AbstractLazyDataView<T> {
+
+    private final SerializableConsumer<IdentifierProvider<T>> identifierChangedCallback;
+
+    /**
+     * Creates a new lazy data view for Select and verifies the passed data
+     * provider is compatible with this data view implementation.
+     *
+     * @param dataCommunicator
+     *            the data communicator of the select
+     * @param select
+     *            select component that the dataView is bound to
+     * @param identifierChangedCallback
+     *            callback method which should be called when identifierProvider
+     *            is changed
+     */
+    public SelectLazyDataView(DataCommunicator<T> dataCommunicator,
+            Select<T> select,
+            SerializableConsumer<IdentifierProvider<T>> identifierChangedCallback) {
+        super(dataCommunicator, select);
+        this.identifierChangedCallback = identifierChangedCallback;
+    }
+
+    /**
+     * Sets a callback that the select uses to get the exact item count in the
+     * backend. Use this when it is cheap to get the exact item count.
+     * <p>
+     * The given callback will be queried for the count instead of the data
+     * provider {@link DataProvider#size(Query)} method when the component has a
+     * distinct data provider set with
+     * {@link HasLazyDataView#setItems(BackEndDataProvider)}.
+     *
+     * @param callback
+     *            the callback to use for determining item count in the backend,
+     *            not {@code null}
+     * @see #setItemCountFromDataProvider()
+     * @see #setItemCountUnknown()
+     */
+    public void setItemCountCallback(
+            CallbackDataProvider.CountCallback<T, Void> callback) {
+        getDataCommunicator().setCountCallback(callback);
+    }
+
+    @Override
+    public void setIdentifierProvider(
+            IdentifierProvider<T> identifierProvider) {
+        super.setIdentifierProvider(identifierProvider);
+        getDataCommunicator().getKeyMapper()
+                .setIdentifierGetter(identifierProvider);
+
+        if (identifierChangedCallback != null) {
+            identifierChangedCallback.accept(identifierProvider);
+        }
+    }
+}
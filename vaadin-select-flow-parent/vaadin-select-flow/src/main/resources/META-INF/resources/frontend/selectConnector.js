@@ -7,6 +7,61 @@ window.Vaadin.Flow.selectConnector.initLazy = (select) => {
 
   select.$connector = {};
 
+  // Used with lazy data providers: reports the index of the first visible
+  // item to the server when it is scrolled out of the given range, so that
+  // the server can move the window of fetched items
+  select.$connector.observeScroll = (listBox, from, to) => {
+    select.$connector.lazyRange = { from, to };
+
+    const findScroller = (element) => {
+      let node = element.assignedSlot || element.parentNode;
+      while (node) {
+        if (node instanceof Element && ['auto', 'scroll'].includes(getComputedStyle(node).overflowY)) {
+          return node;
+        }
+        node = node.assignedSlot || node.parentNode || node.host;
+      }
+      return null;
+    };
+
+    const update = () => {
+      const scroller = select.$connector.lazyScroller;
+      const item = listBox.querySelector('vaadin-select-item:not([hidden])');
+      if (!scroller || !item || !item.offsetHeight) {
+        return;
+      }
+      // The placeholders of the items that are not fetched use the height
+      // of the rendered items
+      listBox.style.setProperty('--_vaadin-select-lazy-item-height', `${item.offsetHeight}px`);
+      const offset = scroller.getBoundingClientRect().top - listBox.getBoundingClientRect().top;
+      const index = Math.max(0, Math.floor(offset / item.offsetHeight));
+      const range = select.$connector.lazyRange;
+      if (select.opened && (index < range.from || index >= range.to)) {
+        // Report each index only once until the server sends a new range
+        select.$connector.lazyRange = { from: index, to: index + 1 };
+        select.$server.setFirstVisibleItem(index);
+      }
+    };
+
+    requestAnimationFrame(() => {
+      const scroller = findScroller(listBox);
+      if (scroller && scroller !== select.$connector.lazyScroller) {
+        let frameRequested = false;
+        scroller.addEventListener('scroll', () => {
+          if (!frameRequested) {
+            frameRequested = true;
+            requestAnimationFrame(() => {
+              frameRequested = false;
+              update();
+            });
+          }
+        });
+        select.$connector.lazyScroller = scroller;
+      }
+      update();
+    });
+  };
+
   select.renderer = (root) => {
     const listBox = select.querySelector('vaadin-select-list-box');
     if (listBox) {
@@ -960,6 +960,41 @@ class SelectTest {
         Assertions.assertEquals("updated", select.getValue().name);
     }
 
+    @Test
+    void refreshAll_existingItemsAndKeysReused() {
+        List<String> items = new ArrayList<>(List.of("foo", "bar", "baz"));
+        SelectListDataView<String> dataView = select.setItems(items);
+        Element foo = getListBoxChild(0);
+        Element baz = getListBoxChild(2);
+        String bazKey = baz.getProperty("value");
+
+        items.remove("bar");
+        items.add(0, "qux");
+        dataView.refreshAll();
+
+        Assertions.assertEquals(3, getListBox().getChildCount());
+        validateItem(0, "qux", null, true);
+        Assertions.assertSame(foo, getListBoxChild(1));
+        Assertions.assertSame(baz, getListBoxChild(2));
+
+        select.getElement().setProperty("value", bazKey);
+        Assertions.assertEquals("baz", select.getValue());
+    }
+
+    @Test
+    void refreshAll_itemTextUpdatedInPlace() {
+        List<String> items = new ArrayList<>(List.of("foo", "bar"));
+        SelectListDataView<String> dataView = select.setItems(items);
+        select.setItemLabelGenerator(item -> item + "!");
+        Element text = getListBoxChild(0).getChild(0);
+
+        select.setItemLabelGenerator(item -> item + "?");
+        dataView.refreshAll();
+
+        validateItem(0, "foo?", "foo?", true);
+        Assertions.assertSame(text, getListBoxChild(0).getChild(0));
+    }
+
     private void validateItem(int index, String textContent, String label,
             boolean enabled) {
         Element item = getListBoxChild(index);
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.select.data;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.vaadin.flow.component.select.Select;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.tests.MockUIExtension;
+
+class SelectLazyDataViewTest {
+    @RegisterExtension
+    MockUIExtension ui = new MockUIExtension();
+
+    private final List<String> items = IntStream.range(0, 1000)
+            .mapToObj(i -> "Item " + i).toList();
+    private final AtomicInteger fetchedItemCount = new AtomicInteger();
+
+    private Select<String> select;
+    private SelectLazyDataView<String> dataView;
+
+    @BeforeEach
+    void setup() {
+        select = new Select<>();
+        select.setPageSize(10);
+        dataView = select.setItems(
+                query -> items.stream().skip(query.getOffset())
+                        .limit(query.getLimit())
+                        .peek(item -> fetchedItemCount.incrementAndGet()),
+                query -> items.size());
+        ui.add(select);
+    }
+
+    @Test
+    void closed_noItemsFetched() {
+        ui.fakeClientCommunication();
+
+        Assertions.assertEquals(0, fetchedItemCount.get());
+        Assertions.assertEquals(0, getListBox().getChildCount());
+    }
+
+    @Test
+    void opened_firstWindowShown() {
+        select.getElement().setProperty("opened", true);
+        ui.fakeClientCommunication();
+
+        // Three pages and a spacer for the remaining items
+        Assertions.assertEquals(31, getListBox().getChildCount());
+        Assertions.assertEquals("Item 0", getListBox().getChild(0).getText());
+        Assertions.assertEquals("Item 29",
+                getListBox().getChild(29).getText());
+        assertSpacer(getListBox().getChild(30), 970);
+    }
+
+    @Test
+    void scrolled_windowMoved() {
+        select.getElement().setProperty("opened", true);
+        ui.fakeClientCommunication();
+
+        setFirstVisibleItem(500);
+        ui.fakeClientCommunication();
+
+        Assertions.assertEquals(32, getListBox().getChildCount());
+        assertSpacer(getListBox().getChild(0), 490);
+        Assertions.assertEquals("Item 490",
+                getListBox().getChild(1).getText());
+        Assertions.assertEquals("Item 519",
+                getListBox().getChild(30).getText());
+        assertSpacer(getListBox().getChild(31), 480);
+    }
+
+    @Test
+    void scrolledToEnd_onlyWindowKept() {
+        select.getElement().setProperty("opened", true);
+        ui.fakeClientCommunication();
+
+        for (int index = 0; index < items.size(); index += 10) {
+            setFirstVisibleItem(index);
+            ui.fakeClientCommunication();
+        }
+
+        // The items before the window are replaced by a spacer
+        Assertions.assertEquals(21, getListBox().getChildCount());
+        assertSpacer(getListBox().getChild(0), 980);
+        Assertions.assertEquals("Item 999",
+                getListBox().getChild(20).getText());
+    }
+
+    @Test
+    void scrolledWithinWindow_itemsNotFetchedAgain() {
+        select.getElement().setProperty("opened", true);
+        ui.fakeClientCommunication();
+        fetchedItemCount.set(0);
+
+        setFirstVisibleItem(15);
+        ui.fakeClientCommunication();
+
+        Assertions.assertEquals(0, fetchedItemCount.get());
+    }
+
+    @Test
+    void openedAndClosed_itemsReleased() {
+        select.getElement().setProperty("opened", true);
+        ui.fakeClientCommunication();
+        select.getElement().setProperty("opened", false);
+        ui.fakeClientCommunication();
+
+        Assertions.assertEquals(0, getListBox().getChildCount());
+    }
+
+    @Test
+    void setValue_closed_selectedItemKeptHidden() {
+        select.setValue("Item 500");
+        ui.fakeClientCommunication();
+
+        Assertions.assertEquals(1, getListBox().getChildCount());
+        Element item = getListBox().getChild(0);
+        Assertions.assertEquals("Item 500", item.getText());
+        Assertions.assertTrue(item.hasAttribute("hidden"));
+        Assertions.assertEquals(item.getProperty("value"),
+                select.getElement().getProperty("value"));
+    }
+
+    @Test
+    void setValue_opened_selectedItemShown() {
+        select.setValue("Item 5");
+        select.getElement().setProperty("opened", true);
+        ui.fakeClientCommunication();
+
+        Assertions.assertEquals(31, getListBox().getChildCount());
+        Element item = getListBox().getChild(5);
+        Assertions.assertFalse(item.hasAttribute("hidden"));
+        Assertions.assertEquals(item.getProperty("value"),
+                select.getElement().getProperty("value"));
+    }
+
+    @Test
+    void selectFromClient_valueUpdated() {
+        select.getElement().setProperty("opened", true);
+        ui.fakeClientCommunication();
+
+        select.getElement().setProperty("value",
+                getListBox().getChild(3).getProperty("value"));
+
+        Assertions.assertEquals("Item 3", select.getValue());
+    }
+
+    @Test
+    void opened_onlyFirstPageFetched() {
+        select.getElement().setProperty("opened", true);
+        ui.fakeClientCommunication();
+
+        Assertions.assertTrue(fetchedItemCount.get() < 100);
+    }
+
+    @Test
+    void getItems_returnsAllItems() {
+        Assertions.assertEquals(items, dataView.getItems().toList());
+    }
+
+    @Test
+    void setItemsInMemory_getLazyDataView_throws() {
+        select.setItems("foo", "bar");
+
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> select.getLazyDataView());
+    }
+
+    private void setFirstVisibleItem(int index) {
+        try {
+            Method method = Select.class
+                    .getDeclaredMethod("setFirstVisibleItem", int.class);
+            method.setAccessible(true);
+            method.invoke(select, index);
+        } catch (NoSuchMethodException | SecurityException
+                | IllegalAccessException | IllegalArgumentException
+                | InvocationTargetException e) {
+            Assertions.fail("Could not call Select.setFirstVisibleItem");
+        }
+    }
+
+    private static void assertSpacer(Element spacer, int itemCount) {
+        Assertions.assertEquals("div", spacer.getTag());
+        Assertions.assertTrue(spacer.getStyle().get("height")
+                .startsWith("calc(" + itemCount + " * "));
+    }
+
+    private Element getListBox() {
+        return select.getElement().getChild(0);
+    }
+}
@@ -8,6 +8,8 @@
  */
 package com.vaadin.component.spreadsheet.client.js;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -284,6 +286,42 @@ public class SpreadsheetJsApi {
         getState().colW = Parser.parseArrayInt(colW);
     }
 
+    /**
+     * Updates the row heights with ranges encoded as
+     * {@code [length, from, to, value, ...]}.
+     *
+     * @param ranges
+     *            the encoded ranges
+     */
+    public void patchRowH(String ranges) {
+        float[] patch = Parser.parseArrayFloat(ranges);
+        float[] rowH = getState().rowH == null ? new float[0]
+                : getState().rowH;
+        rowH = Arrays.copyOf(rowH, (int) patch[0]);
+        for (int i = 1; i + 2 < patch.length; i += 3) {
+            Arrays.fill(rowH, (int) patch[i], (int) patch[i + 1] + 1,
+                    patch[i + 2]);
+        }
+        getState().rowH = rowH;
+    }
+
+    /**
+     * Updates the column widths with ranges encoded as
+     * {@code [length, from, to, value, ...]}.
+     *
+     * @param ranges
+     *            the encoded ranges
+     */
+    public void patchColW(String ranges) {
+        int[] patch = Parser.parseArrayInt(ranges);
+        int[] colW = getState().colW == null ? new int[0] : getState().colW;
+        colW = Arrays.copyOf(colW, patch[0]);
+        for (int i = 1; i + 2 < patch.length; i += 3) {
+            Arrays.fill(colW, patch[i], patch[i + 1] + 1, patch[i + 2]);
+        }
+        getState().colW = colW;
+    }
+
     public void setReload(boolean reload) {
         getState().reload = true;
     }
@@ -301,6 +339,16 @@ public class SpreadsheetJsApi {
                 .parseMapIntegerString(cellStyleToCSSStyle);
     }
 
+    public void patchCellStyleToCSSStyle(String changed, String removed) {
+        HashMap<Integer, String> styles = new HashMap<>();
+        if (getState().cellStyleToCSSStyle != null) {
+            styles.putAll(getState().cellStyleToCSSStyle);
+        }
+        Parser.parseSetInteger(removed).forEach(styles::remove);
+        styles.putAll(Parser.parseMapIntegerString(changed));
+        getState().cellStyleToCSSStyle = styles;
+    }
+
     public void setRowIndexToStyleIndex(String rowIndexToStyleIndex) {
         getState().rowIndexToStyleIndex = Parser
                 .parseMapIntegerInteger(rowIndexToStyleIndex);
@@ -341,6 +389,25 @@ public class SpreadsheetJsApi {
                 .parseArraylistInteger(hiddenRowIndexes);
     }
 
+    public void patchHiddenColumnIndexes(String added, String removed) {
+        getState().hiddenColumnIndexes = patchIndexes(
+                getState().hiddenColumnIndexes, added, removed);
+    }
+
+    public void patchHiddenRowIndexes(String added, String removed) {
+        getState().hiddenRowIndexes = patchIndexes(
+                getState().hiddenRowIndexes, added, removed);
+    }
+
+    private static ArrayList<Integer> patchIndexes(ArrayList<Integer> indexes,
+            String added, String removed) {
+        ArrayList<Integer> patched = indexes == null ? new ArrayList<>()
+                : new ArrayList<>(indexes);
+        patched.removeAll(Parser.parseSetInteger(removed));
+        patched.addAll(Parser.parseArraylistInteger(added));
+        return patched;
+    }
+
     public void setVerticalScrollPositions(String verticalScrollPositions) {
         getState().verticalScrollPositions = Parser
                 .parseArrayInt(verticalScrollPositions);
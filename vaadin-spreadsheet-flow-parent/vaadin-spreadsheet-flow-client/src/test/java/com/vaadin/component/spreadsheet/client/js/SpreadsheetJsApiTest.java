@@ -149,6 +149,20 @@ class SpreadsheetJsApiTest {
         assertArrayEquals(new int[] { 0 }, sharedState.colW);
     }
 
+    @Test
+    void should_patchState_when_patchRowH_isCalled() {
+        api.setRowH("[15,15,15,15]");
+        api.patchRowH("[5,1,2,0,4,4,20]");
+        assertArrayEquals(new float[] { 15, 0, 0, 15, 20 }, sharedState.rowH);
+    }
+
+    @Test
+    void should_patchState_when_patchColW_isCalled() {
+        api.setColW("[64,64,64,64]");
+        api.patchColW("[2,1,1,100]");
+        assertArrayEquals(new int[] { 64, 100 }, sharedState.colW);
+    }
+
     @Test
     void should_updateState_when_setReload_isCalled() {
         api.setReload(true);
@@ -225,6 +239,21 @@ class SpreadsheetJsApiTest {
         assertEquals(value, sharedState.hiddenRowIndexes);
     }
 
+    @Test
+    void should_patchState_when_patchHiddenRowIndexes_isCalled() {
+        api.setHiddenRowIndexes("[1,3,5]");
+        api.patchHiddenRowIndexes("[7]", "[3]");
+        assertEquals(Arrays.asList(1, 5, 7), sharedState.hiddenRowIndexes);
+    }
+
+    @Test
+    void should_patchState_when_patchCellStyleToCSSStyle_isCalled() {
+        api.setCellStyleToCSSStyle("{\"0\":\"a\",\"1\":\"b\"}");
+        api.patchCellStyleToCSSStyle("{\"2\":\"c\"}", "[1]");
+        assertEquals(new HashSet<>(Arrays.asList(0, 2)),
+                sharedState.cellStyleToCSSStyle.keySet());
+    }
+
     @Test
     void should_updateState_when_setVerticalScrollPositions_isCalled() {
         api.setVerticalScrollPositions("");
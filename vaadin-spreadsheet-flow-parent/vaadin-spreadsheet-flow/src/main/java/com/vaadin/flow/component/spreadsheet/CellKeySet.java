@@ -0,0 +1,255 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+/**
+ * A set of cell coordinates packed into primitive {@code long} keys, stored in
+ * an open-addressing hash table.
+ * <p>
+ * Used for tracking the cells cached on the client side without allocating a
+ * String key or a boxed entry per cell. A key holds the 1-based row index in
+ * the upper 32 bits and the 1-based column index in the lower 32 bits, see
+ * {@link #toKey(int, int)}. Since both indexes are 1-based, {@code 0} is never
+ * a valid key and marks an empty slot.
+ * <p>
+ * <strong>Internal use only. May be renamed or removed in a future
+ * release.</strong>
+ */
+class CellKeySet implements Serializable {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final int initialCapacity;
+    private long[] keys;
+    private int size;
+    private int mask;
+    private int resizeThreshold;
+
+    /**
+     * Creates an empty set.
+     */
+    CellKeySet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty set with the given initial capacity.
+     *
+     * @param initialCapacity
+     *            the initial capacity of the table, rounded up to a power of
+     *            two
+     */
+    CellKeySet(int initialCapacity) {
+        this.initialCapacity = Math.max(2,
+                Integer.highestOneBit(Math.max(1, initialCapacity - 1)) << 1);
+        allocate(this.initialCapacity);
+    }
+
+    /**
+     * Packs the given cell coordinates into a key.
+     *
+     * @param col
+     *            Column index, 1-based
+     * @param row
+     *            Row index, 1-based
+     * @return the cell key
+     */
+    static long toKey(int col, int row) {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the column index of the given key.
+     *
+     * @param key
+     *            the cell key
+     * @return Column index, 1-based
+     */
+    static int getColumn(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Returns the row index of the given key.
+     *
+     * @param key
+     *            the cell key
+     * @return Row index, 1-based
+     */
+    static int getRow(long key) {
+        return (int) (key >>> 32);
+    }
+
+    /**
+     * Adds the given key to the set.
+     *
+     * @param key
+     *            the cell key
+     * @return {@code true} if the key was not yet in the set
+     */
+    boolean add(long key) {
+        int index = indexOf(key);
+        if (keys[index] == key) {
+            return false;
+        }
+        keys[index] = key;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the given key is in the set.
+     *
+     * @param key
+     *            the cell key
+     * @return {@code true} if the key is in the set
+     */
+    boolean contains(long key) {
+        return keys[indexOf(key)] == key;
+    }
+
+    /**
+     * Removes the given key from the set.
+     *
+     * @param key
+     *            the cell key
+     * @return {@code true} if the key was in the set
+     */
+    boolean remove(long key) {
+        int index = indexOf(key);
+        if (keys[index] != key) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Performs the given action for each key in the set. The set must not be
+     * modified by the action.
+     *
+     * @param action
+     *            the action to perform
+     */
+    void forEach(LongConsumer action) {
+        for (long key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * Removes all the keys matching the given predicate.
+     *
+     * @param filter
+     *            the predicate for the keys to remove
+     * @param removedKeyConsumer
+     *            called for each removed key, or {@code null}
+     */
+    void removeIf(LongPredicate filter, LongConsumer removedKeyConsumer) {
+        long[] matches = new long[size];
+        int count = 0;
+        for (long key : keys) {
+            if (key != 0 && filter.test(key)) {
+                matches[count++] = key;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            remove(matches[i]);
+            if (removedKeyConsumer != null) {
+                removedKeyConsumer.accept(matches[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of keys in the set.
+     *
+     * @return the size of the set
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the set is empty.
+     *
+     * @return {@code true} if the set contains no keys
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all keys and shrinks the table back to its initial capacity.
+     */
+    void clear() {
+        if (keys.length > initialCapacity) {
+            allocate(initialCapacity);
+        } else {
+            Arrays.fill(keys, 0L);
+        }
+        size = 0;
+    }
+
+    private int indexOf(long key) {
+        int index = hash(key) & mask;
+        while (keys[index] != 0 && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void removeAt(int index) {
+        // Backward shift deletion keeps probe sequences intact without
+        // tombstones
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (keys[next] != 0) {
+            int ideal = hash(keys[next]) & mask;
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = 0;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        allocate(capacity);
+        for (long key : oldKeys) {
+            if (key != 0) {
+                keys[indexOf(key)] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
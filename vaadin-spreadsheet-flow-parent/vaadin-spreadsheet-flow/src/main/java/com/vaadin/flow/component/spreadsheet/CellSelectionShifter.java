@@ -80,6 +80,9 @@ public class CellSelectionShifter implements Serializable {
         final CellRangeAddress paintedCellRange = spreadsheet
                 .getCellSelectionManager().getSelectedCellRange();
         if (paintedCellRange != null) {
+            spreadsheet.materializeRows(spreadsheet.getActiveSheet(),
+                    Math.min(r1 - 1, paintedCellRange.getFirstRow()),
+                    Math.max(r2 - 1, paintedCellRange.getLastRow()));
             if (spreadsheet.isRangeEditable(paintedCellRange) && spreadsheet
                     .isRangeEditable(r1 - 1, c1 - 1, r2 - 1, c2 - 1)) {
                 CellRangeAddress changedCellRangeAddress = null;
@@ -365,6 +368,9 @@ public class CellSelectionShifter implements Serializable {
         final CellRangeAddress paintedCellRange = spreadsheet
                 .getCellSelectionManager().getSelectedCellRange();
         if (paintedCellRange != null) {
+            spreadsheet.materializeRows(spreadsheet.getActiveSheet(),
+                    paintedCellRange.getFirstRow(),
+                    paintedCellRange.getLastRow());
             if (spreadsheet.isRangeEditable(paintedCellRange)) {
                 CellValueCommand command = new CellShiftValuesCommand(
                         spreadsheet, true);
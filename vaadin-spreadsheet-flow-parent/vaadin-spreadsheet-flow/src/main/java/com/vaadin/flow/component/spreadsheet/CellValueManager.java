@@ -26,6 +26,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
 
 import org.apache.poi.hssf.model.InternalSheet;
 import org.apache.poi.hssf.record.RecordBase;
@@ -34,6 +36,7 @@ import org.apache.poi.hssf.usermodel.HSSFHyperlink;
 import org.apache.poi.hssf.usermodel.HSSFSheet;
 import org.apache.poi.ss.formula.ConditionalFormattingEvaluator;
 import org.apache.poi.ss.formula.FormulaParseException;
+import org.apache.poi.ss.formula.WorkbookEvaluatorUtil;
 import org.apache.poi.ss.formula.eval.ErrorEval;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -48,6 +51,7 @@ import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellAddress;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.usermodel.BaseXSSFFormulaEvaluator;
 import org.apache.poi.xssf.usermodel.XSSFCell;
 import org.apache.poi.xssf.usermodel.XSSFHyperlink;
 import org.apache.poi.xssf.usermodel.XSSFSheet;
@@ -93,19 +97,26 @@ public class CellValueManager implements Serializable {
     private DataFormatter formatter = new CustomDataFormatter();
 
     /** Cell keys that have values sent to client side and are cached there. */
-    private final HashSet<String> sentCells = new HashSet<String>();
+    private final CellKeySet sentCells = new CellKeySet();
     /**
      * Formula cell keys that have values sent to client side and are cached
      * there.
      */
-    private final HashSet<String> sentFormulaCells = new HashSet<String>();
+    private final CellKeySet sentFormulaCells = new CellKeySet();
     /** */
     private final HashSet<CellData> removedCells = new HashSet<CellData>();
     /** */
-    private final HashSet<String> markedCells = new HashSet<String>();
+    private final CellKeySet markedCells = new CellKeySet();
 
     private HashSet<CellReference> changedFormulaCells = new HashSet<CellReference>();
 
+    /**
+     * Formula dependencies of the sheet the index was built for, used for
+     * updating only the formula cells affected by an edit. Rebuilt on demand.
+     */
+    private transient FormulaDependencyIndex formulaDependencyIndex;
+    private transient Sheet formulaDependencyIndexSheet;
+
     private boolean topLeftCellsLoaded;
     private HashMap<Integer, Float> cellStyleWidthRatioMap;
 
@@ -147,6 +158,18 @@ public class CellValueManager implements Serializable {
         sentFormulaCells.clear();
         hyperlinkStyleIndex = -1;
         topLeftCellsLoaded = false;
+        invalidateFormulaDependencies();
+    }
+
+    /**
+     * Discards the formula dependency index, so that the next call to
+     * {@link #updateMarkedCellValues()} goes through the whole sheet and
+     * rebuilds it. Should be called when formulas may have been changed
+     * without marking the changed cells, e.g. when rows are shifted.
+     */
+    void invalidateFormulaDependencies() {
+        formulaDependencyIndex = null;
+        formulaDependencyIndexSheet = null;
     }
 
     public DataFormatter getDataFormatter() {
@@ -336,7 +359,7 @@ public class CellValueManager implements Serializable {
                     cellData.cellStyle = cellData.cellStyle + " cf" + i;
                 }
 
-                markedCells.add(SpreadsheetUtil.toKey(cell));
+                markedCells.add(toCellKey(cell));
             }
 
             if (cell.getCellType() == CellType.NUMERIC
@@ -522,7 +545,7 @@ public class CellValueManager implements Serializable {
      *            Cell to mark for updates
      */
     protected void markCellForUpdate(Cell cell) {
-        markedCells.add(SpreadsheetUtil.toKey(cell));
+        markedCells.add(toCellKey(cell));
     }
 
     /**
@@ -545,12 +568,11 @@ public class CellValueManager implements Serializable {
      *            Cell to mark for removal
      */
     protected void markCellForRemove(Cell cell) {
-        String cellKey = SpreadsheetUtil.toKey(cell);
         CellData cd = new CellData();
         cd.col = cell.getColumnIndex() + 1;
         cd.row = cell.getRowIndex() + 1;
         removedCells.add(cd);
-        clearCellCache(cellKey);
+        clearCellCache(toCellKey(cell));
     }
 
     /**
@@ -560,11 +582,33 @@ public class CellValueManager implements Serializable {
      *            Key of target cell
      */
     protected void clearCellCache(String cellKey) {
+        clearCellCache(SpreadsheetUtil.getColumnIndexFromKey(cellKey),
+                SpreadsheetUtil.getRowFromKey(cellKey));
+    }
+
+    /**
+     * Clears the cell with the given coordinates from the cache
+     *
+     * @param col
+     *            Column index of target cell, 1-based
+     * @param row
+     *            Row index of target cell, 1-based
+     */
+    void clearCellCache(int col, int row) {
+        clearCellCache(CellKeySet.toKey(col, row));
+    }
+
+    private void clearCellCache(long cellKey) {
         if (!sentCells.remove(cellKey)) {
             sentFormulaCells.remove(cellKey);
         }
     }
 
+    private static long toCellKey(Cell cell) {
+        return CellKeySet.toKey(cell.getColumnIndex() + 1,
+                cell.getRowIndex() + 1);
+    }
+
     /**
      * Updates the cell value and type, causes a recalculation of all the values
      * in the cell.
@@ -630,11 +674,8 @@ public class CellValueManager implements Serializable {
                 } else {
                     // modify existing cell, possibly switch type
                     formattedCellValue = getFormattedCellValue(cell);
-                    final String key = SpreadsheetUtil.toKey(col, row);
                     oldCellType = cell.getCellType();
-                    if (!sentCells.remove(key)) {
-                        sentFormulaCells.remove(key);
-                    }
+                    clearCellCache(col, row);
 
                     // Old value was hyperlink => needs refresh
                     if (cell.getCellType() == CellType.FORMULA
@@ -644,6 +685,8 @@ public class CellValueManager implements Serializable {
                     setLeadingQuoteStyle(cell, false);
                 }
                 if (formulaFormatter.isFormulaFormat(value)) {
+                    // The formula may refer to any cell of the workbook
+                    spreadsheet.materializeAllRows();
                     if (formulaFormatter.isValidFormulaFormat(value,
                             spreadsheetLocale)) {
                         spreadsheet.removeInvalidFormulaMark(col, row);
@@ -1125,17 +1168,21 @@ public class CellValueManager implements Serializable {
                 .getSheetAt(workbook.getActiveSheetIndex());
         final Collection<String> customComponentCells = spreadsheet
                 .getComponentIDtoCellKeysMap().values();
+        spreadsheet.materializeRows(activeSheet, firstRow - 1, lastRow - 1);
         for (int r = firstRow - 1; r < lastRow; r++) {
             Row row = activeSheet.getRow(r);
             if (row != null && row.getLastCellNum() != -1
                     && row.getLastCellNum() >= firstColumn) {
                 for (int c = firstColumn - 1; c < lastColumn; c++) {
-                    final String key = SpreadsheetUtil.toKey(c + 1, r + 1);
-                    if (!customComponentCells.contains(key)
-                            && !sentCells.contains(key)
+                    final long key = CellKeySet.toKey(c + 1, r + 1);
+                    if (!sentCells.contains(key)
                             && !sentFormulaCells.contains(key)) {
                         Cell cell = row.getCell(c);
-                        if (cell != null) {
+                        // only build a String key when there are custom
+                        // components that could occupy the cell
+                        if (cell != null && (customComponentCells.isEmpty()
+                                || !customComponentCells.contains(
+                                        SpreadsheetUtil.toKey(c + 1, r + 1)))) {
                             final CellData cd = createCellDataForCell(cell);
                             if (cd != null) {
                                 CellType cellType = cell.getCellType();
@@ -1166,9 +1213,12 @@ public class CellValueManager implements Serializable {
     /**
      * Method for updating cells that are marked for update and formula cells.
      *
-     * Iterates over the whole sheet (existing rows and columns) and updates
-     * client side cache for all sent formula cells, and cells that have been
-     * marked for updating.
+     * Updates client side cache for the cells that have been marked for
+     * updating and for the sent formula cells that depend on them. The first
+     * call after the sheet has been loaded or its rows shifted iterates over
+     * the whole sheet (existing rows and columns) and updates all sent formula
+     * cells, while building the formula dependency index used by subsequent
+     * calls.
      *
      */
     protected void updateMarkedCellValues() {
@@ -1178,18 +1228,42 @@ public class CellValueManager implements Serializable {
         // because the client side handles it -> it will not replace a custom
         // component with a cell value
 
-        // update all cached formula cell values on client side, because they
-        // might have changed. also make sure all marked cells are updated
+        if (formulaDependencyIndex != null
+                && formulaDependencyIndexSheet == sheet) {
+            updateDependentCellValues(sheet, updatedCellData);
+        } else {
+            updateAllCellValues(sheet, updatedCellData);
+        }
+        if (!changedFormulaCells.isEmpty()) {
+            fireFormulaValueChangeEvent(changedFormulaCells);
+            changedFormulaCells = new HashSet<CellReference>();
+        }
+        // empty cells have cell data with just col and row
+        updatedCellData.addAll(removedCells);
+        if (!updatedCellData.isEmpty()) {
+            spreadsheet.getRpcProxy().cellsUpdated(updatedCellData);
+            spreadsheet.getRpcProxy().refreshCellStyles();
+        }
+        markedCells.clear();
+        removedCells.clear();
+    }
+
+    /**
+     * Updates all cached formula cell values on client side, because they
+     * might have changed, and all marked cells. Iterates over the whole sheet
+     * and rebuilds the formula dependency index along the way.
+     */
+    private void updateAllCellValues(Sheet sheet,
+            List<CellData> updatedCellData) {
+        FormulaDependencyIndex dependencyIndex = createFormulaDependencyIndex(
+                sheet);
         Iterator<Row> rows = sheet.rowIterator();
         while (rows.hasNext()) {
             final Row r = rows.next();
             final Iterator<Cell> cells = r.cellIterator();
             while (cells.hasNext()) {
                 final Cell cell = cells.next();
-                int rowIndex = cell.getRowIndex();
-                int columnIndex = cell.getColumnIndex();
-                final String key = SpreadsheetUtil.toKey(columnIndex + 1,
-                        rowIndex + 1);
+                final long key = toCellKey(cell);
 
                 // Mark for update if there are formatting rules.
                 if (spreadsheet.getConditionalFormatter()
@@ -1199,43 +1273,113 @@ public class CellValueManager implements Serializable {
 
                 // update formula cells
                 if (cell.getCellType() == CellType.FORMULA) {
+                    if (dependencyIndex != null) {
+                        dependencyIndex.update(cell);
+                    }
                     if (sentFormulaCells.contains(key)
                             || markedCells.contains(key)) {
-                        CellData cd = createCellDataForCell(cell);
-                        if (cd == null) {
-                            // in case the formula cell value has changed to
-                            // null or
-                            // empty; this case is probably quite rare, formula
-                            // cell
-                            // pointing to a cell that was removed or had its
-                            // value
-                            // cleared ???
-                            cd = new CellData();
-                            cd.col = columnIndex + 1;
-                            cd.row = rowIndex + 1;
-                            cd.cellStyle = "" + cell.getCellStyle().getIndex();
-                        }
-                        sentFormulaCells.add(key);
-                        updatedCellData.add(cd);
+                        addUpdatedCellData(cell, key, updatedCellData);
                     }
                 } else if (markedCells.contains(key)) {
-                    sentCells.add(key);
-                    updatedCellData.add(createCellDataForCell(cell));
+                    addUpdatedCellData(cell, key, updatedCellData);
                 }
             }
         }
-        if (!changedFormulaCells.isEmpty()) {
-            fireFormulaValueChangeEvent(changedFormulaCells);
-            changedFormulaCells = new HashSet<CellReference>();
+        formulaDependencyIndex = dependencyIndex;
+        formulaDependencyIndexSheet = dependencyIndex != null ? sheet : null;
+    }
+
+    /**
+     * Updates the marked cells and only those cached formula cells that
+     * depend on the marked or removed cells, based on the formula dependency
+     * index.
+     */
+    private void updateDependentCellValues(Sheet sheet,
+            List<CellData> updatedCellData) {
+        final CellKeySet changedCells = new CellKeySet();
+        markedCells.forEach(key -> {
+            changedCells.add(key);
+            Cell cell = getCell(sheet, key);
+            if (cell != null) {
+                formulaDependencyIndex.update(cell);
+            } else {
+                formulaDependencyIndex.remove(key);
+            }
+        });
+        for (CellData cd : removedCells) {
+            long key = CellKeySet.toKey(cd.col, cd.row);
+            changedCells.add(key);
+            formulaDependencyIndex.remove(key);
         }
-        // empty cells have cell data with just col and row
-        updatedCellData.addAll(removedCells);
-        if (!updatedCellData.isEmpty()) {
-            spreadsheet.getRpcProxy().cellsUpdated(updatedCellData);
-            spreadsheet.getRpcProxy().refreshCellStyles();
+        CellKeySet dependentCells = formulaDependencyIndex
+                .collectDependents(changedCells);
+
+        // Conditional formatting may depend on any cell, so mark all the
+        // cells cached on the client side that have formatting rules.
+        if (sheet.getSheetConditionalFormatting()
+                .getNumConditionalFormattings() > 0) {
+            LongConsumer markFormatted = key -> {
+                Cell cell = getCell(sheet, key);
+                if (cell != null && spreadsheet.getConditionalFormatter()
+                        .getCellFormattingIndex(cell) != null) {
+                    markedCells.add(key);
+                }
+            };
+            sentCells.forEach(markFormatted);
+            sentFormulaCells.forEach(markFormatted);
         }
-        markedCells.clear();
-        removedCells.clear();
+
+        markedCells.forEach(key -> {
+            Cell cell = getCell(sheet, key);
+            if (cell != null) {
+                addUpdatedCellData(cell, key, updatedCellData);
+            }
+        });
+        dependentCells.forEach(key -> {
+            if (!markedCells.contains(key) && sentFormulaCells.contains(key)) {
+                Cell cell = getCell(sheet, key);
+                if (cell != null && cell.getCellType() == CellType.FORMULA) {
+                    addUpdatedCellData(cell, key, updatedCellData);
+                }
+            }
+        });
+    }
+
+    private void addUpdatedCellData(Cell cell, long key,
+            List<CellData> updatedCellData) {
+        if (cell.getCellType() == CellType.FORMULA) {
+            CellData cd = createCellDataForCell(cell);
+            if (cd == null) {
+                // in case the formula cell value has changed to null or
+                // empty; this case is probably quite rare, formula cell
+                // pointing to a cell that was removed or had its value
+                // cleared ???
+                cd = new CellData();
+                cd.col = cell.getColumnIndex() + 1;
+                cd.row = cell.getRowIndex() + 1;
+                cd.cellStyle = "" + cell.getCellStyle().getIndex();
+            }
+            sentFormulaCells.add(key);
+            updatedCellData.add(cd);
+        } else {
+            sentCells.add(key);
+            updatedCellData.add(createCellDataForCell(cell));
+        }
+    }
+
+    private FormulaDependencyIndex createFormulaDependencyIndex(Sheet sheet) {
+        // formulas can only be parsed with the XSSF evaluation workbook
+        if (!(getFormulaEvaluator() instanceof BaseXSSFFormulaEvaluator)) {
+            return null;
+        }
+        return new FormulaDependencyIndex(
+                WorkbookEvaluatorUtil.getEvaluationWorkbook(spreadsheet),
+                sheet.getWorkbook().getSheetIndex(sheet));
+    }
+
+    private static Cell getCell(Sheet sheet, long key) {
+        Row row = sheet.getRow(CellKeySet.getRow(key) - 1);
+        return row == null ? null : row.getCell(CellKeySet.getColumn(key) - 1);
     }
 
     /**
@@ -1248,31 +1392,20 @@ public class CellValueManager implements Serializable {
      *            Index of the ending row, 1-based
      */
     protected void updateDeletedRowsInClientCache(int startRow, int endRow) {
-        for (int i = startRow; i <= endRow; i++) {
-            String rowKey = "row" + i;
-            for (Iterator<String> iterator = sentCells.iterator(); iterator
-                    .hasNext();) {
-                String key = iterator.next();
-                if (key.endsWith(rowKey)) {
-                    iterator.remove();
-                    CellData cd = new CellData();
-                    cd.col = SpreadsheetUtil.getColumnIndexFromKey(key);
-                    cd.row = i;
-                    removedCells.add(cd);
-                }
-            }
-            for (Iterator<String> iterator = sentFormulaCells
-                    .iterator(); iterator.hasNext();) {
-                String key = iterator.next();
-                if (key.endsWith(rowKey)) {
-                    iterator.remove();
-                    CellData cd = new CellData();
-                    cd.col = SpreadsheetUtil.getColumnIndexFromKey(key);
-                    cd.row = i;
-                    removedCells.add(cd);
-                }
-            }
-        }
+        // row shifts rewrite formula references, rebuild on next update
+        invalidateFormulaDependencies();
+        LongPredicate inRows = key -> {
+            int row = CellKeySet.getRow(key);
+            return row >= startRow && row <= endRow;
+        };
+        LongConsumer markRemoved = key -> {
+            CellData cd = new CellData();
+            cd.col = CellKeySet.getColumn(key);
+            cd.row = CellKeySet.getRow(key);
+            removedCells.add(cd);
+        };
+        sentCells.removeIf(inRows, markRemoved);
+        sentFormulaCells.removeIf(inRows, markRemoved);
     }
 
     /**
@@ -1301,7 +1434,7 @@ public class CellValueManager implements Serializable {
                 for (int j = firstColumn - 1; j < lastColumn; j++) {
                     Cell cell = row.getCell(j);
                     if (cell != null) {
-                        final String key = SpreadsheetUtil.toKey(j + 1, i + 1);
+                        final long key = CellKeySet.toKey(j + 1, i + 1);
                         if (cell.getCellType() == CellType.FORMULA) {
                             sentFormulaCells.remove(key);
                         } else {
@@ -1363,7 +1496,7 @@ public class CellValueManager implements Serializable {
                 CellData cd = new CellData();
                 cd.col = colIndex;
                 cd.row = rowIndex;
-                final String key = SpreadsheetUtil.toKey(colIndex, rowIndex);
+                final long key = CellKeySet.toKey(colIndex, rowIndex);
                 if (clearRemovedCellStyle
                         || cell.getCellStyle().getIndex() == 0) {
                     removedCells.add(cd);
@@ -1456,21 +1589,10 @@ public class CellValueManager implements Serializable {
      *            Index of target column, 1-based
      */
     public void clearCacheForColumn(int indexColumn) {
-        final String columnKey = "col" + indexColumn + " r";
-        for (Iterator<String> iterator = sentCells.iterator(); iterator
-                .hasNext();) {
-            String key = iterator.next();
-            if (key.startsWith(columnKey)) {
-                iterator.remove();
-            }
-        }
-        for (Iterator<String> iterator = sentFormulaCells.iterator(); iterator
-                .hasNext();) {
-            String key = iterator.next();
-            if (key.startsWith(columnKey)) {
-                iterator.remove();
-            }
-        }
+        LongPredicate inColumn = key -> CellKeySet
+                .getColumn(key) == indexColumn;
+        sentCells.removeIf(inColumn, null);
+        sentFormulaCells.removeIf(inColumn, null);
     }
 
 }
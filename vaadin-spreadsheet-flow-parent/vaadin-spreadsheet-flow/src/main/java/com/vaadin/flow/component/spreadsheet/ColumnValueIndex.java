@@ -0,0 +1,98 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * An index from the formatted values of the cells in a column range to the
+ * rows that contain each value.
+ * <p>
+ * Used by {@link ItemFilter} for finding the values and the filtered rows of a
+ * column with bitwise operations, without formatting the cell values again
+ * each time the filter changes. Rows are stored as 0-based indexes in a
+ * {@link BitSet} per value.
+ * <p>
+ * <strong>Internal use only. May be renamed or removed in a future
+ * release.</strong>
+ */
+class ColumnValueIndex implements Serializable {
+
+    private final Map<String, BitSet> rowsByValue = new HashMap<>();
+
+    /**
+     * Creates an index of the values in the given rows.
+     *
+     * @param firstRow
+     *            the first row to index, 0-based
+     * @param lastRow
+     *            the last row to index (inclusive), 0-based
+     * @param valueOfRow
+     *            function returning the formatted cell value of a row
+     */
+    ColumnValueIndex(int firstRow, int lastRow,
+            IntFunction<String> valueOfRow) {
+        for (int row = firstRow; row <= lastRow; row++) {
+            rowsByValue.computeIfAbsent(valueOfRow.apply(row),
+                    value -> new BitSet()).set(row);
+        }
+    }
+
+    /**
+     * Gets the unique values of the indexed rows.
+     *
+     * @return a new set of the values
+     */
+    Set<String> getValues() {
+        return new HashSet<>(rowsByValue.keySet());
+    }
+
+    /**
+     * Gets the values that are in at least one of the given rows.
+     *
+     * @param rows
+     *            the rows to get the values of
+     * @return a new set of the values
+     */
+    Set<String> getValuesInRows(BitSet rows) {
+        Set<String> values = new HashSet<>();
+        rowsByValue.forEach((value, valueRows) -> {
+            if (valueRows.intersects(rows)) {
+                values.add(value);
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Gets the rows that have a value that is not one of the given values.
+     *
+     * @param values
+     *            the values whose rows are excluded
+     * @return a new bit set of the rows
+     */
+    BitSet getRowsWithoutValues(Collection<String> values) {
+        Set<String> excludedValues = values instanceof Set<String> set ? set
+                : new HashSet<>(values);
+        BitSet rows = new BitSet();
+        rowsByValue.forEach((value, valueRows) -> {
+            if (!excludedValues.contains(value)) {
+                rows.or(valueRows);
+            }
+        });
+        return rows;
+    }
+}
@@ -0,0 +1,245 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.poi.ss.formula.FormulaParser;
+import org.apache.poi.ss.formula.FormulaParsingWorkbook;
+import org.apache.poi.ss.formula.FormulaType;
+import org.apache.poi.ss.formula.ptg.AbstractFunctionPtg;
+import org.apache.poi.ss.formula.ptg.AreaPtg;
+import org.apache.poi.ss.formula.ptg.ArrayPtg;
+import org.apache.poi.ss.formula.ptg.OperandPtg;
+import org.apache.poi.ss.formula.ptg.Ptg;
+import org.apache.poi.ss.formula.ptg.RefPtg;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index from precedent cells to the formula cells of a single sheet that
+ * reference them, built from the parsed formula tokens.
+ * <p>
+ * Used for finding the formula cells that need to be re-evaluated after an
+ * edit without going through the whole sheet. Formulas whose precedents can't
+ * be determined statically, such as those using volatile functions, names or
+ * references to other sheets, are considered dependent on every cell.
+ * <p>
+ * Keys are cell keys as created by {@link CellKeySet#toKey(int, int)}.
+ * <p>
+ * <strong>Internal use only. May be renamed or removed in a future
+ * release.</strong>
+ */
+class FormulaDependencyIndex {
+
+    /** Areas wider than this are not bucketed per column. */
+    private static final int MAX_BUCKETED_AREA_WIDTH = 64;
+
+    private static final Set<String> VOLATILE_FUNCTIONS = Set.of("NOW",
+            "TODAY", "RAND", "RANDBETWEEN", "OFFSET", "INDIRECT", "CELL",
+            "INFO");
+
+    private record Area(int firstRow, int lastRow, int firstColumn,
+            int lastColumn, long dependent) {
+
+        boolean contains(int column, int row) {
+            return row >= firstRow && row <= lastRow && column >= firstColumn
+                    && column <= lastColumn;
+        }
+
+        boolean isBucketed() {
+            return lastColumn - firstColumn < MAX_BUCKETED_AREA_WIDTH;
+        }
+    }
+
+    private record Precedents(long[] cells, List<Area> areas) {
+    }
+
+    private final FormulaParsingWorkbook parsingWorkbook;
+    private final int sheetIndex;
+
+    private final Map<Long, CellKeySet> cellDependents = new HashMap<>();
+    private final Map<Integer, List<Area>> areasByColumn = new HashMap<>();
+    private final List<Area> wideAreas = new ArrayList<>();
+    private final Map<Long, Precedents> precedentsByFormula = new HashMap<>();
+    private final CellKeySet volatileFormulas = new CellKeySet();
+
+    /**
+     * Creates an empty index for the sheet with the given index.
+     *
+     * @param parsingWorkbook
+     *            the workbook used for parsing the formulas
+     * @param sheetIndex
+     *            index of the sheet, 0-based
+     */
+    FormulaDependencyIndex(FormulaParsingWorkbook parsingWorkbook,
+            int sheetIndex) {
+        this.parsingWorkbook = parsingWorkbook;
+        this.sheetIndex = sheetIndex;
+    }
+
+    /**
+     * Updates the index entry of the given cell: the cell is registered as a
+     * dependent of its precedents if it is a formula cell, and removed from
+     * the index otherwise.
+     *
+     * @param cell
+     *            the updated cell
+     */
+    void update(Cell cell) {
+        long key = CellKeySet.toKey(cell.getColumnIndex() + 1,
+                cell.getRowIndex() + 1);
+        remove(key);
+        if (cell.getCellType() != CellType.FORMULA) {
+            return;
+        }
+        Ptg[] ptgs;
+        try {
+            ptgs = FormulaParser.parse(cell.getCellFormula(), parsingWorkbook,
+                    FormulaType.CELL, sheetIndex);
+        } catch (RuntimeException e) {
+            LoggerFactory.getLogger(FormulaDependencyIndex.class)
+                    .trace(e.getMessage(), e);
+            volatileFormulas.add(key);
+            return;
+        }
+        List<Long> cells = new ArrayList<>();
+        List<Area> areas = new ArrayList<>();
+        for (Ptg ptg : ptgs) {
+            if (ptg instanceof RefPtg ref) {
+                cells.add(CellKeySet.toKey(ref.getColumn() + 1,
+                        ref.getRow() + 1));
+            } else if (ptg instanceof AreaPtg area) {
+                areas.add(new Area(area.getFirstRow() + 1,
+                        area.getLastRow() + 1, area.getFirstColumn() + 1,
+                        area.getLastColumn() + 1, key));
+            } else if (ptg instanceof AbstractFunctionPtg function
+                    && (function.isExternalFunction() || VOLATILE_FUNCTIONS
+                            .contains(function.getName()))) {
+                volatileFormulas.add(key);
+                return;
+            } else if (ptg instanceof OperandPtg
+                    && !(ptg instanceof ArrayPtg)) {
+                // names, 3D references and other operands that can't be
+                // resolved to cells of this sheet
+                volatileFormulas.add(key);
+                return;
+            }
+        }
+        long[] cellKeys = new long[cells.size()];
+        for (int i = 0; i < cellKeys.length; i++) {
+            cellKeys[i] = cells.get(i);
+            cellDependents
+                    .computeIfAbsent(cellKeys[i], k -> new CellKeySet(4))
+                    .add(key);
+        }
+        for (Area area : areas) {
+            if (area.isBucketed()) {
+                for (int c = area.firstColumn(); c <= area.lastColumn(); c++) {
+                    areasByColumn.computeIfAbsent(c, k -> new ArrayList<>())
+                            .add(area);
+                }
+            } else {
+                wideAreas.add(area);
+            }
+        }
+        precedentsByFormula.put(key, new Precedents(cellKeys, areas));
+    }
+
+    /**
+     * Removes the formula cell with the given key from the index.
+     *
+     * @param key
+     *            the cell key
+     */
+    void remove(long key) {
+        volatileFormulas.remove(key);
+        Precedents precedents = precedentsByFormula.remove(key);
+        if (precedents == null) {
+            return;
+        }
+        for (long cell : precedents.cells()) {
+            CellKeySet dependents = cellDependents.get(cell);
+            if (dependents != null) {
+                dependents.remove(key);
+                if (dependents.isEmpty()) {
+                    cellDependents.remove(cell);
+                }
+            }
+        }
+        for (Area area : precedents.areas()) {
+            if (area.isBucketed()) {
+                for (int c = area.firstColumn(); c <= area.lastColumn(); c++) {
+                    List<Area> bucket = areasByColumn.get(c);
+                    if (bucket != null) {
+                        bucket.remove(area);
+                        if (bucket.isEmpty()) {
+                            areasByColumn.remove(c);
+                        }
+                    }
+                }
+            } else {
+                wideAreas.remove(area);
+            }
+        }
+    }
+
+    /**
+     * Collects the formula cells that directly or transitively depend on any
+     * of the given changed cells, including all formulas that are considered
+     * dependent on every cell.
+     *
+     * @param changedCells
+     *            the keys of the changed cells
+     * @return the keys of the dependent formula cells
+     */
+    CellKeySet collectDependents(CellKeySet changedCells) {
+        CellKeySet dependents = new CellKeySet();
+        Deque<Long> queue = new ArrayDeque<>();
+        changedCells.forEach(queue::add);
+        volatileFormulas.forEach(key -> {
+            if (dependents.add(key)) {
+                queue.add(key);
+            }
+        });
+        while (!queue.isEmpty()) {
+            long key = queue.poll();
+            CellKeySet direct = cellDependents.get(key);
+            if (direct != null) {
+                direct.forEach(dependent -> {
+                    if (dependents.add(dependent)) {
+                        queue.add(dependent);
+                    }
+                });
+            }
+            int column = CellKeySet.getColumn(key);
+            int row = CellKeySet.getRow(key);
+            for (Area area : areasByColumn.getOrDefault(column, List.of())) {
+                if (area.contains(column, row)
+                        && dependents.add(area.dependent())) {
+                    queue.add(area.dependent());
+                }
+            }
+            for (Area area : wideAreas) {
+                if (area.contains(column, row)
+                        && dependents.add(area.dependent())) {
+                    queue.add(area.dependent());
+                }
+            }
+        }
+        return dependents;
+    }
+}
@@ -9,14 +9,15 @@
 package com.vaadin.flow.component.spreadsheet;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.poi.ss.util.CellRangeAddress;
 
@@ -53,7 +54,8 @@ public class ItemFilter extends Div implements SpreadsheetFilter {
     private boolean firstUpdate = true;
     private boolean cancelValueChangeUpdate;
     private SpreadsheetFilterTable filterTable;
-    private Set<Integer> filteredRows;
+    private BitSet filteredRows;
+    private ColumnValueIndex valueIndex;
 
     /**
      * Constructs a new item filter for the given spreadsheet, filtering range,
@@ -76,7 +78,7 @@ public class ItemFilter extends Div implements SpreadsheetFilter {
         this.filterTable = filterTable;
 
         allCellValues = new ArrayList<>();
-        filteredRows = new HashSet<>();
+        filteredRows = new BitSet();
         latestFilteredValues = new LinkedHashSet<>();
         initComponents();
         updateOptions();
@@ -211,22 +213,20 @@ public class ItemFilter extends Div implements SpreadsheetFilter {
      * Updates the filtering options based on the values within the column.
      */
     public void updateOptions() {
+        // The cell values may have changed since the options were updated
+        valueIndex = null;
         Set<String> newValues = getAllValues();
         boolean needsSort = false;
 
+        Set<String> oldValues = new HashSet<>(allCellValues);
+
         // remove changed, or update value
-        Iterator<String> iter = allCellValues.iterator();
-        while (iter.hasNext()) {
-            String old = iter.next();
-            if (!newValues.contains(old)) {
-                filterOptions.remove(old);
-                iter.remove();
-            }
-        }
+        filterOptions.removeIf(value -> !newValues.contains(value));
+        allCellValues.removeIf(value -> !newValues.contains(value));
 
         // add new
         for (String item : newValues) {
-            if (!allCellValues.contains(item)) {
+            if (!oldValues.contains(item)) {
                 filterOptions.add(item);
                 allCellValues.add(item);
                 needsSort = true;
@@ -257,15 +257,17 @@ public class ItemFilter extends Div implements SpreadsheetFilter {
      *         column
      */
     protected Set<String> getVisibleValues() {
-        Set<String> values = new HashSet<>();
-        for (int r = filterRange.getFirstRow(); r <= filterRange
-                .getLastRow(); r++) {
-            if (!filteredRows.contains(r) && !spreadsheet.isRowHidden(r)) {
-                values.add(spreadsheet.getCellValue(
-                        spreadsheet.getCell(r, filterRange.getFirstColumn())));
+        BitSet visibleRows = new BitSet();
+        visibleRows.set(filterRange.getFirstRow(),
+                filterRange.getLastRow() + 1);
+        visibleRows.andNot(filteredRows);
+        for (int r = visibleRows.nextSetBit(0); r >= 0; r = visibleRows
+                .nextSetBit(r + 1)) {
+            if (spreadsheet.isRowHidden(r)) {
+                visibleRows.clear(r);
             }
         }
-        return values;
+        return getValueIndex().getValuesInRows(visibleRows);
     }
 
     /**
@@ -274,13 +276,7 @@ public class ItemFilter extends Div implements SpreadsheetFilter {
      * @return All unique values within this column
      */
     protected Set<String> getAllValues() {
-        Set<String> values = new HashSet<>();
-        for (int r = filterRange.getFirstRow(); r <= filterRange
-                .getLastRow(); r++) {
-            values.add(spreadsheet.getCellValue(
-                    spreadsheet.getCell(r, filterRange.getFirstColumn())));
-        }
-        return values;
+        return getValueIndex().getValues();
     }
 
     /**
@@ -290,23 +286,34 @@ public class ItemFilter extends Div implements SpreadsheetFilter {
      *            the values that are NOT filtered
      */
     protected void updateFilteredItems(Collection<String> visibleValues) {
-        filteredRows.clear();
-        for (int r = filterRange.getFirstRow(); r <= filterRange
-                .getLastRow(); r++) {
-            String cellValue = spreadsheet.getCellValue(
-                    spreadsheet.getCell(r, filterRange.getFirstColumn()));
-            if (!visibleValues.contains(cellValue)) {
-                filteredRows.add(r);
-            }
-        }
+        filteredRows = getValueIndex().getRowsWithoutValues(visibleValues);
         latestFilteredValues = new ArrayList<>(visibleValues);
 
         filterTable.onFiltersUpdated();
     }
 
+    private ColumnValueIndex getValueIndex() {
+        if (valueIndex == null) {
+            // Adds the filtered rows of a sheet loaded in streaming mode at
+            // once, instead of one at a time
+            spreadsheet.materializeRows(spreadsheet.getActiveSheet(),
+                    filterRange.getFirstRow(), filterRange.getLastRow());
+            valueIndex = new ColumnValueIndex(filterRange.getFirstRow(),
+                    filterRange.getLastRow(),
+                    row -> spreadsheet.getCellValue(spreadsheet.getCell(row,
+                            filterRange.getFirstColumn())));
+        }
+        return valueIndex;
+    }
+
     @Override
     public Set<Integer> getFilteredRows() {
-        return filteredRows;
+        return filteredRows.stream().boxed().collect(Collectors.toSet());
+    }
+
+    @Override
+    public BitSet getFilteredRowSet() {
+        return (BitSet) filteredRows.clone();
     }
 
     @Override
@@ -0,0 +1,167 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Utility methods for computing the patches that update the layout state of
+ * the client side spreadsheet, such as the row heights and the hidden rows,
+ * without sending the full state after each change.
+ * <p>
+ * Row heights and column widths are patched with ranges, encoded as
+ * {@code [length, from, to, value, from, to, value, ...]}, where
+ * {@code length} is the new length of the array and each range sets the
+ * values from {@code from} to {@code to} (both inclusive) to {@code value}.
+ * <p>
+ * <strong>Internal use only. May be renamed or removed in a future
+ * release.</strong>
+ */
+final class LayoutStatePatch {
+
+    private LayoutStatePatch() {
+    }
+
+    /**
+     * Computes the ranges that update the previous row heights to the current
+     * ones.
+     *
+     * @param previous
+     *            the row heights known by the client, not {@code null}
+     * @param current
+     *            the current row heights, not {@code null}
+     * @return the encoded ranges, or {@code null} if the patch would not be
+     *         smaller than the current row heights
+     */
+    static float[] rangePatch(float[] previous, float[] current) {
+        float[] patch = new float[current.length];
+        int size = 0;
+        if (patch.length > 0) {
+            patch[size++] = current.length;
+        }
+        int index = 0;
+        while (index < current.length) {
+            float value = current[index];
+            if (index < previous.length
+                    && Float.compare(previous[index], value) == 0) {
+                index++;
+                continue;
+            }
+            int from = index;
+            while (index + 1 < current.length
+                    && Float.compare(current[index + 1], value) == 0
+                    && (index + 1 >= previous.length || Float
+                            .compare(previous[index + 1], value) != 0)) {
+                index++;
+            }
+            if (size + 3 >= patch.length) {
+                return null;
+            }
+            patch[size++] = from;
+            patch[size++] = index;
+            patch[size++] = value;
+            index++;
+        }
+        return size > 0 ? Arrays.copyOf(patch, size) : null;
+    }
+
+    /**
+     * Computes the ranges that update the previous column widths to the
+     * current ones.
+     *
+     * @param previous
+     *            the column widths known by the client, not {@code null}
+     * @param current
+     *            the current column widths, not {@code null}
+     * @return the encoded ranges, or {@code null} if the patch would not be
+     *         smaller than the current column widths
+     */
+    static int[] rangePatch(int[] previous, int[] current) {
+        int[] patch = new int[current.length];
+        int size = 0;
+        if (patch.length > 0) {
+            patch[size++] = current.length;
+        }
+        int index = 0;
+        while (index < current.length) {
+            int value = current[index];
+            if (index < previous.length && previous[index] == value) {
+                index++;
+                continue;
+            }
+            int from = index;
+            while (index + 1 < current.length && current[index + 1] == value
+                    && (index + 1 >= previous.length
+                            || previous[index + 1] != value)) {
+                index++;
+            }
+            if (size + 3 >= patch.length) {
+                return null;
+            }
+            patch[size++] = from;
+            patch[size++] = index;
+            patch[size++] = value;
+            index++;
+        }
+        return size > 0 ? Arrays.copyOf(patch, size) : null;
+    }
+
+    /**
+     * Gets the values that are in the given values but not in the other
+     * values.
+     *
+     * @param values
+     *            the values to check, not {@code null}
+     * @param other
+     *            the values to exclude, not {@code null}
+     * @return the values that are not in the other values, in their original
+     *         order
+     */
+    static <T> List<T> difference(Collection<T> values,
+            Collection<T> other) {
+        Set<T> excluded = new HashSet<>(other);
+        List<T> difference = new ArrayList<>();
+        for (T value : values) {
+            if (!excluded.contains(value)) {
+                difference.add(value);
+            }
+        }
+        return difference;
+    }
+
+    /**
+     * Gets the entries of the current map that are not in the previous map
+     * with the same value.
+     *
+     * @param previous
+     *            the entries known by the client, not {@code null}
+     * @param current
+     *            the current entries, not {@code null}
+     * @return the added and changed entries
+     */
+    static <K, V> HashMap<K, V> changedEntries(Map<K, V> previous,
+            Map<K, V> current) {
+        HashMap<K, V> changed = new HashMap<>();
+        current.forEach((key, value) -> {
+            if (!previous.containsKey(key)
+                    || !Objects.equals(previous.get(key), value)) {
+                changed.put(key, value);
+            }
+        });
+        return changed;
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+/**
+ * An XLSX workbook that is parsed once and can be opened in any number of
+ * {@link Spreadsheet} components, for example a template that all users of an
+ * application open.
+ * <p>
+ * The cell values are read in the same compact format as in
+ * {@link Spreadsheet#readStreaming(File)} and shared read-only by all the
+ * spreadsheets opened from this workbook. Each spreadsheet gets its own POI
+ * {@link org.apache.poi.ss.usermodel.Workbook} that initially contains only
+ * the styles and the layout of the sheets. Rows are copied to it when they
+ * are displayed, and edits are made to it, so the memory used by a spreadsheet
+ * grows with the viewed and edited rows instead of with the size of the
+ * workbook. The same limitations as in {@link Spreadsheet#readStreaming(File)}
+ * apply, and operations such as shifting rows load the rows they depend on in
+ * the same way, but only into the workbook of the spreadsheet that performs
+ * them.
+ * <p>
+ * Instances are immutable and safe to share between sessions, for example by
+ * storing them in an application scoped cache.
+ */
+public final class SharedWorkbook implements Serializable {
+
+    private final byte[] workbookLayout;
+    private final List<SheetCellStore> cellStores;
+
+    private SharedWorkbook(StreamingWorkbookReader.Result result)
+            throws IOException {
+        try (XSSFWorkbook workbook = result.workbook()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook.write(out);
+            workbookLayout = out.toByteArray();
+        }
+        cellStores = List.copyOf(result.cellStores());
+    }
+
+    /**
+     * Reads a shared workbook from the given XLSX file.
+     *
+     * @param file
+     *            Data source file. XLSX format is expected.
+     * @return the shared workbook
+     * @throws IOException
+     *             If the file can't be read, or the file is of an invalid
+     *             format.
+     */
+    public static SharedWorkbook read(File file) throws IOException {
+        return new SharedWorkbook(StreamingWorkbookReader.read(file));
+    }
+
+    /**
+     * Reads a shared workbook from the given input stream. The expected format
+     * is that of an XLSX file.
+     *
+     * @param inputStream
+     *            Data source input stream. XLSX format is expected.
+     * @return the shared workbook
+     * @throws IOException
+     *             If handling the stream fails, or the data is in an invalid
+     *             format.
+     */
+    public static SharedWorkbook read(InputStream inputStream)
+            throws IOException {
+        return new SharedWorkbook(StreamingWorkbookReader.read(inputStream));
+    }
+
+    /**
+     * Creates the workbook and the cell stores for a single spreadsheet. The
+     * cell data is shared with this workbook.
+     *
+     * @return a new workbook and cell stores
+     */
+    StreamingWorkbookReader.Result createSessionCopy() {
+        try {
+            XSSFWorkbook workbook = new XSSFWorkbook(
+                    new ByteArrayInputStream(workbookLayout));
+            return new StreamingWorkbookReader.Result(workbook,
+                    cellStores.stream().map(SheetCellStore::copy).toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+
+/**
+ * Compact, columnar storage for the cell values of a sheet that was loaded in
+ * streaming mode, see {@link Spreadsheet#readStreaming(java.io.File)}.
+ * <p>
+ * Rows and cells are stored in primitive arrays in row-major order instead of
+ * POI row and cell objects. Rows are copied to the POI sheet only when they are
+ * needed, typically when they become visible, see
+ * {@link #materializeRows(Sheet, int, int)}. Only cell values and styles are
+ * kept; for formula cells the cached result of the formula is stored.
+ * <p>
+ * Once loaded, the cell data is not modified, so a store can be shared by
+ * several spreadsheets through {@link #copy()}, see {@link SharedWorkbook}.
+ * <p>
+ * <strong>Internal use only. May be renamed or removed in a future
+ * release.</strong>
+ */
+class SheetCellStore implements Serializable {
+
+    static final byte TYPE_BLANK = 0;
+    static final byte TYPE_NUMERIC = 1;
+    static final byte TYPE_STRING = 2;
+    static final byte TYPE_BOOLEAN = 3;
+    static final byte TYPE_ERROR = 4;
+
+    private final String[] sharedStrings;
+    private final List<String> localStrings;
+
+    private int rowCount;
+    private int[] rowNumbers = new int[16];
+    private int[] rowCellStart = new int[17];
+    private float[] rowHeights = new float[16];
+    private final BitSet hiddenRows;
+    private final BitSet materializedRows = new BitSet();
+
+    private int cellCount;
+    private int[] cellColumns = new int[64];
+    private int[] cellStyles = new int[64];
+    private byte[] cellTypes = new byte[64];
+    private long[] cellValues = new long[64];
+
+    private int lastColumnNum = -1;
+
+    /**
+     * Creates an empty store.
+     *
+     * @param sharedStrings
+     *            the shared strings of the workbook, referenced by index from
+     *            string cells
+     */
+    SheetCellStore(String[] sharedStrings) {
+        this.sharedStrings = sharedStrings;
+        localStrings = new ArrayList<>();
+        hiddenRows = new BitSet();
+    }
+
+    private SheetCellStore(SheetCellStore source) {
+        sharedStrings = source.sharedStrings;
+        localStrings = source.localStrings;
+        rowCount = source.rowCount;
+        rowNumbers = source.rowNumbers;
+        rowCellStart = source.rowCellStart;
+        rowHeights = source.rowHeights;
+        hiddenRows = source.hiddenRows;
+        cellCount = source.cellCount;
+        cellColumns = source.cellColumns;
+        cellStyles = source.cellStyles;
+        cellTypes = source.cellTypes;
+        cellValues = source.cellValues;
+        lastColumnNum = source.lastColumnNum;
+    }
+
+    /**
+     * Creates a store that shares the cell data of this store, but tracks the
+     * materialized rows separately. Rows must not be added to either store
+     * after copying.
+     *
+     * @return a copy of this store without materialized rows
+     */
+    SheetCellStore copy() {
+        return new SheetCellStore(this);
+    }
+
+    /**
+     * Starts a new row. Rows must be added in ascending order.
+     *
+     * @param rowNum
+     *            Row index, 0-based
+     * @param heightInPoints
+     *            the custom height of the row, or {@code NaN} for the default
+     *            height
+     * @param hidden
+     *            whether the row is hidden
+     */
+    void addRow(int rowNum, float heightInPoints, boolean hidden) {
+        if (rowCount > 0 && rowNumbers[rowCount - 1] >= rowNum) {
+            throw new IllegalArgumentException(
+                    "Rows must be added in ascending order");
+        }
+        if (rowCount == rowNumbers.length) {
+            int capacity = rowCount << 1;
+            rowNumbers = Arrays.copyOf(rowNumbers, capacity);
+            rowHeights = Arrays.copyOf(rowHeights, capacity);
+            rowCellStart = Arrays.copyOf(rowCellStart, capacity + 1);
+        }
+        rowNumbers[rowCount] = rowNum;
+        rowHeights[rowCount] = heightInPoints;
+        if (hidden) {
+            hiddenRows.set(rowCount);
+        }
+        rowCount++;
+        rowCellStart[rowCount] = cellCount;
+    }
+
+    /**
+     * Adds a cell to the row added last.
+     *
+     * @param column
+     *            Column index, 0-based
+     * @param styleIndex
+     *            index of the cell style in the workbook
+     * @param type
+     *            the value type, one of the {@code TYPE_} constants
+     * @param value
+     *            the value: the raw bits of a numeric value, the index of a
+     *            string, {@code 1} or {@code 0} for a boolean, or an error code
+     */
+    void addCell(int column, int styleIndex, byte type, long value) {
+        if (rowCount == 0) {
+            throw new IllegalStateException("No row has been added");
+        }
+        if (cellCount == cellColumns.length) {
+            int capacity = cellCount << 1;
+            cellColumns = Arrays.copyOf(cellColumns, capacity);
+            cellStyles = Arrays.copyOf(cellStyles, capacity);
+            cellTypes = Arrays.copyOf(cellTypes, capacity);
+            cellValues = Arrays.copyOf(cellValues, capacity);
+        }
+        cellColumns[cellCount] = column;
+        cellStyles[cellCount] = styleIndex;
+        cellTypes[cellCount] = type;
+        cellValues[cellCount] = value;
+        cellCount++;
+        rowCellStart[rowCount] = cellCount;
+        lastColumnNum = Math.max(lastColumnNum, column);
+    }
+
+    /**
+     * Adds a string that is not in the shared strings table.
+     *
+     * @param string
+     *            the string
+     * @return the value to pass to {@link #addCell(int, int, byte, long)} for
+     *         a cell with this string
+     */
+    long addLocalString(String string) {
+        localStrings.add(string);
+        return -localStrings.size();
+    }
+
+    /**
+     * Releases the unused capacity of the arrays once all rows have been
+     * added.
+     */
+    void trimToSize() {
+        rowNumbers = Arrays.copyOf(rowNumbers, rowCount);
+        rowHeights = Arrays.copyOf(rowHeights, rowCount);
+        rowCellStart = Arrays.copyOf(rowCellStart, rowCount + 1);
+        cellColumns = Arrays.copyOf(cellColumns, cellCount);
+        cellStyles = Arrays.copyOf(cellStyles, cellCount);
+        cellTypes = Arrays.copyOf(cellTypes, cellCount);
+        cellValues = Arrays.copyOf(cellValues, cellCount);
+    }
+
+    /**
+     * Returns the index of the last row in the store.
+     *
+     * @return Row index, 0-based, or {@code -1} if there are no rows
+     */
+    int getLastRowNum() {
+        return rowCount == 0 ? -1 : rowNumbers[rowCount - 1];
+    }
+
+    /**
+     * Returns the index of the last column that has a cell in any row.
+     *
+     * @return Column index, 0-based, or {@code -1} if there are no cells
+     */
+    int getLastColumnNum() {
+        return lastColumnNum;
+    }
+
+    /**
+     * Returns the number of cells in the store.
+     *
+     * @return the cell count
+     */
+    int getCellCount() {
+        return cellCount;
+    }
+
+    /**
+     * Sets the heights of the stored rows to the given array and collects the
+     * hidden rows. Rows that have been materialized are skipped, as their
+     * current state is in the POI sheet.
+     *
+     * @param heights
+     *            the row heights in points, indexed by 0-based row index
+     * @param hiddenRowIndexes
+     *            receives the 1-based indexes of the hidden rows
+     */
+    void fillRowHeights(float[] heights, List<Integer> hiddenRowIndexes) {
+        for (int i = 0; i < rowCount && rowNumbers[i] < heights.length; i++) {
+            if (materializedRows.get(i)) {
+                continue;
+            }
+            if (hiddenRows.get(i)) {
+                heights[rowNumbers[i]] = 0.0F;
+                hiddenRowIndexes.add(rowNumbers[i] + 1);
+            } else if (!Float.isNaN(rowHeights[i])) {
+                heights[rowNumbers[i]] = rowHeights[i];
+            }
+        }
+    }
+
+    /**
+     * Copies the stored rows within the given range to the given sheet, unless
+     * they have been copied already.
+     *
+     * @param sheet
+     *            the sheet to copy the rows to
+     * @param firstRow
+     *            Index of the first row, 0-based
+     * @param lastRow
+     *            Index of the last row, 0-based
+     */
+    void materializeRows(Sheet sheet, int firstRow, int lastRow) {
+        int i = Arrays.binarySearch(rowNumbers, 0, rowCount, firstRow);
+        if (i < 0) {
+            i = -i - 1;
+        }
+        Workbook workbook = sheet.getWorkbook();
+        for (; i < rowCount && rowNumbers[i] <= lastRow; i++) {
+            if (!materializedRows.get(i)) {
+                materializedRows.set(i);
+                materializeRow(sheet, workbook, i);
+            }
+        }
+    }
+
+    /**
+     * Copies all the stored rows to the given sheet.
+     *
+     * @param sheet
+     *            the sheet to copy the rows to
+     */
+    void materializeAllRows(Sheet sheet) {
+        materializeRows(sheet, 0, Integer.MAX_VALUE);
+    }
+
+    private void materializeRow(Sheet sheet, Workbook workbook, int index) {
+        Row row = sheet.getRow(rowNumbers[index]);
+        if (row == null) {
+            row = sheet.createRow(rowNumbers[index]);
+        }
+        if (hiddenRows.get(index)) {
+            row.setZeroHeight(true);
+        }
+        if (!Float.isNaN(rowHeights[index])) {
+            row.setHeightInPoints(rowHeights[index]);
+        }
+        for (int c = rowCellStart[index]; c < rowCellStart[index + 1]; c++) {
+            if (row.getCell(cellColumns[c]) != null) {
+                // Already set through the POI API
+                continue;
+            }
+            Cell cell = row.createCell(cellColumns[c]);
+            if (cellStyles[c] > 0
+                    && cellStyles[c] < workbook.getNumCellStyles()) {
+                cell.setCellStyle(workbook.getCellStyleAt(cellStyles[c]));
+            }
+            long value = cellValues[c];
+            switch (cellTypes[c]) {
+            case TYPE_NUMERIC ->
+                cell.setCellValue(Double.longBitsToDouble(value));
+            case TYPE_STRING -> cell.setCellValue(getString(value));
+            case TYPE_BOOLEAN -> cell.setCellValue(value != 0);
+            case TYPE_ERROR -> cell.setCellErrorValue((byte) value);
+            default -> {
+                // blank cell that only has a style
+            }
+            }
+        }
+    }
+
+    private String getString(long value) {
+        if (value < 0) {
+            return localStrings.get((int) (-value - 1));
+        }
+        return value < sharedStrings.length ? sharedStrings[(int) value] : "";
+    }
+}
@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -97,6 +98,7 @@ import com.vaadin.flow.component.spreadsheet.framework.ReflectTools;
 import com.vaadin.flow.component.spreadsheet.rpc.SpreadsheetClientRpc;
 import com.vaadin.flow.component.spreadsheet.shared.GroupingData;
 import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.SerializableSupplier;
 import com.vaadin.flow.server.StreamResourceRegistry;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.streams.AbstractDownloadHandler;
@@ -200,6 +202,11 @@ public class Spreadsheet extends Component
     private String[] sheetNames = null;
 
     protected HashMap<Integer, String> cellStyleToCSSStyle = null;
+    /**
+     * Copy of the cell styles last sent to the client, since the styles map is
+     * modified in place when styles are added.
+     */
+    private HashMap<Integer, String> syncedCellStyleToCSSStyle = null;
     private HashMap<Integer, Integer> rowIndexToStyleIndex = null;
     private HashMap<Integer, Integer> columnIndexToStyleIndex = null;
     private Set<Integer> lockedColumnIndexes = null;
@@ -455,13 +462,21 @@ public class Spreadsheet extends Component
     }
 
     void setRowH(float[] rowH) {
+        float[] previous = this.rowH;
         this.rowH = rowH;
-        getElement().setProperty("rowH", Serializer.serialize(rowH));
+        updateLayoutState("rowH", previous, rowH, () -> {
+            float[] ranges = LayoutStatePatch.rangePatch(previous, rowH);
+            return ranges == null ? null : new Object[] { ranges };
+        });
     }
 
     void setColW(int[] colW) {
+        int[] previous = this.colW;
         this.colW = colW;
-        getElement().setProperty("colW", Serializer.serialize(colW));
+        updateLayoutState("colW", previous, colW, () -> {
+            int[] ranges = LayoutStatePatch.rangePatch(previous, colW);
+            return ranges == null ? null : new Object[] { ranges };
+        });
     }
 
     private void setReload(boolean reload) {
@@ -481,9 +496,13 @@ public class Spreadsheet extends Component
     }
 
     void setCellStyleToCSSStyle(HashMap<Integer, String> cellStyleToCSSStyle) {
+        HashMap<Integer, String> previous = syncedCellStyleToCSSStyle;
         this.cellStyleToCSSStyle = cellStyleToCSSStyle;
-        getElement().setProperty("cellStyleToCSSStyle",
-                Serializer.serialize(cellStyleToCSSStyle));
+        syncedCellStyleToCSSStyle = cellStyleToCSSStyle == null ? null
+                : new HashMap<>(cellStyleToCSSStyle);
+        updateLayoutState("cellStyleToCSSStyle", previous,
+                cellStyleToCSSStyle,
+                () -> mapPatch(previous, cellStyleToCSSStyle));
     }
 
     void setRowIndexToStyleIndex(
@@ -526,15 +545,112 @@ public class Spreadsheet extends Component
     }
 
     void setHiddenColumnIndexes(ArrayList<Integer> hiddenColumnIndexes) {
+        ArrayList<Integer> previous = this.hiddenColumnIndexes;
         this.hiddenColumnIndexes = hiddenColumnIndexes;
-        getElement().setProperty("hiddenColumnIndexes",
-                Serializer.serialize(hiddenColumnIndexes));
+        updateLayoutState("hiddenColumnIndexes", previous,
+                hiddenColumnIndexes,
+                () -> listPatch(previous, hiddenColumnIndexes));
     }
 
     void setHiddenRowIndexes(ArrayList<Integer> hiddenRowIndexes) {
+        ArrayList<Integer> previous = this.hiddenRowIndexes;
         this.hiddenRowIndexes = hiddenRowIndexes;
-        getElement().setProperty("hiddenRowIndexes",
-                Serializer.serialize(hiddenRowIndexes));
+        updateLayoutState("hiddenRowIndexes", previous, hiddenRowIndexes,
+                () -> listPatch(previous, hiddenRowIndexes));
+    }
+
+    /**
+     * Sends the new value of a layout state property to the client.
+     * <p>
+     * Before the spreadsheet is attached, the value is set as an element
+     * property, so that the client receives the full state on load. While
+     * attached, only the changes since the previous value are sent, using the
+     * given patch. The full value is sent instead if there is no previous
+     * value to compare with, or if the patch would not be smaller than the
+     * value. Since patches do not update the element property, the properties
+     * are refreshed on attach, see {@link #refreshLayoutState()}.
+     *
+     * @param name
+     *            the name of the property
+     * @param previous
+     *            the value known by the client, may be {@code null}
+     * @param value
+     *            the new value, may be {@code null}
+     * @param patch
+     *            supplier for the patch arguments, returns {@code null} if
+     *            the full value should be sent instead
+     */
+    private void updateLayoutState(String name, Object previous, Object value,
+            SerializableSupplier<Object[]> patch) {
+        if (!getElement().getNode().isAttached()) {
+            getElement().setProperty(name, Serializer.serialize(value));
+            return;
+        }
+        Object[] patchArguments = null;
+        // The same instance means that the value was modified in place, so
+        // the changes can't be detected
+        if (previous != null && value != null && previous != value) {
+            if (Objects.deepEquals(previous, value)) {
+                return;
+            }
+            patchArguments = patch.get();
+        }
+        if (patchArguments == null) {
+            getElement().callJsFunction("setLayoutState", name,
+                    Serializer.serialize(value));
+        } else {
+            Serializable[] arguments = new Serializable[patchArguments.length
+                    + 1];
+            arguments[0] = name;
+            for (int i = 0; i < patchArguments.length; i++) {
+                arguments[i + 1] = Serializer.serialize(patchArguments[i]);
+            }
+            getElement().callJsFunction("patchLayoutState", arguments);
+        }
+    }
+
+    private static Object[] listPatch(List<Integer> previous,
+            List<Integer> current) {
+        List<Integer> added = LayoutStatePatch.difference(current, previous);
+        List<Integer> removed = LayoutStatePatch.difference(previous, current);
+        if (added.size() + removed.size() >= current.size()) {
+            return null;
+        }
+        return new Object[] { added, removed };
+    }
+
+    private static Object[] mapPatch(Map<Integer, String> previous,
+            Map<Integer, String> current) {
+        Map<Integer, String> changed = LayoutStatePatch
+                .changedEntries(previous, current);
+        List<Integer> removed = LayoutStatePatch
+                .difference(previous.keySet(), current.keySet());
+        if (changed.size() + removed.size() >= current.size()) {
+            return null;
+        }
+        return new Object[] { changed, removed };
+    }
+
+    /**
+     * Sets the layout state properties to the current values. The properties
+     * are not updated when changes are sent as patches, so they have to be
+     * refreshed for the client to get the current state when the spreadsheet
+     * is attached again.
+     */
+    private void refreshLayoutState() {
+        refreshLayoutState("rowH", rowH);
+        refreshLayoutState("colW", colW);
+        refreshLayoutState("cellStyleToCSSStyle", cellStyleToCSSStyle);
+        syncedCellStyleToCSSStyle = cellStyleToCSSStyle == null ? null
+                : new HashMap<>(cellStyleToCSSStyle);
+        refreshLayoutState("hiddenColumnIndexes", hiddenColumnIndexes);
+        refreshLayoutState("hiddenRowIndexes", hiddenRowIndexes);
+    }
+
+    private void refreshLayoutState(String name, Object value) {
+        if (value != null || getElement().hasProperty(name)) {
+            getElement().setProperty(name, Serializer.serialize(value));
+        }
     }
 
     void setVerticalScrollPositions(int[] verticalScrollPositions) {
@@ -1040,6 +1156,9 @@ public class Spreadsheet extends Component
 
     private Workbook workbook;
 
+    /** cell values of the sheets loaded in streaming mode */
+    private Map<Sheet, SheetCellStore> cellStores;
+
     /** are tables for currently active sheet loaded */
     private boolean tablesLoaded;
 
@@ -1193,6 +1312,20 @@ public class Spreadsheet extends Component
         SpreadsheetFactory.reloadSpreadsheetComponent(this, inputStream);
     }
 
+    /**
+     * Creates a new Spreadsheet component and opens the given shared
+     * workbook in it. The cell data of the workbook is shared with other
+     * spreadsheets that have opened the same workbook.
+     *
+     * @param sharedWorkbook
+     *            the workbook to open
+     * @see SharedWorkbook
+     */
+    public Spreadsheet(SharedWorkbook sharedWorkbook) {
+        init();
+        SpreadsheetFactory.reloadSpreadsheetComponent(this, sharedWorkbook);
+    }
+
     private void init() {
         updateAppId();
         valueManager = createCellValueManager();
@@ -1738,6 +1871,7 @@ public class Spreadsheet extends Component
     protected void onAttach(AttachEvent attachEvent) {
         super.onAttach(attachEvent);
         valueManager.updateLocale(getLocale());
+        refreshLayoutState();
 
         updateAppId();
 
@@ -2246,8 +2380,9 @@ public class Spreadsheet extends Component
      */
     public Cell getCell(String cellAddress) {
         CellReference ref = new CellReference(cellAddress);
-        Row r = workbook.getSheetAt(workbook.getActiveSheetIndex())
-                .getRow(ref.getRow());
+        Sheet sheet = workbook.getSheetAt(workbook.getActiveSheetIndex());
+        materializeRows(sheet, ref.getRow(), ref.getRow());
+        Row r = sheet.getRow(ref.getRow());
         if (r != null) {
             return r.getCell(ref.getCol());
         } else {
@@ -2285,6 +2420,7 @@ public class Spreadsheet extends Component
      * @return The cell at the given coordinates, or null if not defined
      */
     public Cell getCell(int row, int col, Sheet sheet) {
+        materializeRows(sheet, row, row);
         Row r = sheet.getRow(row);
         if (r != null) {
             return r.getCell(col);
@@ -2487,6 +2623,8 @@ public class Spreadsheet extends Component
      */
     public Cell createFormulaCell(int row, int col, String formula)
             throws IllegalArgumentException {
+        // The formula may refer to any cell of the workbook
+        materializeAllRows();
         final Sheet activeSheet = workbook
                 .getSheetAt(workbook.getActiveSheetIndex());
         Row r = activeSheet.getRow(row);
@@ -2497,8 +2635,7 @@ public class Spreadsheet extends Component
         if (cell == null) {
             cell = r.createCell(col, CellType.FORMULA);
         } else {
-            final String key = SpreadsheetUtil.toKey(col + 1, row + 1);
-            valueManager.clearCellCache(key);
+            valueManager.clearCellCache(col + 1, row + 1);
         }
         cell.setCellFormula(formula);
         valueManager.cellUpdated(cell);
@@ -2540,8 +2677,7 @@ public class Spreadsheet extends Component
         if (cell == null) {
             cell = r.createCell(col);
         } else {
-            final String key = SpreadsheetUtil.toKey(col + 1, row + 1);
-            valueManager.clearCellCache(key);
+            valueManager.clearCellCache(col + 1, row + 1);
         }
         if (value instanceof Double) {
             cell.setCellValue((Double) value);
@@ -2792,6 +2928,10 @@ public class Spreadsheet extends Component
     public void shiftRows(int startRow, int endRow, int n,
             boolean copyRowHeight, boolean resetOriginalRowHeight) {
         Sheet sheet = getActiveSheet();
+        // Rows that are not in the sheet yet would otherwise be added later
+        // at their original index, on top of the shifted rows
+        materializeRows(sheet, Math.min(startRow, startRow + n),
+                Math.max(endRow, endRow + n));
         int lastNonBlankRow = getLastNonBlankRow(sheet);
         sheet.shiftRows(startRow, endRow, n, copyRowHeight,
                 resetOriginalRowHeight);
@@ -3087,6 +3227,8 @@ public class Spreadsheet extends Component
      */
     public void deleteRows(int startRow, int endRow) {
         Sheet sheet = getActiveSheet();
+        // Prevents rows that are not in the sheet yet from being added later
+        materializeRows(sheet, startRow, endRow);
         for (int i = startRow; i <= endRow; i++) {
             Row row = sheet.getRow(i);
             if (row != null) {
@@ -3454,6 +3596,73 @@ public class Spreadsheet extends Component
         SpreadsheetFactory.reloadSpreadsheetComponent(this, inputStream);
     }
 
+    /**
+     * Reinitializes the component from the given XLSX file in streaming mode.
+     * <p>
+     * Instead of building the full POI object model of the file, the sheets
+     * are parsed with a streaming parser into a compact in-memory format, and
+     * rows are added to the POI {@link Sheet} only when they are displayed or
+     * accessed through {@link #getCell(int, int, Sheet)}. This makes it
+     * possible to open much larger files with the same amount of memory.
+     * <p>
+     * The mode is intended for viewing: only cell values, cell styles, column
+     * widths, row heights, merged regions and freeze panes are loaded. Formula
+     * cells are loaded as values with the result that was saved in the file.
+     * Comments, hyperlinks, images, charts, tables and conditional formatting
+     * are not loaded. Rows that have not been displayed yet are missing from
+     * {@link #getActiveSheet()}, so code that iterates the rows of the sheet
+     * directly sees only the displayed rows.
+     * <p>
+     * Operations of the component that depend on rows that have not been
+     * displayed load those rows first: shifting and deleting rows load the
+     * affected rows, filtering loads the rows of the filtered range, and
+     * filling cells by dragging the selection loads the rows of the selection.
+     * Entering a formula, creating a formula cell with
+     * {@link #createFormulaCell(int, int, String)} and writing the workbook
+     * load all rows of all sheets, after which the workbook uses as much
+     * memory as when read normally. Code that modifies the rows of the POI
+     * sheet directly should call {@link #getCell(int, int, Sheet)} for the
+     * affected rows first.
+     *
+     * @param file
+     *            Data source file. XLSX format is expected.
+     * @throws IOException
+     *             If the file can't be read, or the file is of an invalid
+     *             format.
+     */
+    public void readStreaming(File file) throws IOException {
+        SpreadsheetFactory.reloadSpreadsheetComponentStreaming(this, file);
+    }
+
+    /**
+     * Reinitializes the component from the given input stream in streaming
+     * mode. The expected format is that of an XLSX file. See
+     * {@link #readStreaming(File)} for the limitations of the mode.
+     *
+     * @param inputStream
+     *            Data source input stream. XLSX format is expected.
+     * @throws IOException
+     *             If handling the stream fails, or the data is in an invalid
+     *             format.
+     */
+    public void readStreaming(InputStream inputStream) throws IOException {
+        SpreadsheetFactory.reloadSpreadsheetComponentStreaming(this,
+                inputStream);
+    }
+
+    /**
+     * Reinitializes the component from the given shared workbook. The cell
+     * data of the workbook is shared with other spreadsheets that have opened
+     * the same workbook.
+     *
+     * @param sharedWorkbook
+     *            the workbook to open
+     * @see SharedWorkbook
+     */
+    public void read(SharedWorkbook sharedWorkbook) {
+        SpreadsheetFactory.reloadSpreadsheetComponent(this, sharedWorkbook);
+    }
+
     /**
      * Exports current spreadsheet into a File with the given name.
      *
@@ -3642,7 +3851,30 @@ public class Spreadsheet extends Component
     }
 
     void setInternalWorkbook(Workbook workbook) {
+        setInternalWorkbook(workbook, null);
+    }
+
+    /**
+     * Sets the workbook of this spreadsheet together with the cell values of
+     * its sheets, when the workbook was loaded in streaming mode.
+     *
+     * @param workbook
+     *            the workbook
+     * @param cellStores
+     *            the cell values of each sheet, in sheet order, or
+     *            {@code null} if all cells are in the workbook
+     */
+    void setInternalWorkbook(Workbook workbook,
+            List<SheetCellStore> cellStores) {
         this.workbook = workbook;
+        if (cellStores == null) {
+            this.cellStores = null;
+        } else {
+            this.cellStores = new IdentityHashMap<>();
+            for (int i = 0; i < cellStores.size(); i++) {
+                this.cellStores.put(workbook.getSheetAt(i), cellStores.get(i));
+            }
+        }
         formulaEvaluator = workbook.getCreationHelper()
                 .createFormulaEvaluator();
         // currently all formula implementations extend BaseFormulaEvaluator
@@ -3668,6 +3900,52 @@ public class Spreadsheet extends Component
         setWorkbookChangeToggle(!isWorkbookChangeToggle());
     }
 
+    /**
+     * Returns the cell values of the given sheet that have not necessarily
+     * been added to the sheet yet, when the workbook was loaded in streaming
+     * mode.
+     *
+     * @param sheet
+     *            the sheet
+     * @return the cell values, or {@code null} if all cells of the sheet are
+     *         in the sheet
+     */
+    SheetCellStore getCellStore(Sheet sheet) {
+        return cellStores == null ? null : cellStores.get(sheet);
+    }
+
+    /**
+     * Adds the rows within the given range to the given sheet, when the
+     * workbook was loaded in streaming mode and the rows haven't been added
+     * yet.
+     *
+     * @param sheet
+     *            the sheet
+     * @param firstRow
+     *            Index of the first row, 0-based
+     * @param lastRow
+     *            Index of the last row, 0-based
+     */
+    void materializeRows(Sheet sheet, int firstRow, int lastRow) {
+        SheetCellStore cellStore = getCellStore(sheet);
+        if (cellStore != null) {
+            cellStore.materializeRows(sheet, firstRow, lastRow);
+        }
+    }
+
+    /**
+     * Adds all the rows of all sheets to the workbook, when the workbook was
+     * loaded in streaming mode. From then on, all cells are in the workbook,
+     * as if it had been loaded normally.
+     */
+    void materializeAllRows() {
+        if (cellStores != null) {
+            cellStores.forEach((sheet, cellStore) -> cellStore
+                    .materializeAllRows(sheet));
+            cellStores = null;
+        }
+    }
+
     /**
      * Override this method to provide your own {@link ConditionalFormatter}
      * implementation. This method is called each time we open a workbook.
@@ -255,6 +255,66 @@ public class SpreadsheetFactory implements Serializable {
      */
     static void reloadSpreadsheetComponent(Spreadsheet spreadsheet,
             final Workbook workbook) {
+        reloadSpreadsheetComponent(spreadsheet, workbook, null);
+    }
+
+    /**
+     * Reloads the Spreadsheet component from the given XLSX file in streaming
+     * mode, see {@link StreamingWorkbookReader}.
+     *
+     * @param spreadsheet
+     *            Target Spreadsheet
+     * @param spreadsheetFile
+     *            Source file. Should be of XLSX format.
+     * @throws IOException
+     *             If file has invalid format
+     */
+    static void reloadSpreadsheetComponentStreaming(Spreadsheet spreadsheet,
+            final File spreadsheetFile) throws IOException {
+        StreamingWorkbookReader.Result result = StreamingWorkbookReader
+                .read(spreadsheetFile);
+        reloadSpreadsheetComponent(spreadsheet, result.workbook(),
+                result.cellStores());
+    }
+
+    /**
+     * Reloads the Spreadsheet component from the given InputStream in
+     * streaming mode, see {@link StreamingWorkbookReader}.
+     *
+     * @param spreadsheet
+     *            Target Spreadsheet
+     * @param inputStream
+     *            Source stream. Stream content should be of XLSX format.
+     * @throws IOException
+     *             If data in the stream has invalid format
+     */
+    static void reloadSpreadsheetComponentStreaming(Spreadsheet spreadsheet,
+            final InputStream inputStream) throws IOException {
+        StreamingWorkbookReader.Result result = StreamingWorkbookReader
+                .read(inputStream);
+        reloadSpreadsheetComponent(spreadsheet, result.workbook(),
+                result.cellStores());
+    }
+
+    /**
+     * Reloads the Spreadsheet component with a session copy of the given
+     * shared workbook.
+     *
+     * @param spreadsheet
+     *            Target Spreadsheet
+     * @param sharedWorkbook
+     *            Source workbook
+     */
+    static void reloadSpreadsheetComponent(Spreadsheet spreadsheet,
+            final SharedWorkbook sharedWorkbook) {
+        StreamingWorkbookReader.Result result = sharedWorkbook
+                .createSessionCopy();
+        reloadSpreadsheetComponent(spreadsheet, result.workbook(),
+                result.cellStores());
+    }
+
+    private static void reloadSpreadsheetComponent(Spreadsheet spreadsheet,
+            final Workbook workbook, List<SheetCellStore> cellStores) {
         Workbook oldWorkbook = spreadsheet.getWorkbook();
         if (oldWorkbook != null) {
             spreadsheet.clearSheetServerSide();
@@ -263,7 +323,7 @@ public class SpreadsheetFactory implements Serializable {
             }
         }
         final Sheet sheet = workbook.getSheetAt(workbook.getActiveSheetIndex());
-        spreadsheet.setInternalWorkbook(workbook);
+        spreadsheet.setInternalWorkbook(workbook, cellStores);
         reloadSpreadsheetData(spreadsheet, sheet);
         loadWorkbookStyles(spreadsheet);
     }
@@ -284,6 +344,7 @@ public class SpreadsheetFactory implements Serializable {
      */
     static File write(Spreadsheet spreadsheet, String fileName)
             throws FileNotFoundException, IOException {
+        spreadsheet.materializeAllRows();
         final Workbook workbook = spreadsheet.getWorkbook();
         if (!fileName.endsWith(".xlsx") && !fileName.endsWith(".xls")) {
             if (workbook instanceof HSSFWorkbook) {
@@ -330,6 +391,7 @@ public class SpreadsheetFactory implements Serializable {
      */
     static void write(Spreadsheet spreadsheet, OutputStream stream)
             throws IOException {
+        spreadsheet.materializeAllRows();
         final Workbook workbook = spreadsheet.getWorkbook();
         try {
             workbook.write(stream);
@@ -518,8 +580,12 @@ public class SpreadsheetFactory implements Serializable {
      */
     static void calculateSheetSizes(final Spreadsheet spreadsheet,
             final Sheet sheet) {
+        final SheetCellStore cellStore = spreadsheet.getCellStore(sheet);
         // Always have at least the default amount of rows
         int rows = sheet.getLastRowNum() + 1;
+        if (cellStore != null) {
+            rows = Math.max(rows, cellStore.getLastRowNum() + 1);
+        }
         if (rows < spreadsheet.getDefaultRowCount()) {
             rows = spreadsheet.getDefaultRowCount();
         }
@@ -529,11 +595,19 @@ public class SpreadsheetFactory implements Serializable {
         int cols = 0;
         int tempRowIndex = -1;
         final ArrayList<Integer> hiddenRowIndexes = new ArrayList<Integer>();
+        if (cellStore != null) {
+            calculateStreamedRowHeights(cellStore, sheet, rowHeights,
+                    hiddenRowIndexes);
+            cols = cellStore.getLastColumnNum() + 1;
+        }
         for (Row row : sheet) {
             int rIndex = row.getRowNum();
-            // set the empty rows to have the default row width
+            // set the empty rows to have the default row width, unless
+            // already set from the streamed rows
             while (++tempRowIndex != rIndex) {
-                rowHeights[tempRowIndex] = spreadsheet.getDefRowH();
+                if (cellStore == null) {
+                    rowHeights[tempRowIndex] = spreadsheet.getDefRowH();
+                }
             }
             if (row.getZeroHeight()) {
                 rowHeights[rIndex] = 0.0F;
@@ -546,7 +620,9 @@ public class SpreadsheetFactory implements Serializable {
                 cols = c;
             }
         }
-        if (rows > sheet.getLastRowNum() + 1) {
+        if (cellStore != null) {
+            hiddenRowIndexes.sort(null);
+        } else if (rows > sheet.getLastRowNum() + 1) {
             float defaultRowHeightInPoints = sheet
                     .getDefaultRowHeightInPoints();
 
@@ -585,6 +661,17 @@ public class SpreadsheetFactory implements Serializable {
         spreadsheet.setColW(colWidths);
     }
 
+    /**
+     * Sets the heights of the rows of a sheet loaded in streaming mode that
+     * haven't been added to the POI sheet yet. The heights of the rows in the
+     * POI sheet are set by {@link #calculateSheetSizes(Spreadsheet, Sheet)}.
+     */
+    private static void calculateStreamedRowHeights(SheetCellStore cellStore,
+            Sheet sheet, float[] rowHeights, List<Integer> hiddenRowIndexes) {
+        Arrays.fill(rowHeights, sheet.getDefaultRowHeightInPoints());
+        cellStore.fillRowHeights(rowHeights, hiddenRowIndexes);
+    }
+
     /**
      * Loads all data relating to grouping if the current sheet is a
      * {@link XSSFSheet}.
@@ -9,6 +9,7 @@
 package com.vaadin.flow.component.spreadsheet;
 
 import java.io.Serializable;
+import java.util.BitSet;
 import java.util.Set;
 
 /**
@@ -41,4 +42,18 @@ public interface SpreadsheetFilter extends Serializable {
      * @return Row indexes of the filtered rows, 0-based
      */
     public Set<Integer> getFilteredRows();
+
+    /**
+     * Returns the rows that should be filtered by this filter as a bit set of
+     * row indexes. The default implementation creates the bit set from
+     * {@link #getFilteredRows()}. Filters that keep track of the filtered rows
+     * in a bit set can override this to avoid boxing every row index.
+     *
+     * @return Row indexes of the filtered rows, 0-based, not {@code null}
+     */
+    public default BitSet getFilteredRowSet() {
+        BitSet rows = new BitSet();
+        getFilteredRows().forEach(rows::set);
+        return rows;
+    }
 }
@@ -8,14 +8,11 @@
  */
 package com.vaadin.flow.component.spreadsheet;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.util.CellRangeAddress;
@@ -151,11 +148,7 @@ public class SpreadsheetFilterTable extends SpreadsheetTable {
             popupButtonToClearButtonMap.get(popupButton).setEnabled(false);
             popupButton.markActive(false);
         }
-        getSpreadsheet().setRowsHidden(IntStream
-                .range(filteringRegion.getFirstRow(),
-                        filteringRegion.getLastRow() + 1)
-                .boxed().collect(
-                        Collectors.toMap(Function.identity(), index -> false)));
+        updateRowsHidden(new BitSet());
     }
 
     /**
@@ -241,25 +234,43 @@ public class SpreadsheetFilterTable extends SpreadsheetTable {
      * added your own SpreadsheetFilter.
      */
     public void onFiltersUpdated() {
-        Set<Integer> filteredRows = new HashSet<>();
+        BitSet filteredRows = new BitSet();
         for (Entry<PopupButton, HashSet<SpreadsheetFilter>> entry : popupButtonToFiltersMap
                 .entrySet()) {
             PopupButton popupButton = entry.getKey();
             HashSet<SpreadsheetFilter> filters = entry.getValue();
-            HashSet<Integer> temp = new HashSet<Integer>();
+            BitSet temp = new BitSet();
             for (SpreadsheetFilter filter : filters) {
-                temp.addAll(filter.getFilteredRows());
+                temp.or(filter.getFilteredRowSet());
             }
             popupButtonToClearButtonMap.get(popupButton)
                     .setEnabled(!temp.isEmpty());
             popupButton.markActive(!temp.isEmpty());
-            filteredRows.addAll(temp);
+            filteredRows.or(temp);
+        }
+        updateRowsHidden(filteredRows);
+    }
+
+    /**
+     * Hides the given rows of the filtering region and shows the other rows.
+     * Only the rows whose hidden state changes are updated.
+     *
+     * @param hiddenRows
+     *            the rows to hide, 0-based
+     */
+    private void updateRowsHidden(BitSet hiddenRows) {
+        Spreadsheet spreadsheet = getSpreadsheet();
+        Map<Integer, Boolean> changedRows = new HashMap<>();
+        for (int row = filteringRegion.getFirstRow(); row <= filteringRegion
+                .getLastRow(); row++) {
+            boolean hidden = hiddenRows.get(row);
+            if (spreadsheet.isRowHidden(row) != hidden) {
+                changedRows.put(row, hidden);
+            }
+        }
+        if (!changedRows.isEmpty()) {
+            spreadsheet.setRowsHidden(changedRows);
         }
-        getSpreadsheet().setRowsHidden(IntStream
-                .range(filteringRegion.getFirstRow(),
-                        filteringRegion.getLastRow() + 1)
-                .boxed().collect(Collectors.toMap(Function.identity(),
-                        filteredRows::contains)));
     }
 
     /**
@@ -0,0 +1,418 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.ooxml.POIXMLException;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTCol;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTCols;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorksheet;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Reads an XLSX package with the SAX based event API of POI instead of building
+ * the full XSSF object model.
+ * <p>
+ * The result is a workbook that contains the sheets, cell styles, column
+ * widths, merged regions and freeze panes of the source, but no rows, and a
+ * {@link SheetCellStore} per sheet holding the cell values. Formulas, comments,
+ * hyperlinks, drawings, tables and conditional formatting are not read.
+ * <p>
+ * <strong>Internal use only. May be renamed or removed in a future
+ * release.</strong>
+ */
+class StreamingWorkbookReader {
+
+    /**
+     * The workbook skeleton and the cell stores of its sheets, in sheet order.
+     */
+    record Result(XSSFWorkbook workbook, List<SheetCellStore> cellStores) {
+    }
+
+    private StreamingWorkbookReader() {
+    }
+
+    /**
+     * Reads the given XLSX file.
+     *
+     * @param file
+     *            the file to read
+     * @return the read workbook and cell stores
+     * @throws IOException
+     *             if the file can't be read or has an invalid format
+     */
+    static Result read(File file) throws IOException {
+        final OPCPackage pkg;
+        try {
+            pkg = OPCPackage.open(file, PackageAccess.READ);
+        } catch (InvalidFormatException | POIXMLException e) {
+            throw new IOException(e);
+        }
+        return readAndRevert(pkg);
+    }
+
+    /**
+     * Reads XLSX content from the given stream.
+     *
+     * @param inputStream
+     *            the stream to read, not closed
+     * @return the read workbook and cell stores
+     * @throws IOException
+     *             if the stream can't be read or has an invalid format
+     */
+    static Result read(InputStream inputStream) throws IOException {
+        final OPCPackage pkg;
+        try {
+            pkg = OPCPackage.open(inputStream);
+        } catch (InvalidFormatException | POIXMLException e) {
+            throw new IOException(e);
+        }
+        return readAndRevert(pkg);
+    }
+
+    private static Result readAndRevert(OPCPackage pkg) throws IOException {
+        try {
+            return read(pkg);
+        } finally {
+            // The package is only read, discard it without saving
+            pkg.revert();
+        }
+    }
+
+    /**
+     * Reads the given package.
+     *
+     * @param pkg
+     *            the XLSX package, not modified
+     * @return the read workbook and cell stores
+     * @throws IOException
+     *             if the package can't be read or has an invalid format
+     */
+    static Result read(OPCPackage pkg) throws IOException {
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            String[] sharedStrings = readSharedStrings(pkg);
+            XSSFWorkbook workbook = new XSSFWorkbook();
+            int[] styleMap = copyStyles(reader.getStylesTable(), workbook);
+
+            List<SheetCellStore> cellStores = new ArrayList<>();
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader
+                    .getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream stream = sheets.next()) {
+                    XSSFSheet sheet = workbook
+                            .createSheet(sheets.getSheetName());
+                    SheetCellStore cellStore = new SheetCellStore(
+                            sharedStrings);
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(
+                            new SheetHandler(sheet, cellStore, styleMap));
+                    parser.parse(new InputSource(stream));
+                    cellStore.trimToSize();
+                    cellStores.add(cellStore);
+                }
+            }
+            if (workbook.getNumberOfSheets() == 0) {
+                throw new IOException("The workbook contains no sheets");
+            }
+            return new Result(workbook, cellStores);
+        } catch (OpenXML4JException | POIXMLException | SAXException
+                | ParserConfigurationException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static String[] readSharedStrings(OPCPackage pkg)
+            throws IOException, SAXException {
+        ReadOnlySharedStringsTable table = new ReadOnlySharedStringsTable(pkg);
+        String[] strings = new String[table.getUniqueCount()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = table.getItemAt(i).getString();
+        }
+        return strings;
+    }
+
+    /**
+     * Copies the cell styles of the source to the given workbook.
+     *
+     * @return the index of each source style in the target workbook
+     */
+    private static int[] copyStyles(StylesTable styles, XSSFWorkbook target) {
+        if (styles == null) {
+            return new int[0];
+        }
+        int[] styleMap = new int[styles.getNumCellStyles()];
+        for (int i = 0; i < styleMap.length; i++) {
+            try {
+                XSSFCellStyle style = i == 0 ? target.getCellStyleAt(0)
+                        : target.createCellStyle();
+                style.cloneStyleFrom(styles.getStyleAt(i));
+                styleMap[i] = style.getIndex();
+            } catch (RuntimeException e) {
+                LoggerFactory.getLogger(StreamingWorkbookReader.class)
+                        .trace(e.getMessage(), e);
+            }
+        }
+        return styleMap;
+    }
+
+    /**
+     * Converts the given column letters of a cell reference to a column index.
+     *
+     * @return Column index, 0-based, or {@code -1} if the reference has no
+     *         column letters
+     */
+    static int parseColumn(String cellReference) {
+        int column = 0;
+        for (int i = 0; i < cellReference.length(); i++) {
+            char c = cellReference.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    private static class SheetHandler extends DefaultHandler {
+
+        private static final int LAST_COLUMN = SpreadsheetVersion.EXCEL2007
+                .getLastColumnIndex() + 1;
+
+        private final XSSFSheet sheet;
+        private final SheetCellStore cellStore;
+        private final int[] styleMap;
+
+        private int rowNum = -1;
+        private int column;
+        private String cellType;
+        private int cellStyle;
+        private boolean cellHasValue;
+        private boolean collectingText;
+        private boolean inPhoneticRun;
+        private final StringBuilder text = new StringBuilder();
+
+        SheetHandler(XSSFSheet sheet, SheetCellStore cellStore,
+                int[] styleMap) {
+            this.sheet = sheet;
+            this.cellStore = cellStore;
+            this.styleMap = styleMap;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName,
+                Attributes attributes) {
+            switch (localName) {
+            case "row" -> startRow(attributes);
+            case "c" -> {
+                String reference = attributes.getValue("r");
+                column = reference == null ? column + 1
+                        : parseColumn(reference);
+                cellType = attributes.getValue("t");
+                String style = attributes.getValue("s");
+                cellStyle = (int) parseNumber(style, 0);
+                cellHasValue = false;
+                text.setLength(0);
+            }
+            case "v", "t" -> {
+                // phonetic runs are not part of the cell text
+                collectingText = !inPhoneticRun;
+                cellHasValue = true;
+            }
+            case "rPh" -> inPhoneticRun = true;
+            case "col" -> addColumn(attributes);
+            case "mergeCell" -> sheet.addMergedRegionUnsafe(
+                    CellRangeAddress.valueOf(attributes.getValue("ref")));
+            case "pane" -> addFreezePane(attributes);
+            case "sheetFormatPr" -> {
+                double defaultRowHeight = parseNumber(
+                        attributes.getValue("defaultRowHeight"), Double.NaN);
+                if (!Double.isNaN(defaultRowHeight)) {
+                    sheet.setDefaultRowHeightInPoints((float) defaultRowHeight);
+                }
+                double baseColWidth = parseNumber(
+                        attributes.getValue("baseColWidth"), Double.NaN);
+                if (!Double.isNaN(baseColWidth)) {
+                    sheet.setDefaultColumnWidth((int) baseColWidth);
+                }
+            }
+            case "sheetView" -> {
+                if ("0".equals(attributes.getValue("showGridLines"))) {
+                    sheet.setDisplayGridlines(false);
+                }
+            }
+            default -> {
+                // not needed
+            }
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+            case "v", "t" -> collectingText = false;
+            case "rPh" -> inPhoneticRun = false;
+            case "c" -> addCell();
+            default -> {
+                // not needed
+            }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (collectingText) {
+                text.append(ch, start, length);
+            }
+        }
+
+        private void startRow(Attributes attributes) {
+            // The row reference is 1-based, and defaults to the next row
+            rowNum = (int) parseNumber(attributes.getValue("r"), rowNum + 2)
+                    - 1;
+            column = -1;
+            float height = (float) parseNumber(attributes.getValue("ht"),
+                    Float.NaN);
+            boolean hidden = isTrue(attributes.getValue("hidden"));
+            cellStore.addRow(rowNum, height, hidden);
+        }
+
+        private void addCell() {
+            int style = cellStyle < styleMap.length ? styleMap[cellStyle] : 0;
+            if (!cellHasValue) {
+                if (style > 0) {
+                    cellStore.addCell(column, style, SheetCellStore.TYPE_BLANK,
+                            0);
+                }
+                return;
+            }
+            String value = text.toString();
+            String type = cellType == null ? "n" : cellType;
+            switch (type) {
+            case "s" -> {
+                try {
+                    cellStore.addCell(column, style,
+                            SheetCellStore.TYPE_STRING,
+                            Integer.parseInt(value.trim()));
+                } catch (NumberFormatException e) {
+                    addStringCell(style, value);
+                }
+            }
+            case "b" -> cellStore.addCell(column, style,
+                    SheetCellStore.TYPE_BOOLEAN,
+                    "1".equals(value) || "true".equals(value) ? 1 : 0);
+            case "e" -> addErrorCell(style, value);
+            case "n" -> {
+                try {
+                    cellStore.addCell(column, style,
+                            SheetCellStore.TYPE_NUMERIC,
+                            Double.doubleToRawLongBits(
+                                    Double.parseDouble(value)));
+                } catch (NumberFormatException e) {
+                    addStringCell(style, value);
+                }
+            }
+            default -> addStringCell(style, value);
+            }
+        }
+
+        private void addErrorCell(int style, String value) {
+            try {
+                cellStore.addCell(column, style, SheetCellStore.TYPE_ERROR,
+                        FormulaError.forString(value).getCode());
+            } catch (IllegalArgumentException e) {
+                addStringCell(style, value);
+            }
+        }
+
+        private void addStringCell(int style, String value) {
+            cellStore.addCell(column, style, SheetCellStore.TYPE_STRING,
+                    cellStore.addLocalString(value));
+        }
+
+        private void addColumn(Attributes attributes) {
+            double min = parseNumber(attributes.getValue("min"), Double.NaN);
+            double max = parseNumber(attributes.getValue("max"), Double.NaN);
+            if (Double.isNaN(min) || Double.isNaN(max)) {
+                return;
+            }
+            CTWorksheet worksheet = sheet.getCTWorksheet();
+            CTCols cols = worksheet.sizeOfColsArray() == 0
+                    ? worksheet.addNewCols()
+                    : worksheet.getColsArray(0);
+            CTCol col = cols.addNewCol();
+            col.setMin((long) min);
+            col.setMax(Math.min(LAST_COLUMN, (long) max));
+            double width = parseNumber(attributes.getValue("width"),
+                    Double.NaN);
+            if (!Double.isNaN(width)) {
+                col.setWidth(width);
+                col.setCustomWidth(true);
+            }
+            if (isTrue(attributes.getValue("hidden"))) {
+                col.setHidden(true);
+            }
+        }
+
+        private void addFreezePane(Attributes attributes) {
+            String state = attributes.getValue("state");
+            if (!"frozen".equals(state) && !"frozenSplit".equals(state)) {
+                return;
+            }
+            sheet.createFreezePane(
+                    (int) parseNumber(attributes.getValue("xSplit"), 0),
+                    (int) parseNumber(attributes.getValue("ySplit"), 0));
+        }
+
+        private static boolean isTrue(String value) {
+            return "1".equals(value) || "true".equals(value);
+        }
+
+        /**
+         * Parses a numeric attribute, falling back to the given default value
+         * when the attribute is missing or malformed.
+         */
+        private static double parseNumber(String value, double defaultValue) {
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                return Double.parseDouble(value.trim());
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+    }
+}
@@ -309,6 +309,25 @@ export class VaadinSpreadsheet extends LitElement {
       }
       propNames.push(name);
     });
+    // Apply the layout state updates after the properties, which may still
+    // contain the full state the updates are based on
+    (this._layoutStateUpdates || []).forEach(({ name, value, patch }) => {
+      if ('rowH' == name) {
+        patch ? this.api.patchRowH(...patch) : this.api.setRowH(value);
+      } else if ('colW' == name) {
+        patch ? this.api.patchColW(...patch) : this.api.setColW(value);
+      } else if ('cellStyleToCSSStyle' == name) {
+        patch ? this.api.patchCellStyleToCSSStyle(...patch) : this.api.setCellStyleToCSSStyle(value);
+      } else if ('hiddenColumnIndexes' == name) {
+        patch ? this.api.patchHiddenColumnIndexes(...patch) : this.api.setHiddenColumnIndexes(value);
+      } else if ('hiddenRowIndexes' == name) {
+        patch ? this.api.patchHiddenRowIndexes(...patch) : this.api.setHiddenRowIndexes(value);
+      }
+      if (!propNames.includes(name)) {
+        propNames.push(name);
+      }
+    });
+    this._layoutStateUpdates = [];
     this.api.notifyStateChanges(propNames, initial);
     if (initial) {
       this.api.relayout();
@@ -316,6 +335,20 @@ export class VaadinSpreadsheet extends LitElement {
   }
 
   /* CLIENT SIDE RPC METHODS */
+  setLayoutState(name, value) {
+    this._queueLayoutStateUpdate({ name, value });
+  }
+
+  patchLayoutState(name, ...patch) {
+    this._queueLayoutStateUpdate({ name, patch });
+  }
+
+  _queueLayoutStateUpdate(update) {
+    this._layoutStateUpdates = this._layoutStateUpdates || [];
+    this._layoutStateUpdates.push(update);
+    this.requestUpdate();
+  }
+
   updateBottomRightCellValues(cellData) {
     this.api.updateBottomRightCellValues(cellData);
   }
@@ -0,0 +1,80 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CellKeySetTest {
+
+    @Test
+    void toKey_coordinatesRoundTrip() {
+        long key = CellKeySet.toKey(16384, 1048576);
+        Assertions.assertEquals(16384, CellKeySet.getColumn(key));
+        Assertions.assertEquals(1048576, CellKeySet.getRow(key));
+    }
+
+    @Test
+    void addContainsRemove() {
+        CellKeySet set = new CellKeySet();
+        long key = CellKeySet.toKey(3, 7);
+
+        Assertions.assertTrue(set.add(key));
+        Assertions.assertFalse(set.add(key));
+        Assertions.assertTrue(set.contains(key));
+        Assertions.assertFalse(set.contains(CellKeySet.toKey(7, 3)));
+        Assertions.assertEquals(1, set.size());
+
+        Assertions.assertTrue(set.remove(key));
+        Assertions.assertFalse(set.remove(key));
+        Assertions.assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void randomOperations_matchHashSet() {
+        CellKeySet set = new CellKeySet();
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long key = CellKeySet.toKey(random.nextInt(50) + 1,
+                    random.nextInt(2000) + 1);
+            if (random.nextInt(3) == 0) {
+                Assertions.assertEquals(expected.remove(key), set.remove(key));
+            } else {
+                Assertions.assertEquals(expected.add(key), set.add(key));
+            }
+        }
+        Assertions.assertEquals(expected.size(), set.size());
+        for (long key : expected) {
+            Assertions.assertTrue(set.contains(key));
+        }
+    }
+
+    @Test
+    void removeIf_removesMatchingKeys() {
+        CellKeySet set = new CellKeySet();
+        for (int row = 1; row <= 100; row++) {
+            for (int col = 1; col <= 10; col++) {
+                set.add(CellKeySet.toKey(col, row));
+            }
+        }
+        Set<Long> removed = new HashSet<>();
+
+        set.removeIf(key -> CellKeySet.getRow(key) <= 50, removed::add);
+
+        Assertions.assertEquals(500, removed.size());
+        Assertions.assertEquals(500, set.size());
+        Assertions.assertFalse(set.contains(CellKeySet.toKey(1, 50)));
+        Assertions.assertTrue(set.contains(CellKeySet.toKey(1, 51)));
+    }
+}
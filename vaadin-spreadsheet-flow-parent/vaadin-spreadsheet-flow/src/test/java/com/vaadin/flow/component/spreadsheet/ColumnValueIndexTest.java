@@ -0,0 +1,64 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ColumnValueIndexTest {
+
+    // Rows 2-7 contain: a, b, a, c, b, a
+    private final ColumnValueIndex index = new ColumnValueIndex(2, 7,
+            row -> List.of("a", "b", "a", "c", "b", "a").get(row - 2));
+
+    @Test
+    void getValues_uniqueValues() {
+        Assertions.assertEquals(Set.of("a", "b", "c"), index.getValues());
+    }
+
+    @Test
+    void getRowsWithoutValues_rowsOfOtherValues() {
+        Assertions.assertEquals(bitSet(3, 5, 6),
+                index.getRowsWithoutValues(List.of("a")));
+        Assertions.assertEquals(new BitSet(),
+                index.getRowsWithoutValues(Set.of("a", "b", "c")));
+    }
+
+    @Test
+    void getValuesInRows_valuesOfGivenRows() {
+        Assertions.assertEquals(Set.of("a", "c"),
+                index.getValuesInRows(bitSet(4, 5)));
+        Assertions.assertEquals(Set.of(), index.getValuesInRows(bitSet(0)));
+    }
+
+    @Test
+    void largeColumn_filteredRowsMatch() {
+        ColumnValueIndex largeIndex = new ColumnValueIndex(0, 199_999,
+                row -> String.valueOf(row % 100));
+
+        BitSet rows = largeIndex
+                .getRowsWithoutValues(Set.of(String.valueOf(0)));
+
+        Assertions.assertEquals(198_000, rows.cardinality());
+        Assertions.assertFalse(rows.get(100));
+        Assertions.assertTrue(rows.get(101));
+    }
+
+    private static BitSet bitSet(int... rows) {
+        BitSet bitSet = new BitSet();
+        for (int row : rows) {
+            bitSet.set(row);
+        }
+        return bitSet;
+    }
+}
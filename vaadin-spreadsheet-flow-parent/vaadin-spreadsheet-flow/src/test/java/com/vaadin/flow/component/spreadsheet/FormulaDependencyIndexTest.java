@@ -0,0 +1,104 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFEvaluationWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FormulaDependencyIndexTest {
+
+    private Sheet sheet;
+    private FormulaDependencyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        XSSFWorkbook workbook = new XSSFWorkbook();
+        sheet = workbook.createSheet();
+        workbook.createSheet("Other");
+        index = new FormulaDependencyIndex(
+                XSSFEvaluationWorkbook.create(workbook), 0);
+    }
+
+    @Test
+    void collectDependents_directAndTransitiveReferences() {
+        // B1 = A1 * 2, C1 = B1 + 1, D1 = A2
+        formula(1, 0, "A1*2");
+        formula(2, 0, "B1+1");
+        formula(3, 0, "A2");
+
+        CellKeySet dependents = index.collectDependents(changed(0, 0));
+
+        Assertions.assertTrue(dependents.contains(key(1, 0)));
+        Assertions.assertTrue(dependents.contains(key(2, 0)));
+        Assertions.assertFalse(dependents.contains(key(3, 0)));
+    }
+
+    @Test
+    void collectDependents_areaReferences() {
+        formula(1, 0, "SUM(A1:A100)");
+        formula(2, 0, "SUM(A1:Z1)+SUM(A200:ZZ300)");
+
+        CellKeySet dependents = index.collectDependents(changed(0, 49));
+        Assertions.assertTrue(dependents.contains(key(1, 0)));
+        Assertions.assertFalse(dependents.contains(key(2, 0)));
+
+        dependents = index.collectDependents(changed(500, 250));
+        Assertions.assertFalse(dependents.contains(key(1, 0)));
+        Assertions.assertTrue(dependents.contains(key(2, 0)));
+    }
+
+    @Test
+    void collectDependents_volatileAndOtherSheetFormulas_alwaysIncluded() {
+        formula(1, 0, "NOW()");
+        formula(2, 0, "Other!A1");
+
+        CellKeySet dependents = index.collectDependents(changed(9, 9));
+
+        Assertions.assertTrue(dependents.contains(key(1, 0)));
+        Assertions.assertTrue(dependents.contains(key(2, 0)));
+    }
+
+    @Test
+    void update_formulaReplacedWithValue_dependencyRemoved() {
+        Cell cell = formula(1, 0, "A1*2");
+        cell.removeFormula();
+        cell.setCellValue(5);
+        index.update(cell);
+
+        Assertions.assertFalse(
+                index.collectDependents(changed(0, 0)).contains(key(1, 0)));
+    }
+
+    private Cell formula(int col, int row, String formula) {
+        Row r = sheet.getRow(row);
+        if (r == null) {
+            r = sheet.createRow(row);
+        }
+        Cell cell = r.createCell(col);
+        cell.setCellFormula(formula);
+        index.update(cell);
+        return cell;
+    }
+
+    private static CellKeySet changed(int col, int row) {
+        CellKeySet changed = new CellKeySet();
+        changed.add(key(col, row));
+        return changed;
+    }
+
+    private static long key(int col, int row) {
+        return CellKeySet.toKey(col + 1, row + 1);
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LayoutStatePatchTest {
+
+    @Test
+    void rangePatch_changedValuesGroupedToRanges() {
+        float[] previous = new float[10];
+        float[] current = previous.clone();
+        current[2] = 20;
+        current[3] = 20;
+        current[4] = 20;
+        current[7] = 30;
+
+        Assertions.assertArrayEquals(
+                new float[] { 10, 2, 4, 20, 7, 7, 30 },
+                LayoutStatePatch.rangePatch(previous, current));
+    }
+
+    @Test
+    void rangePatch_lengthChanged_newValuesIncluded() {
+        int[] previous = { 1, 2, 3, 4, 5, 6, 7, 8 };
+
+        Assertions.assertArrayEquals(new int[] { 10, 8, 9, 0 },
+                LayoutStatePatch.rangePatch(previous,
+                        new int[] { 1, 2, 3, 4, 5, 6, 7, 8, 0, 0 }));
+        Assertions.assertArrayEquals(new int[] { 3 },
+                LayoutStatePatch.rangePatch(previous, new int[] { 1, 2, 3 }));
+    }
+
+    @Test
+    void rangePatch_allValuesChanged_null() {
+        Assertions.assertNull(LayoutStatePatch.rangePatch(
+                new int[] { 1, 2, 3, 4 }, new int[] { 4, 3, 2, 1 }));
+    }
+
+    @Test
+    void difference_valuesNotInOther() {
+        Assertions.assertEquals(List.of(1, 5),
+                LayoutStatePatch.difference(List.of(1, 3, 5), List.of(3, 7)));
+    }
+
+    @Test
+    void changedEntries_addedAndChangedEntries() {
+        Assertions.assertEquals(Map.of(2, "c", 3, "d"),
+                LayoutStatePatch.changedEntries(Map.of(1, "a", 2, "b"),
+                        Map.of(1, "a", 2, "c", 3, "d")));
+    }
+}
@@ -0,0 +1,281 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.vaadin.flow.component.spreadsheet.tests.TestHelper;
+import com.vaadin.tests.MockUIExtension;
+
+class StreamingWorkbookReaderTest {
+
+    @RegisterExtension
+    MockUIExtension ui = new MockUIExtension();
+
+    private byte[] xlsx;
+    private StreamingWorkbookReader.Result result;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        try (XSSFWorkbook source = new XSSFWorkbook()) {
+            CellStyle style = source.createCellStyle();
+            style.setFillForegroundColor((short) 10);
+            style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+            style.setDataFormat(
+                    source.createDataFormat().getFormat("0.00%"));
+
+            Sheet sheet = source.createSheet("Data");
+            Row first = sheet.createRow(0);
+            first.createCell(0).setCellValue("Name");
+            first.createCell(1).setCellValue(0.5);
+            first.getCell(1).setCellStyle(style);
+            Row hidden = sheet.createRow(5);
+            hidden.setZeroHeight(true);
+            hidden.createCell(2).setCellValue(true);
+            Row last = sheet.createRow(1000);
+            last.setHeightInPoints(30);
+            last.createCell(3).setCellFormula("B1*2");
+            sheet.addMergedRegion(CellRangeAddress.valueOf("A2:B3"));
+            sheet.setColumnWidth(1, 20 * 256);
+            sheet.createFreezePane(0, 1);
+            source.createSheet("Empty");
+            source.getCreationHelper().createFormulaEvaluator().evaluateAll();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            source.write(out);
+            xlsx = out.toByteArray();
+        }
+        result = StreamingWorkbookReader
+                .read(new ByteArrayInputStream(xlsx));
+    }
+
+    @Test
+    void read_sheetLayoutCopied_rowsNotMaterialized() {
+        XSSFWorkbook workbook = result.workbook();
+        Assertions.assertEquals(2, workbook.getNumberOfSheets());
+        Assertions.assertEquals("Empty", workbook.getSheetName(1));
+
+        Sheet sheet = workbook.getSheetAt(0);
+        Assertions.assertNull(sheet.getRow(0));
+        Assertions.assertEquals(1, sheet.getNumMergedRegions());
+        Assertions.assertEquals(20 * 256, sheet.getColumnWidth(1));
+        Assertions.assertEquals(1, sheet.getPaneInformation()
+                .getHorizontalSplitPosition());
+
+        SheetCellStore cellStore = result.cellStores().get(0);
+        Assertions.assertEquals(4, cellStore.getCellCount());
+        Assertions.assertEquals(1000, cellStore.getLastRowNum());
+        Assertions.assertEquals(3, cellStore.getLastColumnNum());
+        Assertions.assertEquals(-1,
+                result.cellStores().get(1).getLastRowNum());
+    }
+
+    @Test
+    void materializeRows_onlyRequestedRowsCreated() {
+        Sheet sheet = result.workbook().getSheetAt(0);
+        SheetCellStore cellStore = result.cellStores().get(0);
+
+        cellStore.materializeRows(sheet, 0, 10);
+
+        Assertions.assertEquals("Name",
+                sheet.getRow(0).getCell(0).getStringCellValue());
+        Cell percentage = sheet.getRow(0).getCell(1);
+        Assertions.assertEquals(0.5, percentage.getNumericCellValue());
+        Assertions.assertEquals("0.00%",
+                percentage.getCellStyle().getDataFormatString());
+        Assertions.assertTrue(sheet.getRow(5).getZeroHeight());
+        Assertions
+                .assertTrue(sheet.getRow(5).getCell(2).getBooleanCellValue());
+        Assertions.assertNull(sheet.getRow(1000));
+
+        cellStore.materializeAllRows(sheet);
+
+        Cell formula = sheet.getRow(1000).getCell(3);
+        Assertions.assertEquals(CellType.NUMERIC, formula.getCellType());
+        Assertions.assertEquals(1.0, formula.getNumericCellValue());
+        Assertions.assertEquals(30, sheet.getRow(1000).getHeightInPoints());
+    }
+
+    @Test
+    void fillRowHeights_hiddenAndCustomHeightRows() {
+        float[] heights = new float[1001];
+        List<Integer> hidden = new ArrayList<>();
+
+        result.cellStores().get(0).fillRowHeights(heights, hidden);
+
+        Assertions.assertEquals(List.of(6), hidden);
+        Assertions.assertEquals(30, heights[1000]);
+        Assertions.assertEquals(0, heights[5]);
+    }
+
+    @Test
+    void parseColumn() {
+        Assertions.assertEquals(0, StreamingWorkbookReader.parseColumn("A1"));
+        Assertions.assertEquals(27,
+                StreamingWorkbookReader.parseColumn("AB12"));
+        Assertions.assertEquals(16383,
+                StreamingWorkbookReader.parseColumn("XFD1048576"));
+    }
+
+    @Test
+    void sharedWorkbook_sessionCopiesAreIndependent() throws IOException {
+        SharedWorkbook sharedWorkbook = SharedWorkbook
+                .read(new ByteArrayInputStream(xlsx));
+        StreamingWorkbookReader.Result first = sharedWorkbook
+                .createSessionCopy();
+        StreamingWorkbookReader.Result second = sharedWorkbook
+                .createSessionCopy();
+        Sheet firstSheet = first.workbook().getSheetAt(0);
+        Sheet secondSheet = second.workbook().getSheetAt(0);
+
+        first.cellStores().get(0).materializeRows(firstSheet, 0, 0);
+        firstSheet.getRow(0).getCell(0).setCellValue("Edited");
+        second.cellStores().get(0).materializeRows(secondSheet, 0, 0);
+
+        Assertions.assertEquals("Name",
+                secondSheet.getRow(0).getCell(0).getStringCellValue());
+        Assertions.assertEquals(1, secondSheet.getNumMergedRegions());
+        Assertions.assertEquals("0.00%", secondSheet.getRow(0).getCell(1)
+                .getCellStyle().getDataFormatString());
+        Assertions.assertNull(secondSheet.getRow(5));
+    }
+
+    @Test
+    void malformedAttributes_defaultsUsed() throws IOException {
+        byte[] malformed = replaceInSheet(xlsx, " ht=\"[^\"]*\"",
+                " ht=\"tall\"", "t=\"s\"><v>0</v>",
+                "t=\"s\"><v>first</v>");
+
+        StreamingWorkbookReader.Result malformedResult = StreamingWorkbookReader
+                .read(new ByteArrayInputStream(malformed));
+
+        Sheet sheet = malformedResult.workbook().getSheetAt(0);
+        malformedResult.cellStores().get(0).materializeAllRows(sheet);
+        Assertions.assertEquals("first",
+                sheet.getRow(0).getCell(0).getStringCellValue());
+        Assertions.assertEquals(sheet.getDefaultRowHeightInPoints(),
+                sheet.getRow(1000).getHeightInPoints());
+    }
+
+    @Test
+    void readStreaming_shiftRowsBeforeDisplayed_rowsShifted()
+            throws IOException {
+        Spreadsheet spreadsheet = createStreamingSpreadsheet();
+
+        spreadsheet.shiftRows(5, 1000, 1);
+
+        Assertions.assertNull(spreadsheet.getCell(5, 2));
+        Assertions.assertTrue(spreadsheet.getCell(6, 2).getBooleanCellValue());
+        Assertions.assertNull(spreadsheet.getCell(1000, 3));
+        Assertions.assertEquals(1.0,
+                spreadsheet.getCell(1001, 3).getNumericCellValue());
+    }
+
+    @Test
+    void readStreaming_deleteRowsBeforeDisplayed_rowsNotRestored()
+            throws IOException {
+        Spreadsheet spreadsheet = createStreamingSpreadsheet();
+
+        spreadsheet.deleteRows(1000, 1000);
+
+        Assertions.assertNull(spreadsheet.getCell(1000, 3));
+    }
+
+    @Test
+    void readStreaming_createFormulaCell_allRowsMaterialized()
+            throws IOException {
+        Spreadsheet spreadsheet = createStreamingSpreadsheet();
+
+        spreadsheet.createFormulaCell(1, 0, "D1001+1");
+
+        Assertions.assertNotNull(spreadsheet.getActiveSheet().getRow(1000));
+        Assertions.assertNull(
+                spreadsheet.getCellStore(spreadsheet.getActiveSheet()));
+    }
+
+    @Test
+    void sharedWorkbook_shiftRowsBeforeDisplayed_otherSessionUnaffected()
+            throws IOException {
+        SharedWorkbook sharedWorkbook = SharedWorkbook
+                .read(new ByteArrayInputStream(xlsx));
+        Spreadsheet first = new Spreadsheet(sharedWorkbook);
+        Spreadsheet second = new Spreadsheet(sharedWorkbook);
+
+        first.shiftRows(5, 1000, 1);
+
+        Assertions.assertNull(first.getCell(5, 2));
+        Assertions.assertTrue(first.getCell(6, 2).getBooleanCellValue());
+        Assertions.assertNull(first.getCell(1000, 3));
+        Assertions.assertEquals(1.0,
+                first.getCell(1001, 3).getNumericCellValue());
+
+        Assertions.assertTrue(second.getCell(5, 2).getBooleanCellValue());
+        Assertions.assertNull(second.getCell(6, 2));
+        Assertions.assertEquals(1.0,
+                second.getCell(1000, 3).getNumericCellValue());
+    }
+
+    private Spreadsheet createStreamingSpreadsheet() throws IOException {
+        Spreadsheet spreadsheet = new Spreadsheet();
+        spreadsheet.readStreaming(new ByteArrayInputStream(xlsx));
+        TestHelper.fireClientEvent(spreadsheet, "onSheetScroll",
+                "[1, 1, 1, 1]");
+        return spreadsheet;
+    }
+
+    /**
+     * Replaces text in the XML of the first sheet of the given file, with
+     * pairs of regular expressions and replacements.
+     */
+    private static byte[] replaceInSheet(byte[] file, String... replacements)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipInputStream zipIn = new ZipInputStream(
+                new ByteArrayInputStream(file));
+                ZipOutputStream zipOut = new ZipOutputStream(out)) {
+            ZipEntry entry;
+            while ((entry = zipIn.getNextEntry()) != null) {
+                byte[] content = zipIn.readAllBytes();
+                if (entry.getName().equals("xl/worksheets/sheet1.xml")) {
+                    String xml = new String(content, StandardCharsets.UTF_8);
+                    for (int i = 0; i < replacements.length; i += 2) {
+                        xml = xml.replaceAll(replacements[i],
+                                replacements[i + 1]);
+                    }
+                    content = xml.getBytes(StandardCharsets.UTF_8);
+                }
+                zipOut.putNextEntry(new ZipEntry(entry.getName()));
+                zipOut.write(content);
+                zipOut.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}